@@ -88,13 +88,59 @@ class BaseConfig<T extends BaseConfig<T>> {
     /**
      * Subscriptions per Redis connection limit
      */
-    private int subscriptionsPerConnection = 5;
+    private int subscriptionsPerConnection = 50;
 
     /**
      * Name of client connection
      */
     private String clientName;
 
+    /**
+     * Amount of minimum idle connections established in parallel for <b>each</b> Redis node.
+     * If more than <code>0</code> node becomes available right after first connection
+     * has been established and the rest are established in background.
+     */
+    private int connectionWarmUpConcurrency = 0;
+
+    /**
+     * Size connection pool of each Redis node by connections demand
+     * in range between minimum idle size and maximum pool size.
+     */
+    private boolean adaptivePoolSizing = false;
+
+    /**
+     * Amount of pipelined connections per Redis node
+     * shared between all non-blocking commands.
+     */
+    private int multiplexedConnections = 0;
+
+    /**
+     * Sliding window length in milliseconds used
+     * to collect response statistics of slave node.
+     */
+    private int circuitBreakerWindow = 0;
+
+    /**
+     * Percent of failed commands which opens circuit breaker.
+     */
+    private int circuitBreakerErrorRate = 50;
+
+    /**
+     * Response latency in milliseconds considered as slow.
+     */
+    private int circuitBreakerLatencyThreshold = 0;
+
+    /**
+     * Response latency percentile compared with latency threshold.
+     */
+    private int circuitBreakerLatencyPercentile = 90;
+
+    /**
+     * Maximum amount of connections reconnecting
+     * to the same Redis node simultaneously.
+     */
+    private int reconnectionConcurrency = 0;
+
     BaseConfig() {
     }
 
@@ -112,11 +158,23 @@ class BaseConfig<T extends BaseConfig<T>> {
         setIdleConnectionTimeout(config.getIdleConnectionTimeout());
         setFailedAttempts(config.getFailedAttempts());
         setReconnectionTimeout(config.getReconnectionTimeout());
+        setConnectionWarmUpConcurrency(config.getConnectionWarmUpConcurrency());
+        setAdaptivePoolSizing(config.isAdaptivePoolSizing());
+        setMultiplexedConnections(config.getMultiplexedConnections());
+        setCircuitBreakerWindow(config.getCircuitBreakerWindow());
+        setCircuitBreakerErrorRate(config.getCircuitBreakerErrorRate());
+        setCircuitBreakerLatencyThreshold(config.getCircuitBreakerLatencyThreshold());
+        setCircuitBreakerLatencyPercentile(config.getCircuitBreakerLatencyPercentile());
+        setReconnectionConcurrency(config.getReconnectionConcurrency());
     }
 
     /**
      * Subscriptions per Redis connection limit
-     * Default is 5
+     * Default is 50
+     * <p>
+     * Limit is exceeded on the least loaded connection then subscription
+     * connection pool is exhausted. Channels above the limit are moved
+     * to connections with free subscription slots on reconnection.
      *
      * @param subscriptionsPerConnection
      */
@@ -312,4 +370,157 @@ class BaseConfig<T extends BaseConfig<T>> {
         return failedAttempts;
     }
 
+    /**
+     * Amount of minimum idle connections established in parallel for <b>each</b> Redis node.
+     *
+     * If more than <code>0</code> Redis node becomes available right after
+     * its first connection has been established. The rest of minimum idle connections
+     * are established in background but not more than <code>connectionWarmUpConcurrency</code> at once.
+     * Use <code>RedissonClient.getWarmUpFuture</code> to wait for all of them.
+     *
+     * Default is 0 - all minimum idle connections are established at once
+     * and Redis node becomes available only after all of them are done.
+     *
+     * @param connectionWarmUpConcurrency
+     * @return
+     */
+    public T setConnectionWarmUpConcurrency(int connectionWarmUpConcurrency) {
+        this.connectionWarmUpConcurrency = connectionWarmUpConcurrency;
+        return (T) this;
+    }
+    public int getConnectionWarmUpConcurrency() {
+        return connectionWarmUpConcurrency;
+    }
+
+    /**
+     * Size connection pool of each Redis node by connections demand.
+     *
+     * Demand is a moving average of concurrently borrowed connections amount.
+     * Idle connections are closed only if pool size exceeds demand with some margin,
+     * and new connections are established in background then demand grows.
+     * Pool size is always kept between minimum idle size and maximum pool size.
+     *
+     * Default is <code>false</code> - idle connections are closed after
+     * <code>idleConnectionTimeout</code> regardless of demand.
+     *
+     * @param adaptivePoolSizing
+     * @return
+     */
+    public T setAdaptivePoolSizing(boolean adaptivePoolSizing) {
+        this.adaptivePoolSizing = adaptivePoolSizing;
+        return (T) this;
+    }
+    public boolean isAdaptivePoolSizing() {
+        return adaptivePoolSizing;
+    }
+
+    /**
+     * Amount of pipelined connections per Redis node shared between all non-blocking commands.
+     * Commands are sent through them in round-robin manner without waiting for
+     * response of previous command.
+     *
+     * Blocking commands (BLPOP, BRPOPLPUSH), pub/sub, batches and
+     * MULTI/EXEC transactions still use dedicated connections from connection pool.
+     *
+     * Default is 0 - every command uses dedicated connection from connection pool.
+     *
+     * @param multiplexedConnections
+     * @return
+     */
+    public T setMultiplexedConnections(int multiplexedConnections) {
+        this.multiplexedConnections = multiplexedConnections;
+        return (T) this;
+    }
+    public int getMultiplexedConnections() {
+        return multiplexedConnections;
+    }
+
+    /**
+     * Sliding window length in milliseconds of per-node circuit breaker.
+     * Circuit breaker collects responses statistics of each slave node over this window
+     * and freezes slave node then error rate or response latency exceeds thresholds.
+     * Frozen node is probed by <code>PING</code> command each <code>reconnectionTimeout</code>
+     * and unfrozen after successful probe.
+     *
+     * Default is 0 - circuit breaker is disabled.
+     *
+     * @param circuitBreakerWindow
+     * @return
+     */
+    public T setCircuitBreakerWindow(int circuitBreakerWindow) {
+        this.circuitBreakerWindow = circuitBreakerWindow;
+        return (T) this;
+    }
+    public int getCircuitBreakerWindow() {
+        return circuitBreakerWindow;
+    }
+
+    /**
+     * Percent of commands failed due to timeout or connection error
+     * within <code>circuitBreakerWindow</code> which opens circuit breaker.
+     *
+     * Default is 50
+     *
+     * @param circuitBreakerErrorRate
+     * @return
+     */
+    public T setCircuitBreakerErrorRate(int circuitBreakerErrorRate) {
+        this.circuitBreakerErrorRate = circuitBreakerErrorRate;
+        return (T) this;
+    }
+    public int getCircuitBreakerErrorRate() {
+        return circuitBreakerErrorRate;
+    }
+
+    /**
+     * Response latency in milliseconds. Circuit breaker is opened then
+     * <code>circuitBreakerLatencyPercentile</code> of response latency
+     * within <code>circuitBreakerWindow</code> exceeds this value.
+     *
+     * Default is 0 - response latency is not checked.
+     *
+     * @param circuitBreakerLatencyThreshold
+     * @return
+     */
+    public T setCircuitBreakerLatencyThreshold(int circuitBreakerLatencyThreshold) {
+        this.circuitBreakerLatencyThreshold = circuitBreakerLatencyThreshold;
+        return (T) this;
+    }
+    public int getCircuitBreakerLatencyThreshold() {
+        return circuitBreakerLatencyThreshold;
+    }
+
+    /**
+     * Response latency percentile compared with <code>circuitBreakerLatencyThreshold</code>.
+     *
+     * Default is 90
+     *
+     * @param circuitBreakerLatencyPercentile
+     * @return
+     */
+    public T setCircuitBreakerLatencyPercentile(int circuitBreakerLatencyPercentile) {
+        this.circuitBreakerLatencyPercentile = circuitBreakerLatencyPercentile;
+        return (T) this;
+    }
+    public int getCircuitBreakerLatencyPercentile() {
+        return circuitBreakerLatencyPercentile;
+    }
+
+    /**
+     * Maximum amount of connections reconnecting to the same Redis node simultaneously.
+     * Other disconnected connections wait for their turn using randomized exponential backoff.
+     *
+     * Default is 0 - unlimited
+     *
+     * @param reconnectionConcurrency
+     * @return
+     */
+    public T setReconnectionConcurrency(int reconnectionConcurrency) {
+        this.reconnectionConcurrency = reconnectionConcurrency;
+        return (T) this;
+    }
+    public int getReconnectionConcurrency() {
+        return reconnectionConcurrency;
+    }
+
 }
@@ -206,7 +206,9 @@ public class CommandBatchExecutorService extends CommandExecutorService {
         }
 
         if (!connectionManager.getShutdownLatch().acquire()) {
-            mainPromise.setFailure(new IllegalStateException("Redisson is shutdown"));
+            IllegalStateException cause = new IllegalStateException("Redisson is shutdown");
+            failCommands(entry, cause);
+            mainPromise.tryFailure(cause);
             return;
         }
 
@@ -226,7 +228,9 @@ public class CommandBatchExecutorService extends CommandExecutorService {
         final TimerTask retryTimerTask = new TimerTask() {
             @Override
             public void run(Timeout timeout) throws Exception {
-                if (attemptPromise.isDone() || mainPromise.isDone()) {
+                // commands are retried even if batch already failed
+                // on another node, so each of them gets own result
+                if (attemptPromise.isDone() || mainPromise.isCancelled()) {
                     return;
                 }
 
@@ -235,8 +239,16 @@ public class CommandBatchExecutorService extends CommandExecutorService {
                 } else {
                     if (connectionFuture.isSuccess()) {
                         ChannelFuture writeFuture = writeFutureRef.get();
-                        if (writeFuture != null && !writeFuture.cancel(false) && writeFuture.isSuccess()) {
-                            return;
+                        if (writeFuture != null && !writeFuture.cancel(false)) {
+                            if (writeFuture.isSuccess()) {
+                                return;
+                            }
+                            // write to shared connection is already in progress
+                            if (!writeFuture.isDone()) {
+                                Timeout retryTimeout = connectionManager.newTimeout(this, connectionManager.getConfig().getRetryInterval(), TimeUnit.MILLISECONDS);
+                                timeoutRef.set(retryTimeout);
+                                return;
+                            }
                         }
                     }
                 }
@@ -291,8 +303,8 @@ public class CommandBatchExecutorService extends CommandExecutorService {
                     FutureListener<Object> listener = new FutureListener<Object>() {
                         @Override
                         public void operationComplete(Future<Object> future) throws Exception {
-                            if (!future.isSuccess() && !mainPromise.isDone()) {
-                                mainPromise.setFailure(future.cause());
+                            if (!future.isSuccess()) {
+                                mainPromise.tryFailure(future.cause());
                             }
                         }
                     };
@@ -341,7 +353,7 @@ public class CommandBatchExecutorService extends CommandExecutorService {
             @Override
             public void operationComplete(Future<Void> future) throws Exception {
                 timeoutRef.get().cancel();
-                if (future.isCancelled() || mainPromise.isDone()) {
+                if (future.isCancelled()) {
                     return;
                 }
 
@@ -360,17 +372,35 @@ public class CommandBatchExecutorService extends CommandExecutorService {
                     return;
                 }
 
+                if (mainPromise.isDone()) {
+                    if (!future.isSuccess()) {
+                        failCommands(entry, future.cause());
+                    }
+                    return;
+                }
+
                 if (future.isSuccess()) {
                     if (slots.decrementAndGet() == 0) {
                         mainPromise.setSuccess(future.getNow());
                     }
                 } else {
-                    mainPromise.setFailure(future.cause());
+                    failCommands(entry, future.cause());
+                    mainPromise.tryFailure(future.cause());
                 }
             }
         });
     }
 
+    /**
+     * Completes commands without reply, so result of each command is known
+     * even if batch execution has failed.
+     */
+    private void failCommands(Entry entry, Throwable cause) {
+        for (CommandEntry c : entry.getCommands()) {
+            c.getCommand().getPromise().tryFailure(cause);
+        }
+    }
+
     @Override
     public <T, R> R evalRead(String key, RedisCommand<T> evalCommandType, String script, List<Object> keys,
             Object... params) {
@@ -37,6 +37,8 @@ public interface CommandExecutor {
 
     <T, R> R read(InetSocketAddress client, String key, RedisCommand<T> command, Object ... params);
 
+    <T, R> Future<R> readAsync(InetSocketAddress client, String key, Codec codec, RedisCommand<T> command, Object ... params);
+
     <T, R> Future<R> evalWriteAllAsync(RedisCommand<T> command, SlotCallback<T, R> callback, String script, List<Object> keys, Object ... params);
 
     <R, T> Future<R> writeAllAsync(RedisCommand<T> command, SlotCallback<T, R> callback, Object ... params);
@@ -90,4 +92,8 @@ public interface CommandExecutor {
 
     <T, R> R write(Integer slot, Codec codec, RedisCommand<T> command, Object ... params);
 
+    <T, R> Future<R> writeAsync(Integer slot, Codec codec, RedisCommand<T> command, Object ... params);
+
+    <T, R> Future<R> readAsync(Integer slot, Codec codec, RedisCommand<T> command, Object ... params);
+
 }
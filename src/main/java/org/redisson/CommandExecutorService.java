@@ -243,6 +243,12 @@ public class CommandExecutorService implements CommandExecutor {
         return mainPromise;
     }
 
+    public <T, R> Future<R> readAsync(Integer slot, Codec codec, RedisCommand<T> command, Object ... params) {
+        Promise<R> mainPromise = connectionManager.newPromise();
+        async(true, new NodeSource(slot), null, codec, command, params, mainPromise, 0);
+        return mainPromise;
+    }
+
     public <T, R> Future<R> readAsync(String key, RedisCommand<T> command, Object ... params) {
         return readAsync(key, connectionManager.getCodec(), command, params);
     }
@@ -449,8 +455,16 @@ public class CommandExecutorService implements CommandExecutor {
                 } else {
                     if (connectionFuture.isSuccess()) {
                         ChannelFuture writeFuture = writeFutureRef.get();
-                        if (writeFuture != null && !writeFuture.cancel(false) && writeFuture.isSuccess()) {
-                            return;
+                        if (writeFuture != null && !writeFuture.cancel(false)) {
+                            if (writeFuture.isSuccess()) {
+                                return;
+                            }
+                            // write to shared connection is already in progress
+                            if (!writeFuture.isDone()) {
+                                Timeout timeout = connectionManager.newTimeout(this, connectionManager.getConfig().getRetryInterval(), TimeUnit.MILLISECONDS);
+                                timeoutRef.set(timeout);
+                                return;
+                            }
                         }
                     }
                 }
@@ -15,6 +15,8 @@
  */
 package org.redisson;
 
+import java.util.concurrent.Executor;
+
 import org.redisson.client.codec.Codec;
 import org.redisson.codec.JsonJacksonCodec;
 
@@ -48,6 +50,21 @@ public class Config {
 
     private boolean useLinuxNativeEpoll;
 
+    /**
+     * Amount of shared channels used for lock and count down latch notifications
+     */
+    private int notificationChannels = 0;
+
+    /**
+     * Threads amount used to execute topic listeners
+     */
+    private int listenerThreads = 0;
+
+    /**
+     * Executor used to execute topic listeners
+     */
+    private Executor listenerExecutor;
+
     public Config() {
     }
 
@@ -61,6 +78,9 @@ public class Config {
 
         setThreads(oldConf.getThreads());
         setCodec(oldConf.getCodec());
+        setNotificationChannels(oldConf.getNotificationChannels());
+        setListenerThreads(oldConf.getListenerThreads());
+        setListenerExecutor(oldConf.getListenerExecutor());
         if (oldConf.getSingleServerConfig() != null) {
             setSingleServerConfig(new SingleServerConfig(oldConf.getSingleServerConfig()));
         }
@@ -246,5 +266,60 @@ public class Config {
         return useLinuxNativeEpoll;
     }
 
+    /**
+     * Amount of shared Redis channels used to deliver unlock and count down notifications
+     * of {@link org.redisson.core.RLock} and {@link org.redisson.core.RCountDownLatch} objects.
+     * Objects are distributed between channels by name, so amount of subscriptions
+     * doesn't depend on amount of objects.
+     *
+     * Should be the same for all Redisson instances working with the same objects.
+     *
+     * Default is 0 - dedicated channel is used per object.
+     *
+     * @param notificationChannels
+     * @return
+     */
+    public Config setNotificationChannels(int notificationChannels) {
+        this.notificationChannels = notificationChannels;
+        return this;
+    }
+    public int getNotificationChannels() {
+        return notificationChannels;
+    }
+
+    /**
+     * Amount of threads used to execute topic listeners.
+     * Messages of the same topic are delivered to its listeners in order,
+     * messages of different topics are handled in parallel.
+     *
+     * Default is 0 - listeners are executed in Redis connection thread.
+     *
+     * @param listenerThreads
+     * @return
+     */
+    public Config setListenerThreads(int listenerThreads) {
+        this.listenerThreads = listenerThreads;
+        return this;
+    }
+    public int getListenerThreads() {
+        return listenerThreads;
+    }
+
+    /**
+     * Executor used to execute topic listeners instead of
+     * pool defined by {@link #setListenerThreads(int)}.
+     * Messages of the same topic are delivered to its listeners in order.
+     * Executor is not shut down by Redisson.
+     *
+     * @param listenerExecutor
+     * @return
+     */
+    public Config setListenerExecutor(Executor listenerExecutor) {
+        this.listenerExecutor = listenerExecutor;
+        return this;
+    }
+    public Executor getListenerExecutor() {
+        return listenerExecutor;
+    }
 
 }
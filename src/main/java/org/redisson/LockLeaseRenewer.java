@@ -0,0 +1,169 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.connection.ConnectionManager;
+
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Renews lease of all locks held by Redisson instance.
+ * Locks are grouped by slot and renewed by single script
+ * call per slot each <code>leaseTime / 3</code>. All scripts of renewal cycle
+ * are sent in one batch, so they are pipelined per Redis node.
+ * Lock is excluded from renewal if it doesn't exist anymore.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class LockLeaseRenewer {
+
+    /**
+     * Maximum amount of locks renewed by single script call
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    private final ConnectionManager connectionManager;
+    private final long leaseTime;
+    private final Set<String> locks = Collections.newSetFromMap(PlatformDependent.<String, Boolean>newConcurrentHashMap());
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile long renewalLag;
+
+    public LockLeaseRenewer(ConnectionManager connectionManager, long leaseTime) {
+        this.connectionManager = connectionManager;
+        this.leaseTime = leaseTime;
+    }
+
+    public void add(String name) {
+        locks.add(name);
+        schedule();
+    }
+
+    public void remove(String name) {
+        locks.remove(name);
+    }
+
+    /**
+     * Amount of locks which lease is renewed
+     *
+     * @return
+     */
+    public int getLocksAmount() {
+        return locks.size();
+    }
+
+    /**
+     * Delay in milliseconds between planned and actual completion time
+     * of the last renewal cycle
+     *
+     * @return
+     */
+    public long getRenewalLag() {
+        return renewalLag;
+    }
+
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        long interval = leaseTime / 3;
+        final long plannedTime = System.currentTimeMillis() + interval;
+        connectionManager.newTimeout(new TimerTask() {
+            @Override
+            public void run(Timeout timeout) throws Exception {
+                renew(plannedTime);
+            }
+        }, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew(final long plannedTime) {
+        Map<Integer, List<Object>> slot2Locks = new HashMap<Integer, List<Object>>();
+        for (String name : locks) {
+            int slot = connectionManager.calcSlot(name);
+            List<Object> names = slot2Locks.get(slot);
+            if (names == null) {
+                names = new ArrayList<Object>();
+                slot2Locks.put(slot, names);
+            }
+            names.add(name);
+        }
+
+        if (slot2Locks.isEmpty()) {
+            scheduled.set(false);
+            // lock could be added concurrently
+            if (!locks.isEmpty()) {
+                schedule();
+            }
+            return;
+        }
+
+        CommandBatchExecutorService executorService = new CommandBatchExecutorService(connectionManager);
+        for (List<Object> names : slot2Locks.values()) {
+            for (int i = 0; i < names.size(); i += BATCH_SIZE) {
+                List<Object> keys = names.subList(i, Math.min(names.size(), i + BATCH_SIZE));
+                Future<List<Object>> future = executorService.evalWriteAsync((String) keys.get(0), StringCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                        "local expired = {}; " +
+                        "for i, key in ipairs(KEYS) do " +
+                            "if (redis.call('pexpire', key, ARGV[1]) == 0) then " +
+                                "table.insert(expired, key); " +
+                            "end; " +
+                        "end; " +
+                        "return expired;",
+                        new ArrayList<Object>(keys), leaseTime);
+                future.addListener(new FutureListener<List<Object>>() {
+                    @Override
+                    public void operationComplete(Future<List<Object>> future) throws Exception {
+                        if (!future.isSuccess()) {
+                            return;
+                        }
+                        for (Object name : future.getNow()) {
+                            locks.remove(name);
+                        }
+                    }
+                });
+            }
+        }
+
+        executorService.executeAsyncVoid().addListener(new FutureListener<Void>() {
+            @Override
+            public void operationComplete(Future<Void> future) throws Exception {
+                renewalLag = Math.max(0, System.currentTimeMillis() - plannedTime);
+                scheduled.set(false);
+                if (!locks.isEmpty()) {
+                    schedule();
+                }
+            }
+        });
+    }
+
+}
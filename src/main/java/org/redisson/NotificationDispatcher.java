@@ -0,0 +1,227 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.client.BaseRedisPubSubListener;
+import org.redisson.client.RedisPubSubListener;
+import org.redisson.client.protocol.pubsub.PubSubType;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.PubSubConnectionEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Delivers unlock and count down notifications of Redisson objects.
+ * <p>
+ * By default each object uses dedicated Redis channel. If <code>channels</code>
+ * amount is set, all notifications are published to a fixed set of shared
+ * channels. Message carries name of dedicated channel and dispatched
+ * locally to the listener registered for it. So amount of subscriptions
+ * doesn't depend on amount of objects.
+ * <p>
+ * Failed subscription is retried after retry interval
+ * while listener is still registered.
+ *
+ * @see org.redisson.Config#setNotificationChannels(int)
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class NotificationDispatcher {
+
+    private static final String CHANNEL_PREFIX = "redisson__notification__channel__";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ConnectionManager connectionManager;
+    private final int channels;
+
+    private final ConcurrentMap<String, RedisPubSubListener<Integer>> listeners = PlatformDependent.newConcurrentHashMap();
+    private final ConcurrentMap<String, Boolean> subscribedChannels = PlatformDependent.newConcurrentHashMap();
+
+    public NotificationDispatcher(ConnectionManager connectionManager, int channels) {
+        this.connectionManager = connectionManager;
+        this.channels = channels;
+    }
+
+    /**
+     * Returns Redis channel used to publish notifications of <code>channelName</code>
+     *
+     * @param channelName - dedicated channel name
+     * @return
+     */
+    public String getChannel(String channelName) {
+        if (channels == 0) {
+            return channelName;
+        }
+        return CHANNEL_PREFIX + Math.abs(channelName.hashCode() % channels);
+    }
+
+    /**
+     * Returns message published to channel returned by {@link #getChannel(String)}
+     *
+     * @param channelName - dedicated channel name
+     * @param message
+     * @return
+     */
+    public Object getMessage(String channelName, Integer message) {
+        if (channels == 0) {
+            return message;
+        }
+        return channelName + ":" + message;
+    }
+
+    public void subscribe(String channelName, RedisPubSubListener<Integer> listener) {
+        listeners.put(channelName, listener);
+
+        if (channels == 0) {
+            subscribeDedicated(channelName, listener);
+            return;
+        }
+
+        String channel = getChannel(channelName);
+        Boolean subscribed = subscribedChannels.putIfAbsent(channel, Boolean.FALSE);
+        if (subscribed == null) {
+            subscribeShared(channel);
+        } else if (subscribed) {
+            listener.onStatus(PubSubType.SUBSCRIBE, channelName);
+        }
+    }
+
+    private void subscribeDedicated(final String channelName, final RedisPubSubListener<Integer> listener) {
+        Future<PubSubConnectionEntry> future = connectionManager.subscribe(listener, channelName);
+        future.addListener(new FutureListener<PubSubConnectionEntry>() {
+            @Override
+            public void operationComplete(Future<PubSubConnectionEntry> future) throws Exception {
+                if (future.isSuccess()) {
+                    return;
+                }
+
+                log.error("Can't subscribe to channel: " + channelName, future.cause());
+                retry(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (listeners.get(channelName) == listener) {
+                            subscribeDedicated(channelName, listener);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private void subscribeShared(final String channel) {
+        Future<PubSubConnectionEntry> future = connectionManager.subscribe(createListener(channel), channel);
+        future.addListener(new FutureListener<PubSubConnectionEntry>() {
+            @Override
+            public void operationComplete(Future<PubSubConnectionEntry> future) throws Exception {
+                if (future.isSuccess()) {
+                    return;
+                }
+
+                log.error("Can't subscribe to channel: " + channel, future.cause());
+                // next subscriber tries again
+                subscribedChannels.remove(channel, Boolean.FALSE);
+                retry(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (hasListeners(channel)
+                                && subscribedChannels.putIfAbsent(channel, Boolean.FALSE) == null) {
+                            subscribeShared(channel);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private boolean hasListeners(String channel) {
+        for (String channelName : listeners.keySet()) {
+            if (channel.equals(getChannel(channelName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void retry(final Runnable runnable) {
+        connectionManager.newTimeout(new TimerTask() {
+            @Override
+            public void run(Timeout timeout) throws Exception {
+                runnable.run();
+            }
+        }, connectionManager.getConfig().getRetryInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    public void unsubscribe(String channelName, RedisPubSubListener<Integer> listener) {
+        listeners.remove(channelName, listener);
+
+        if (channels == 0) {
+            connectionManager.unsubscribe(channelName);
+        }
+        // shared channel is never unsubscribed
+    }
+
+    private RedisPubSubListener<Object> createListener(final String channel) {
+        return new BaseRedisPubSubListener<Object>() {
+
+            @Override
+            public void onMessage(String msgChannel, Object message) {
+                if (!channel.equals(msgChannel) || !(message instanceof String)) {
+                    return;
+                }
+
+                String value = (String) message;
+                int index = value.lastIndexOf(':');
+                if (index == -1) {
+                    return;
+                }
+                String channelName = value.substring(0, index);
+                RedisPubSubListener<Integer> listener = listeners.get(channelName);
+                if (listener != null) {
+                    listener.onMessage(channelName, Integer.valueOf(value.substring(index + 1)));
+                }
+            }
+
+            @Override
+            public boolean onStatus(PubSubType type, String msgChannel) {
+                if (!channel.equals(msgChannel) || type != PubSubType.SUBSCRIBE) {
+                    return false;
+                }
+
+                subscribedChannels.put(channel, Boolean.TRUE);
+                for (Map.Entry<String, RedisPubSubListener<Integer>> entry : listeners.entrySet()) {
+                    if (channel.equals(getChannel(entry.getKey()))) {
+                        entry.getValue().onStatus(type, entry.getKey());
+                    }
+                }
+                return false;
+            }
+
+        };
+    }
+
+}
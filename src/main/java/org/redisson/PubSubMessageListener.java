@@ -18,6 +18,7 @@ package org.redisson;
 import org.redisson.client.RedisPubSubListener;
 import org.redisson.client.protocol.pubsub.PubSubType;
 import org.redisson.core.MessageListener;
+import org.redisson.misc.OrderedExecutor;
 
 /**
  *
@@ -30,15 +31,35 @@ public class PubSubMessageListener<V> implements RedisPubSubListener<V> {
 
     private final MessageListener<V> listener;
     private final String name;
+    private final OrderedExecutor executor;
 
     public String getName() {
         return name;
     }
 
     public PubSubMessageListener(MessageListener<V> listener, String name) {
+        this(listener, name, null);
+    }
+
+    /**
+     * @param listener
+     * @param name
+     * @param executor - executes listener keeping order per <code>name</code>,
+     *                   if <code>null</code> listener is executed in connection thread
+     */
+    public PubSubMessageListener(MessageListener<V> listener, String name, OrderedExecutor executor) {
         super();
         this.listener = listener;
         this.name = name;
+        this.executor = executor;
+    }
+
+    private void execute(Runnable task) {
+        if (executor == null) {
+            task.run();
+        } else {
+            executor.execute(name, task);
+        }
     }
 
     @Override
@@ -67,18 +88,28 @@ public class PubSubMessageListener<V> implements RedisPubSubListener<V> {
     }
 
     @Override
-    public void onMessage(String channel, V message) {
+    public void onMessage(final String channel, final V message) {
         // could be subscribed to multiple channels
         if (name.equals(channel)) {
-            listener.onMessage(channel, message);
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onMessage(channel, message);
+                }
+            });
         }
     }
 
     @Override
-    public void onPatternMessage(String pattern, String channel, V message) {
+    public void onPatternMessage(String pattern, final String channel, final V message) {
         // could be subscribed to multiple channels
         if (name.equals(pattern)) {
-            listener.onMessage(channel, message);
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onMessage(channel, message);
+                }
+            });
         }
     }
 
@@ -19,6 +19,7 @@ import org.redisson.client.RedisPubSubListener;
 import org.redisson.client.protocol.pubsub.PubSubType;
 import org.redisson.core.MessageListener;
 import org.redisson.core.PatternMessageListener;
+import org.redisson.misc.OrderedExecutor;
 
 /**
  *
@@ -31,15 +32,35 @@ public class PubSubPatternMessageListener<V> implements RedisPubSubListener<V> {
 
     private final PatternMessageListener<V> listener;
     private final String name;
+    private final OrderedExecutor executor;
 
     public String getName() {
         return name;
     }
 
     public PubSubPatternMessageListener(PatternMessageListener<V> listener, String name) {
+        this(listener, name, null);
+    }
+
+    /**
+     * @param listener
+     * @param name
+     * @param executor - executes listener keeping order per <code>name</code>,
+     *                   if <code>null</code> listener is executed in connection thread
+     */
+    public PubSubPatternMessageListener(PatternMessageListener<V> listener, String name, OrderedExecutor executor) {
         super();
         this.listener = listener;
         this.name = name;
+        this.executor = executor;
+    }
+
+    private void execute(Runnable task) {
+        if (executor == null) {
+            task.run();
+        } else {
+            executor.execute(name, task);
+        }
     }
 
     @Override
@@ -72,10 +93,15 @@ public class PubSubPatternMessageListener<V> implements RedisPubSubListener<V> {
     }
 
     @Override
-    public void onPatternMessage(String pattern, String channel, V message) {
+    public void onPatternMessage(final String pattern, final String channel, final V message) {
         // could be subscribed to multiple channels
         if (name.equals(pattern)) {
-            listener.onMessage(pattern, channel, message);
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.onMessage(pattern, channel, message);
+                }
+            });
         }
     }
 
@@ -18,6 +18,7 @@ package org.redisson;
 import org.redisson.client.RedisPubSubListener;
 import org.redisson.client.protocol.pubsub.PubSubType;
 import org.redisson.core.StatusListener;
+import org.redisson.misc.OrderedExecutor;
 
 /**
  *
@@ -30,15 +31,35 @@ public class PubSubStatusListener<V> implements RedisPubSubListener<V> {
 
     private final StatusListener listener;
     private final String name;
+    private final OrderedExecutor executor;
 
     public String getName() {
         return name;
     }
 
     public PubSubStatusListener(StatusListener listener, String name) {
+        this(listener, name, null);
+    }
+
+    /**
+     * @param listener
+     * @param name
+     * @param executor - executes listener keeping order per <code>name</code>,
+     *                   if <code>null</code> listener is executed in connection thread
+     */
+    public PubSubStatusListener(StatusListener listener, String name, OrderedExecutor executor) {
         super();
         this.listener = listener;
         this.name = name;
+        this.executor = executor;
+    }
+
+    private void execute(Runnable task) {
+        if (executor == null) {
+            task.run();
+        } else {
+            executor.execute(name, task);
+        }
     }
 
     @Override
@@ -75,12 +96,17 @@ public class PubSubStatusListener<V> implements RedisPubSubListener<V> {
     }
 
     @Override
-    public boolean onStatus(PubSubType type, String channel) {
-        if (type == PubSubType.SUBSCRIBE) {
-            listener.onSubscribe(channel);
-        } else if (type == PubSubType.UNSUBSCRIBE) {
-            listener.onUnsubscribe(channel);
-        }
+    public boolean onStatus(final PubSubType type, final String channel) {
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                if (type == PubSubType.SUBSCRIBE) {
+                    listener.onSubscribe(channel);
+                } else if (type == PubSubType.UNSUBSCRIBE) {
+                    listener.onUnsubscribe(channel);
+                }
+            }
+        });
         return true;
     }
 
@@ -20,6 +20,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.redisson.client.codec.Codec;
@@ -37,22 +40,36 @@ import org.redisson.core.RAtomicLong;
 import org.redisson.core.RBatch;
 import org.redisson.core.RBitSet;
 import org.redisson.core.RBlockingQueue;
+import org.redisson.core.RBloomFilter;
 import org.redisson.core.RBucket;
+import org.redisson.core.RBuckets;
 import org.redisson.core.RCountDownLatch;
+import org.redisson.core.RCountMinSketch;
+import org.redisson.core.RCounterBuffer;
 import org.redisson.core.RDeque;
+import org.redisson.core.RFairLock;
 import org.redisson.core.RHyperLogLog;
 import org.redisson.core.RKeys;
 import org.redisson.core.RLexSortedSet;
 import org.redisson.core.RList;
 import org.redisson.core.RLock;
+import org.redisson.core.RLongAdder;
 import org.redisson.core.RMap;
 import org.redisson.core.RPatternTopic;
+import org.redisson.core.RPermitExpirableSemaphore;
 import org.redisson.core.RQueue;
+import org.redisson.core.RRateLimiter;
+import org.redisson.core.RReadWriteLock;
+import org.redisson.core.RRoaringBitmap;
 import org.redisson.core.RScoredSortedSet;
 import org.redisson.core.RScript;
+import org.redisson.core.RSemaphore;
 import org.redisson.core.RSet;
 import org.redisson.core.RSortedSet;
+import org.redisson.core.RTopK;
 import org.redisson.core.RTopic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.netty.util.concurrent.Future;
 
@@ -65,11 +82,17 @@ import io.netty.util.concurrent.Future;
  */
 public class Redisson implements RedissonClient {
 
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
     private final CommandExecutor commandExecutor;
     private final ConnectionManager connectionManager;
     private final Config config;
 
     private final UUID id = UUID.randomUUID();
+    private final LockLeaseRenewer leaseRenewer;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ConcurrentMap<String, RedissonCounterBuffer> counterBuffers = new ConcurrentHashMap<String, RedissonCounterBuffer>();
+    private final ConcurrentMap<String, RedissonCountMinSketchBuffer> countMinSketchBuffers = new ConcurrentHashMap<String, RedissonCountMinSketchBuffer>();
 
     Redisson(Config config) {
         this.config = config;
@@ -88,6 +111,8 @@ public class Redisson implements RedissonClient {
             throw new IllegalArgumentException("server(s) address(es) not defined!");
         }
         commandExecutor = new CommandExecutorService(connectionManager);
+        leaseRenewer = new LockLeaseRenewer(connectionManager, TimeUnit.SECONDS.toMillis(RedissonLock.LOCK_EXPIRATION_INTERVAL_SECONDS));
+        notificationDispatcher = new NotificationDispatcher(connectionManager, configCopy.getNotificationChannels());
     }
 
     /**
@@ -153,6 +178,16 @@ public class Redisson implements RedissonClient {
         return buckets;
     }
 
+    @Override
+    public RBuckets getBuckets() {
+        return new RedissonBuckets(commandExecutor);
+    }
+
+    @Override
+    public RBuckets getBuckets(Codec codec) {
+        return new RedissonBuckets(codec, commandExecutor);
+    }
+
 
     /**
      * Returns HyperLogLog object
@@ -170,6 +205,74 @@ public class Redisson implements RedissonClient {
         return new RedissonHyperLogLog<V>(codec, commandExecutor, name);
     }
 
+    @Override
+    public <V> RCountMinSketch<V> getCountMinSketch(String name) {
+        return new RedissonCountMinSketch<V>(commandExecutor, name, getSharedCountMinSketchBuffer(name));
+    }
+
+    @Override
+    public <V> RCountMinSketch<V> getCountMinSketch(String name, Codec codec) {
+        return new RedissonCountMinSketch<V>(codec, commandExecutor, name, getSharedCountMinSketchBuffer(name));
+    }
+
+    private RedissonCountMinSketchBuffer getSharedCountMinSketchBuffer(String name) {
+        RedissonCountMinSketchBuffer buffer = countMinSketchBuffers.get(name);
+        if (buffer == null) {
+            buffer = new RedissonCountMinSketchBuffer(commandExecutor, name);
+            RedissonCountMinSketchBuffer oldBuffer = countMinSketchBuffers.putIfAbsent(name, buffer);
+            if (oldBuffer != null) {
+                buffer = oldBuffer;
+            }
+        }
+        return buffer;
+    }
+
+    @Override
+    public <V> RTopK<V> getTopK(String name) {
+        return new RedissonTopK<V>(commandExecutor, name);
+    }
+
+    @Override
+    public <V> RTopK<V> getTopK(String name, Codec codec) {
+        return new RedissonTopK<V>(codec, commandExecutor, name);
+    }
+
+    @Override
+    public RLongAdder getLongAdder(String name) {
+        return new RedissonLongAdder(commandExecutor, name, getSharedCounterBuffer(RedissonCounterBuffer.DEFAULT_FLUSH_SIZE,
+                RedissonCounterBuffer.DEFAULT_FLUSH_DELAY, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public RLongAdder getLongAdder(String name, int flushSize, long flushDelay, TimeUnit unit) {
+        return new RedissonLongAdder(commandExecutor, name, getSharedCounterBuffer(flushSize, flushDelay, unit));
+    }
+
+    @Override
+    public RCounterBuffer getCounterBuffer() {
+        return getSharedCounterBuffer(RedissonCounterBuffer.DEFAULT_FLUSH_SIZE,
+                RedissonCounterBuffer.DEFAULT_FLUSH_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public RCounterBuffer getCounterBuffer(int flushSize, long flushDelay, TimeUnit unit) {
+        return getSharedCounterBuffer(flushSize, flushDelay, unit);
+    }
+
+    private RedissonCounterBuffer getSharedCounterBuffer(int flushSize, long flushDelay, TimeUnit unit) {
+        // buffers are shared per flush settings, so their amount is bounded
+        String key = flushSize + ":" + unit.toMillis(flushDelay);
+        RedissonCounterBuffer buffer = counterBuffers.get(key);
+        if (buffer == null) {
+            buffer = new RedissonCounterBuffer(commandExecutor, flushSize, flushDelay, unit);
+            RedissonCounterBuffer oldBuffer = counterBuffers.putIfAbsent(key, buffer);
+            if (oldBuffer != null) {
+                buffer = oldBuffer;
+            }
+        }
+        return buffer;
+    }
+
 
     /**
      * Returns distributed list instance by name.
@@ -211,7 +314,48 @@ public class Redisson implements RedissonClient {
      */
     @Override
     public RLock getLock(String name) {
-        return new RedissonLock(commandExecutor, name, id);
+        return new RedissonLock(commandExecutor, name, id, leaseRenewer, notificationDispatcher);
+    }
+
+    /**
+     * Returns distributed fair lock instance by name.
+     *
+     * @param name of the distributed fair lock
+     * @return distributed fair lock
+     */
+    @Override
+    public RFairLock getFairLock(String name) {
+        return new RedissonFairLock(commandExecutor, name, id, leaseRenewer);
+    }
+
+    @Override
+    public RReadWriteLock getReadWriteLock(String name) {
+        return new RedissonReadWriteLock(commandExecutor, name, id, leaseRenewer, notificationDispatcher, false);
+    }
+
+    @Override
+    public RReadWriteLock getFairReadWriteLock(String name) {
+        return new RedissonReadWriteLock(commandExecutor, name, id, leaseRenewer, notificationDispatcher, true);
+    }
+
+    @Override
+    public RSemaphore getSemaphore(String name) {
+        return new RedissonSemaphore(commandExecutor, name, id, notificationDispatcher);
+    }
+
+    @Override
+    public RPermitExpirableSemaphore getPermitExpirableSemaphore(String name) {
+        return new RedissonPermitExpirableSemaphore(commandExecutor, name, id, notificationDispatcher);
+    }
+
+    @Override
+    public RRateLimiter getRateLimiter(String name) {
+        return getRateLimiter(name, 0);
+    }
+
+    @Override
+    public RRateLimiter getRateLimiter(String name, long prefetchPermits) {
+        return new RedissonRateLimiter(commandExecutor, name, id, prefetchPermits);
     }
 
     /**
@@ -392,7 +536,7 @@ public class Redisson implements RedissonClient {
      */
     @Override
     public RCountDownLatch getCountDownLatch(String name) {
-        return new RedissonCountDownLatch(commandExecutor, name, id);
+        return new RedissonCountDownLatch(commandExecutor, name, id, notificationDispatcher);
     }
 
     @Override
@@ -400,6 +544,21 @@ public class Redisson implements RedissonClient {
         return new RedissonBitSet(commandExecutor, name);
     }
 
+    @Override
+    public RRoaringBitmap getRoaringBitmap(String name) {
+        return new RedissonRoaringBitmap(commandExecutor, name);
+    }
+
+    @Override
+    public <V> RBloomFilter<V> getBloomFilter(String name) {
+        return new RedissonBloomFilter<V>(commandExecutor, name);
+    }
+
+    @Override
+    public <V> RBloomFilter<V> getBloomFilter(String name, Codec codec) {
+        return new RedissonBloomFilter<V>(codec, commandExecutor, name);
+    }
+
     /**
      * Returns keys operations.
      * Each of Redis/Redisson object associated with own key
@@ -416,6 +575,20 @@ public class Redisson implements RedissonClient {
      */
     @Override
     public void shutdown() {
+        for (RedissonCounterBuffer buffer : counterBuffers.values()) {
+            try {
+                buffer.flush();
+            } catch (Exception e) {
+                log.error("Can't flush buffered counter increments on shutdown", e);
+            }
+        }
+        for (RedissonCountMinSketchBuffer buffer : countMinSketchBuffers.values()) {
+            try {
+                buffer.flush();
+            } catch (Exception e) {
+                log.error("Can't flush buffered count-min sketch increments on shutdown", e);
+            }
+        }
         connectionManager.shutdown();
     }
 
@@ -569,6 +742,22 @@ public class Redisson implements RedissonClient {
         return new RedisNodes<ClusterNode>(connectionManager);
     }
 
+    /**
+     * Returns future which completes then minimum idle connections
+     * of each Redis node have been established.
+     *
+     * @return
+     */
+    @Override
+    public Future<Void> getWarmUpFuture() {
+        return connectionManager.getWarmUpFuture();
+    }
+
+    @Override
+    public LockLeaseRenewer getLockLeaseRenewer() {
+        return leaseRenewer;
+    }
+
     /**
      * Delete all the keys of the currently selected database
      */
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.net.InetSocketAddress;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.redisson.client.RedisException;
+import org.redisson.client.protocol.decoder.ScanResult;
+
+import io.netty.util.concurrent.Future;
+
+/**
+ * Iterator over <code>SCAN</code> family command pages.
+ * Next page is requested as soon as current page has been received,
+ * so it's loaded while current page is consumed.
+ * <p>
+ * Cursor is valid only on the node which returned it, so all pages
+ * are requested from the same node. If the node fails, the page is requested
+ * from it again after retry interval. Iteration fails with {@link RedisException}
+ * if the node still can't serve the page or has been replaced by another one.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <E> scanned element type
+ * @param <M> returned element type
+ */
+public abstract class RedissonBaseIterator<E, M> implements Iterator<M> {
+
+    private final CommandExecutor commandExecutor;
+
+    private Iterator<E> iter;
+    private InetSocketAddress client;
+    private long nextIterPos;
+    private boolean finished;
+    private Future<? extends ScanResult<E>> nextPage;
+
+    private boolean removeExecuted;
+    private E value;
+
+    public RedissonBaseIterator(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    /**
+     * Requests page of elements
+     *
+     * @param client - node address, <code>null</code> if any node could be used
+     * @param startPos - cursor position
+     * @return page
+     */
+    protected abstract Future<? extends ScanResult<E>> scanIteratorAsync(InetSocketAddress client, long startPos);
+
+    protected abstract void remove(E value);
+
+    M getValue(E entry) {
+        return (M) entry;
+    }
+
+    private ScanResult<E> awaitPage(Future<? extends ScanResult<E>> future) {
+        future.awaitUninterruptibly();
+        if (!future.isSuccess() && client != null) {
+            // node could be reconnecting
+            try {
+                Thread.sleep(commandExecutor.getConnectionManager().getConfig().getRetryInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            future = scanIteratorAsync(client, nextIterPos);
+        }
+
+        ScanResult<E> res = commandExecutor.get(future);
+        if (client != null && !client.equals(res.getRedisClient())) {
+            // another node doesn't guarantee to return each element with this cursor
+            throw new RedisException("Scan cursor " + nextIterPos + " issued by " + client
+                    + " can't be continued on " + res.getRedisClient());
+        }
+        return res;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (iter == null || !iter.hasNext()) {
+            if (finished) {
+                return false;
+            }
+
+            Future<? extends ScanResult<E>> future = nextPage;
+            if (future == null) {
+                future = scanIteratorAsync(client, nextIterPos);
+            }
+            nextPage = null;
+
+            ScanResult<E> res = awaitPage(future);
+            client = res.getRedisClient();
+            nextIterPos = res.getPos();
+            iter = res.getValues().iterator();
+            if (nextIterPos == 0) {
+                finished = true;
+            } else {
+                nextPage = scanIteratorAsync(client, nextIterPos);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public M next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No such element");
+        }
+
+        value = iter.next();
+        removeExecuted = false;
+        return getValue(value);
+    }
+
+    @Override
+    public void remove() {
+        if (removeExecuted) {
+            throw new IllegalStateException("Element been already deleted");
+        }
+        if (value == null) {
+            throw new IllegalStateException();
+        }
+
+        remove(value);
+        removeExecuted = true;
+    }
+
+}
@@ -156,15 +156,28 @@ public class RedissonBitSet extends RedissonExpirable implements RBitSet {
 
     @Override
     public Future<Integer> lengthAsync() {
+        // scans string backwards by chunks to find the last non-zero byte
         return commandExecutor.evalReadAsync(getName(), codec, RedisCommands.EVAL_INTEGER,
-                "local fromBit = redis.call('bitpos', KEYS[1], 1, -1);"
-                + "local toBit = 8*(fromBit/8 + 1) - fromBit % 8;"
-                        + "for i = toBit, fromBit, -1 do "
-                            + "if redis.call('getbit', KEYS[1], i) == 1 then "
-                                + "return i+1;"
-                            + "end;"
-                       + "end;" +
-                     "return fromBit+1",
+                "local size = redis.call('strlen', KEYS[1]); "
+              + "local chunkSize = 1024; "
+              + "local chunkEnd = size - 1; "
+              + "while chunkEnd >= 0 do "
+                  + "local chunkStart = math.max(0, chunkEnd - chunkSize + 1); "
+                  + "local chunk = redis.call('getrange', KEYS[1], chunkStart, chunkEnd); "
+                  + "for i = #chunk, 1, -1 do "
+                      + "local b = string.byte(chunk, i); "
+                      + "if b ~= 0 then "
+                          + "local shift = 0; "
+                          + "while b % 2 == 0 do "
+                              + "b = b / 2; "
+                              + "shift = shift + 1; "
+                          + "end; "
+                          + "return (chunkStart + i) * 8 - shift; "
+                      + "end; "
+                  + "end; "
+                  + "chunkEnd = chunkStart - 1; "
+              + "end; "
+              + "return 0;",
                 Collections.<Object>singletonList(getName()));
     }
 
@@ -178,11 +191,126 @@ public class RedissonBitSet extends RedissonExpirable implements RBitSet {
 
     @Override
     public Future<Void> clearAsync(int fromIndex, int toIndex) {
-        CommandBatchExecutorService executorService = new CommandBatchExecutorService(commandExecutor.getConnectionManager());
-        for (int i = fromIndex; i < toIndex; i++) {
-            executorService.writeAsync(getName(), codec, RedisCommands.SETBIT, getName(), i, 0);
-        }
-        return executorService.executeAsyncVoid();
+        return setRangeAsync(fromIndex, toIndex, false);
+    }
+
+    /**
+     * Whole bytes of range are written with single <code>SETRANGE</code>,
+     * bits of partial edge bytes are written with <code>SETBIT</code>.
+     * Clearing never extends the string beyond its current length.
+     */
+    private Future<Void> setRangeAsync(int fromIndex, int toIndex, boolean value) {
+        return commandExecutor.evalWriteAsync(getName(), codec, RedisCommands.EVAL_VOID,
+                "local fromBit = tonumber(ARGV[1]); "
+              + "local toBit = tonumber(ARGV[2]); "
+              + "local value = tonumber(ARGV[3]); "
+              + "if value == 0 then "
+                  + "toBit = math.min(toBit, redis.call('strlen', KEYS[1]) * 8); "
+              + "end; "
+              + "if fromBit >= toBit then "
+                  + "return; "
+              + "end; "
+              + "local fromByte = math.floor((fromBit + 7) / 8); "
+              + "local toByte = math.floor(toBit / 8); "
+              + "if fromByte >= toByte then "
+                  + "for i = fromBit, toBit - 1 do "
+                      + "redis.call('setbit', KEYS[1], i, value); "
+                  + "end; "
+                  + "return; "
+              + "end; "
+              + "for i = fromBit, fromByte * 8 - 1 do "
+                  + "redis.call('setbit', KEYS[1], i, value); "
+              + "end; "
+              + "for i = toByte * 8, toBit - 1 do "
+                  + "redis.call('setbit', KEYS[1], i, value); "
+              + "end; "
+              + "local fill = '\\0'; "
+              + "if value == 1 then "
+                  + "fill = '\\255'; "
+              + "end; "
+              + "redis.call('setrange', KEYS[1], fromByte, string.rep(fill, toByte - fromByte));",
+                Collections.<Object>singletonList(getName()), fromIndex, toIndex, value ? 1 : 0);
+    }
+
+    public int cardinality(int fromIndex, int toIndex) {
+        return get(cardinalityAsync(fromIndex, toIndex));
+    }
+
+    @Override
+    public Future<Integer> cardinalityAsync(int fromIndex, int toIndex) {
+        return commandExecutor.evalReadAsync(getName(), codec, RedisCommands.EVAL_INTEGER,
+                "local fromBit = tonumber(ARGV[1]); "
+              + "local toBit = math.min(tonumber(ARGV[2]), redis.call('strlen', KEYS[1]) * 8); "
+              + "if fromBit >= toBit then "
+                  + "return 0; "
+              + "end; "
+              + "local fromByte = math.floor((fromBit + 7) / 8); "
+              + "local toByte = math.floor(toBit / 8); "
+              + "local count = 0; "
+              + "if fromByte >= toByte then "
+                  + "for i = fromBit, toBit - 1 do "
+                      + "count = count + redis.call('getbit', KEYS[1], i); "
+                  + "end; "
+                  + "return count; "
+              + "end; "
+              + "for i = fromBit, fromByte * 8 - 1 do "
+                  + "count = count + redis.call('getbit', KEYS[1], i); "
+              + "end; "
+              + "for i = toByte * 8, toBit - 1 do "
+                  + "count = count + redis.call('getbit', KEYS[1], i); "
+              + "end; "
+              + "return count + redis.call('bitcount', KEYS[1], fromByte, toByte - 1);",
+                Collections.<Object>singletonList(getName()), fromIndex, toIndex);
+    }
+
+    public int nextSetBit(int fromIndex) {
+        return get(nextSetBitAsync(fromIndex));
+    }
+
+    @Override
+    public Future<Integer> nextSetBitAsync(int fromIndex) {
+        return nextBitAsync(fromIndex, 1);
+    }
+
+    public int nextClearBit(int fromIndex) {
+        return get(nextClearBitAsync(fromIndex));
+    }
+
+    @Override
+    public Future<Integer> nextClearBitAsync(int fromIndex) {
+        return nextBitAsync(fromIndex, 0);
+    }
+
+    /**
+     * Bits of partial first byte are checked with <code>GETBIT</code>,
+     * the rest is searched with <code>BITPOS</code> from the next byte.
+     */
+    private Future<Integer> nextBitAsync(int fromIndex, int bit) {
+        return commandExecutor.evalReadAsync(getName(), codec, RedisCommands.EVAL_INTEGER,
+                "local fromBit = tonumber(ARGV[1]); "
+              + "local bit = tonumber(ARGV[2]); "
+              + "local size = redis.call('strlen', KEYS[1]) * 8; "
+              + "local fromByte = math.floor((fromBit + 7) / 8); "
+              + "for i = fromBit, math.min(fromByte * 8, size) - 1 do "
+                  + "if redis.call('getbit', KEYS[1], i) == bit then "
+                      + "return i; "
+                  + "end; "
+              + "end; "
+              + "if fromBit >= size then "
+                  + "if bit == 0 then "
+                      + "return fromBit; "
+                  + "end; "
+                  + "return -1; "
+              + "end; "
+              + "local pos = -1; "
+              + "if fromByte * 8 < size then "
+                  + "pos = redis.call('bitpos', KEYS[1], bit, fromByte); "
+              + "end; "
+              + "if pos == -1 and bit == 0 then "
+                  + "return math.max(size, fromByte * 8); "
+              + "end; "
+              + "return pos;",
+                Collections.<Object>singletonList(getName()), fromIndex, bit);
     }
 
     @Override
@@ -197,11 +325,7 @@ public class RedissonBitSet extends RedissonExpirable implements RBitSet {
 
     @Override
     public Future<Void> setAsync(int fromIndex, int toIndex) {
-        CommandBatchExecutorService executorService = new CommandBatchExecutorService(commandExecutor.getConnectionManager());
-        for (int i = fromIndex; i < toIndex; i++) {
-            executorService.writeAsync(getName(), codec, RedisCommands.SETBIT, getName(), i, 1);
-        }
-        return executorService.executeAsyncVoid();
+        return setRangeAsync(fromIndex, toIndex, true);
     }
 
     @Override
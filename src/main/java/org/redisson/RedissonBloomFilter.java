@@ -0,0 +1,285 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.core.RBloomFilter;
+import org.redisson.misc.Hash;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Filter parameters are stored in separate hash. Bits are split into shards of equal size,
+ * each shard is stored in own key so shards are distributed across slots in cluster mode.
+ * Cached parameters are validated by config version read from master along with filter bits.
+ * Bits are set only after version has been checked, since bits set with outdated
+ * parameters can't be removed.
+ *
+ * @param <T>
+ */
+public class RedissonBloomFilter<T> extends RedissonObject implements RBloomFilter<T> {
+
+    // maximal offset of SETBIT command is 2^32 - 1
+    static final long MAX_SHARD_SIZE = 1L << 32;
+
+    /**
+     * Filter parameters read from config hash.
+     * Version changes each time filter is initialized.
+     */
+    private static class Config {
+
+        final long size;
+        final int hashIterations;
+        final int shards;
+        final String version;
+
+        Config(long size, int hashIterations, int shards, String version) {
+            this.size = size;
+            this.hashIterations = hashIterations;
+            this.shards = shards;
+            this.version = version;
+        }
+
+    }
+
+    private volatile Config config;
+
+    protected RedissonBloomFilter(CommandExecutor commandExecutor, String name) {
+        super(commandExecutor, name);
+    }
+
+    protected RedissonBloomFilter(Codec codec, CommandExecutor commandExecutor, String name) {
+        super(codec, commandExecutor, name);
+    }
+
+    @Override
+    public boolean tryInit(long expectedInsertions, double falseProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions should be positive");
+        }
+        if (falseProbability <= 0 || falseProbability >= 1) {
+            throw new IllegalArgumentException("falseProbability should be between 0 and 1");
+        }
+
+        long size = optimalSize(expectedInsertions, falseProbability);
+        int hashIterations = optimalHashIterations(expectedInsertions, size);
+        int minShards = commandExecutor.getConnectionManager().getEntries().size();
+        int shards = (int) Math.max(minShards, (size + MAX_SHARD_SIZE - 1) / MAX_SHARD_SIZE);
+
+        return commandExecutor.evalWrite(getConfigName(), StringCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                "if redis.call('exists', KEYS[1]) == 1 then "
+                    + "return 0; "
+                + "end; "
+                + "redis.call('hmset', KEYS[1], 'size', ARGV[1], 'hashIterations', ARGV[2], 'shards', ARGV[3], 'version', ARGV[4]); "
+                + "return 1;",
+                Arrays.<Object>asList(getConfigName()), size, hashIterations, shards, UUID.randomUUID().toString());
+    }
+
+    static long optimalSize(long expectedInsertions, double falseProbability) {
+        return (long) (-expectedInsertions * Math.log(falseProbability) / (Math.log(2) * Math.log(2)));
+    }
+
+    static int optimalHashIterations(long expectedInsertions, long size) {
+        return Math.max(1, (int) Math.round((double) size / expectedInsertions * Math.log(2)));
+    }
+
+    @Override
+    public long getSize() {
+        return readConfig(true).size;
+    }
+
+    @Override
+    public int getHashIterations() {
+        return readConfig(true).hashIterations;
+    }
+
+    private Config readConfig(boolean reload) {
+        Config config = tryReadConfig(reload);
+        if (config == null) {
+            throw new IllegalStateException("Bloom filter '" + getName() + "' is not initialized");
+        }
+        return config;
+    }
+
+    private Config tryReadConfig(boolean reload) {
+        Config config = this.config;
+        if (config != null && !reload) {
+            return config;
+        }
+
+        // slave could return parameters of deleted or reinitialized filter
+        List<Object> values = commandExecutor.write(getConfigName(), StringCodec.INSTANCE, RedisCommands.HMGET,
+                getConfigName(), "size", "hashIterations", "shards", "version");
+        if (values.get(0) == null) {
+            this.config = null;
+            return null;
+        }
+        config = new Config(Long.valueOf(values.get(0).toString()), Integer.valueOf(values.get(1).toString()),
+                        Integer.valueOf(values.get(2).toString()), (String) values.get(3));
+        this.config = config;
+        return config;
+    }
+
+    private long[] hash(T object) {
+        byte[] state;
+        try {
+            state = codec.getValueEncoder().encode(object);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return Hash.hash128(state);
+    }
+
+    /**
+     * Adds GETBIT or SETBIT commands for each object bit.
+     * Bit indexes are derived from two halves of 128-bit hash
+     */
+    private void addCommands(CommandBatchExecutorService executorService, Config config, T object, boolean write) {
+        long[] hash = hash(object);
+        long shardSize = (config.size + config.shards - 1) / config.shards;
+        for (int i = 0; i < config.hashIterations; i++) {
+            long index = ((hash[0] + i * hash[1]) & Long.MAX_VALUE) % config.size;
+            String shardName = getShardName(config, (int) (index / shardSize));
+            long offset = index % shardSize;
+            if (write) {
+                executorService.writeAsync(shardName, codec, RedisCommands.SETBIT_BOOLEAN, shardName, offset, 1);
+            } else {
+                executorService.readAsync(shardName, codec, RedisCommands.GETBIT, shardName, offset);
+            }
+        }
+    }
+
+    /**
+     * Executes bit commands of objects along with config version check.
+     * Commands are repeated with fresh config if filter has been
+     * deleted or initialized again since config was cached.
+     * SETBIT commands are sent only if version has been checked before.
+     *
+     * @return bits of each object
+     */
+    private List<?> executeCommands(Collection<T> objects, boolean write) {
+        Config config = readConfig(false);
+        while (true) {
+            if (write) {
+                String version = commandExecutor.write(getConfigName(), StringCodec.INSTANCE, RedisCommands.HGET, getConfigName(), "version");
+                if (!config.version.equals(version)) {
+                    config = readConfig(true);
+                    continue;
+                }
+            }
+
+            CommandBatchExecutorService executorService = new CommandBatchExecutorService(commandExecutor.getConnectionManager());
+            executorService.writeAsync(getConfigName(), StringCodec.INSTANCE, RedisCommands.HGET, getConfigName(), "version");
+            for (T object : objects) {
+                addCommands(executorService, config, object, write);
+            }
+            List<?> result = executorService.execute();
+            if (config.version.equals(result.get(0))) {
+                return result.subList(1, result.size());
+            }
+            config = readConfig(true);
+        }
+    }
+
+    @Override
+    public boolean add(T object) {
+        List<?> result = executeCommands(Collections.singletonList(object), true);
+        // object is new if at least one bit was not set before
+        return result.contains(Boolean.FALSE);
+    }
+
+    @Override
+    public boolean contains(T object) {
+        List<?> result = executeCommands(Collections.singletonList(object), false);
+        return !result.contains(Boolean.FALSE);
+    }
+
+    @Override
+    public Set<T> containsAll(Collection<T> objects) {
+        Set<T> result = new HashSet<T>();
+        if (objects.isEmpty()) {
+            readConfig(false);
+            return result;
+        }
+
+        List<T> list = new ArrayList<T>(objects);
+        List<?> bits = executeCommands(list, false);
+        int hashIterations = bits.size() / list.size();
+        for (int i = 0; i < list.size(); i++) {
+            List<?> objectBits = bits.subList(i * hashIterations, (i + 1) * hashIterations);
+            if (!objectBits.contains(Boolean.FALSE)) {
+                result.add(list.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Future<Boolean> deleteAsync() {
+        Config config = tryReadConfig(true);
+        if (config == null) {
+            return commandExecutor.writeAsync(getConfigName(), RedisCommands.DEL_SINGLE, getConfigName());
+        }
+
+        CommandBatchExecutorService executorService = new CommandBatchExecutorService(commandExecutor.getConnectionManager());
+        executorService.writeAsync(getConfigName(), RedisCommands.DEL_SINGLE, getConfigName());
+        for (int i = 0; i < config.shards; i++) {
+            String shardName = getShardName(config, i);
+            executorService.writeAsync(shardName, RedisCommands.DEL_SINGLE, shardName);
+        }
+
+        final Promise<Boolean> result = newPromise();
+        executorService.executeAsync().addListener(new FutureListener<List<?>>() {
+            @Override
+            public void operationComplete(Future<List<?>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.setFailure(future.cause());
+                    return;
+                }
+
+                RedissonBloomFilter.this.config = null;
+                result.setSuccess((Boolean) future.getNow().get(0));
+            }
+        });
+        return result;
+    }
+
+    private String getShardName(Config config, int index) {
+        if (config.shards == 1) {
+            return getName();
+        }
+        return getName() + ":" + index;
+    }
+
+    private String getConfigName() {
+        return "redisson__bloomfilter__config__{" + getName() + "}";
+    }
+
+}
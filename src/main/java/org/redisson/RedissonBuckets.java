@@ -0,0 +1,182 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.cluster.ClusterSlotRange;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.core.RBuckets;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Bulk access to buckets through <code>MGET</code> and <code>MSET</code> commands.
+ * Keys are grouped by slot, since these commands can't span slots in cluster mode,
+ * and commands of all slots served by the same node are sent to it in one batch.
+ *
+ */
+public class RedissonBuckets implements RBuckets {
+
+    private final Codec codec;
+    private final CommandExecutor commandExecutor;
+
+    protected RedissonBuckets(CommandExecutor commandExecutor) {
+        this(commandExecutor.getConnectionManager().getCodec(), commandExecutor);
+    }
+
+    protected RedissonBuckets(Codec codec, CommandExecutor commandExecutor) {
+        this.codec = codec;
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public <V> Map<String, V> get(String ... keys) {
+        Future<Map<String, V>> future = getAsync(keys);
+        return commandExecutor.get(future);
+    }
+
+    @Override
+    public <V> Future<Map<String, V>> getAsync(String ... keys) {
+        ConnectionManager connectionManager = commandExecutor.getConnectionManager();
+        final Promise<Map<String, V>> result = connectionManager.newPromise();
+        if (keys.length == 0) {
+            result.setSuccess(Collections.<String, V>emptyMap());
+            return result;
+        }
+
+        Map<Integer, List<String>> slot2keys = new HashMap<Integer, List<String>>();
+        for (String key : keys) {
+            add(slot2keys, connectionManager.calcSlot(key), key);
+        }
+
+        CommandBatchExecutorService executorService = new CommandBatchExecutorService(connectionManager);
+        Map<MasterSlaveEntry, Integer> node2slot = new HashMap<MasterSlaveEntry, Integer>();
+        final List<List<String>> keysList = new ArrayList<List<String>>(slot2keys.size());
+        final List<Future<List<V>>> futures = new ArrayList<Future<List<V>>>(slot2keys.size());
+        for (Entry<Integer, List<String>> entry : slot2keys.entrySet()) {
+            int slot = nodeSlot(entry.getKey(), node2slot);
+            Future<List<V>> future = executorService.readAsync(slot, codec, RedisCommands.MGET, entry.getValue().toArray());
+            keysList.add(entry.getValue());
+            futures.add(future);
+        }
+
+        final int size = keys.length;
+        executorService.executeAsyncVoid().addListener(new FutureListener<Void>() {
+            @Override
+            public void operationComplete(Future<Void> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                Map<String, V> values = new HashMap<String, V>(size);
+                for (int i = 0; i < futures.size(); i++) {
+                    List<String> slotKeys = keysList.get(i);
+                    List<V> slotValues = futures.get(i).getNow();
+                    for (int j = 0; j < slotKeys.size(); j++) {
+                        V value = slotValues.get(j);
+                        if (value != null) {
+                            values.put(slotKeys.get(j), value);
+                        }
+                    }
+                }
+                result.trySuccess(values);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void set(Map<String, ?> buckets) {
+        commandExecutor.get(setAsync(buckets));
+    }
+
+    @Override
+    public Future<Void> setAsync(Map<String, ?> buckets) {
+        ConnectionManager connectionManager = commandExecutor.getConnectionManager();
+        if (buckets.isEmpty()) {
+            return connectionManager.getGroup().next().newSucceededFuture(null);
+        }
+
+        // values are encoded here since MSET params interleave plain keys and values
+        Map<Integer, List<Object>> slot2params = new HashMap<Integer, List<Object>>();
+        for (Entry<String, ?> entry : buckets.entrySet()) {
+            byte[] value;
+            try {
+                value = codec.getValueEncoder().encode(entry.getValue());
+            } catch (IOException e) {
+                return connectionManager.newFailedFuture(e);
+            }
+            int slot = connectionManager.calcSlot(entry.getKey());
+            add(slot2params, slot, entry.getKey());
+            add(slot2params, slot, value);
+        }
+
+        CommandBatchExecutorService executorService = new CommandBatchExecutorService(connectionManager);
+        Map<MasterSlaveEntry, Integer> node2slot = new HashMap<MasterSlaveEntry, Integer>();
+        for (Entry<Integer, List<Object>> entry : slot2params.entrySet()) {
+            int slot = nodeSlot(entry.getKey(), node2slot);
+            executorService.writeAsync(slot, codec, RedisCommands.MSET, entry.getValue().toArray());
+        }
+        return executorService.executeAsyncVoid();
+    }
+
+    /**
+     * Batch sends commands queued for the same slot in one round-trip,
+     * so commands of all slots served by a node are queued for the first of them.
+     *
+     * @param slot - slot of keys
+     * @param node2slot - first slot used for each node
+     * @return slot to queue command for
+     */
+    private int nodeSlot(int slot, Map<MasterSlaveEntry, Integer> node2slot) {
+        for (Entry<ClusterSlotRange, MasterSlaveEntry> entry : commandExecutor.getConnectionManager().getEntries().entrySet()) {
+            if (!entry.getKey().isOwn(slot)) {
+                continue;
+            }
+
+            Integer nodeSlot = node2slot.get(entry.getValue());
+            if (nodeSlot == null) {
+                nodeSlot = slot;
+                node2slot.put(entry.getValue(), nodeSlot);
+            }
+            return nodeSlot;
+        }
+        return slot;
+    }
+
+    private <T> void add(Map<Integer, List<T>> slot2items, int slot, T item) {
+        List<T> items = slot2items.get(slot);
+        if (items == null) {
+            items = new ArrayList<T>();
+            slot2items.put(slot, items);
+        }
+        items.add(item);
+    }
+
+}
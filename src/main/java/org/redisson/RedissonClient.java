@@ -17,6 +17,7 @@ package org.redisson;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.redisson.client.codec.Codec;
 import org.redisson.core.ClusterNode;
@@ -26,21 +27,33 @@ import org.redisson.core.RAtomicLong;
 import org.redisson.core.RBatch;
 import org.redisson.core.RBitSet;
 import org.redisson.core.RBlockingQueue;
+import org.redisson.core.RBloomFilter;
 import org.redisson.core.RBucket;
+import org.redisson.core.RBuckets;
 import org.redisson.core.RCountDownLatch;
+import org.redisson.core.RCountMinSketch;
+import org.redisson.core.RCounterBuffer;
 import org.redisson.core.RDeque;
+import org.redisson.core.RFairLock;
 import org.redisson.core.RHyperLogLog;
 import org.redisson.core.RKeys;
 import org.redisson.core.RLexSortedSet;
 import org.redisson.core.RList;
 import org.redisson.core.RLock;
+import org.redisson.core.RLongAdder;
 import org.redisson.core.RMap;
 import org.redisson.core.RPatternTopic;
+import org.redisson.core.RPermitExpirableSemaphore;
 import org.redisson.core.RQueue;
+import org.redisson.core.RRateLimiter;
+import org.redisson.core.RReadWriteLock;
+import org.redisson.core.RRoaringBitmap;
 import org.redisson.core.RScoredSortedSet;
 import org.redisson.core.RScript;
+import org.redisson.core.RSemaphore;
 import org.redisson.core.RSet;
 import org.redisson.core.RSortedSet;
+import org.redisson.core.RTopK;
 import org.redisson.core.RTopic;
 
 import io.netty.util.concurrent.Future;
@@ -58,10 +71,21 @@ public interface RedissonClient {
     <V> RBucket<V> getBucket(String name, Codec codec);
 
     /**
-     * Returns a list of object holder by a key pattern
+     * Returns a list of object holder by a key pattern.
+     * Runs <code>KEYS</code> command on each node,
+     * use {@link #getBuckets()} to load buckets with known names.
      */
     <V> List<RBucket<V>> getBuckets(String pattern);
 
+    /**
+     * Returns interface for bulk operations over object holders
+     *
+     * @return
+     */
+    RBuckets getBuckets();
+
+    RBuckets getBuckets(Codec codec);
+
     /**
      * Returns HyperLogLog object
      *
@@ -72,6 +96,51 @@ public interface RedissonClient {
 
     <V> RHyperLogLog<V> getHyperLogLog(String name, Codec codec);
 
+    /**
+     * Returns count-min sketch instance by name.
+     * Buffer of {@link RCountMinSketch#addBuffered(Object, long)} increments
+     * is shared by all instances with the same name and flushed on shutdown.
+     *
+     * @param name of object
+     * @return
+     */
+    <V> RCountMinSketch<V> getCountMinSketch(String name);
+
+    <V> RCountMinSketch<V> getCountMinSketch(String name, Codec codec);
+
+    /**
+     * Returns top-k heavy hitters instance by name
+     *
+     * @param name of object
+     * @return
+     */
+    <V> RTopK<V> getTopK(String name);
+
+    <V> RTopK<V> getTopK(String name, Codec codec);
+
+    /**
+     * Returns long adder instance by name.
+     * Increments are buffered by counter buffer shared by adders
+     * with the same flush settings and flushed on {@link #shutdown()}.
+     *
+     * @param name of object
+     * @return
+     */
+    RLongAdder getLongAdder(String name);
+
+    RLongAdder getLongAdder(String name, int flushSize, long flushDelay, TimeUnit unit);
+
+    /**
+     * Returns buffer of counter increments.
+     * Buffer is shared by all calls with the same flush settings
+     * and flushed on {@link #shutdown()}.
+     *
+     * @return
+     */
+    RCounterBuffer getCounterBuffer();
+
+    RCounterBuffer getCounterBuffer(int flushSize, long flushDelay, TimeUnit unit);
+
     /**
      * Returns list instance by name.
      *
@@ -100,6 +169,70 @@ public interface RedissonClient {
      */
     RLock getLock(String name);
 
+    /**
+     * Returns fair lock instance by name.
+     * Lock is granted to waiting threads in FIFO order.
+     *
+     * @param name of lock
+     * @return
+     */
+    RFairLock getFairLock(String name);
+
+    /**
+     * Returns readWriteLock instance by name.
+     * Waiting writer blocks new readers.
+     *
+     * @param name of lock
+     * @return
+     */
+    RReadWriteLock getReadWriteLock(String name);
+
+    /**
+     * Returns fair readWriteLock instance by name.
+     * Readers and writers acquire lock in FIFO order.
+     * All instances of the same lock should use the same policy.
+     *
+     * @param name of lock
+     * @return
+     */
+    RReadWriteLock getFairReadWriteLock(String name);
+
+    /**
+     * Returns semaphore instance by name
+     *
+     * @param name of semaphore
+     * @return
+     */
+    RSemaphore getSemaphore(String name);
+
+    /**
+     * Returns semaphore instance by name.
+     * Each acquired permit has own id and lease time.
+     *
+     * @param name of semaphore
+     * @return
+     */
+    RPermitExpirableSemaphore getPermitExpirableSemaphore(String name);
+
+    /**
+     * Returns rate limiter instance by name
+     *
+     * @param name of rate limiter
+     * @return
+     */
+    RRateLimiter getRateLimiter(String name);
+
+    /**
+     * Returns rate limiter instance by name.
+     * Up to <code>prefetchPermits</code> permits are claimed per Redis call
+     * and surplus is served locally.
+     *
+     * @param name of rate limiter
+     * @param prefetchPermits - amount of permits claimed per Redis call
+     * @return
+     */
+    RRateLimiter getRateLimiter(String name, long prefetchPermits);
+
     /**
      * Returns set instance by name.
      *
@@ -213,6 +346,24 @@ public interface RedissonClient {
 
     RBitSet getBitSet(String name);
 
+    /**
+     * Returns compressed bitmap instance by name
+     *
+     * @param name of object
+     * @return
+     */
+    RRoaringBitmap getRoaringBitmap(String name);
+
+    /**
+     * Returns bloom filter instance by name
+     *
+     * @param name of object
+     * @return
+     */
+    <V> RBloomFilter<V> getBloomFilter(String name);
+
+    <V> RBloomFilter<V> getBloomFilter(String name, Codec codec);
+
     /**
      * Returns script operations object
      *
@@ -346,6 +497,24 @@ public interface RedissonClient {
      */
     NodesGroup<ClusterNode> getClusterNodesGroup();
 
+    /**
+     * Returns future which completes then minimum idle connections
+     * of each Redis node have been established.
+     *
+     * @see org.redisson.BaseConfig#setConnectionWarmUpConcurrency(int)
+     *
+     * @return
+     */
+    Future<Void> getWarmUpFuture();
+
+    /**
+     * Returns lease renewer of locks held by this Redisson instance.
+     * Could be used to monitor renewal lag.
+     *
+     * @return
+     */
+    LockLeaseRenewer getLockLeaseRenewer();
+
     /**
      * Delete all the keys of the currently selected database
      */
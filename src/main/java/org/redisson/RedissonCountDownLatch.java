@@ -48,10 +48,12 @@ public class RedissonCountDownLatch extends RedissonObject implements RCountDown
     private static final ConcurrentMap<String, RedissonCountDownLatchEntry> ENTRIES = PlatformDependent.newConcurrentHashMap();
 
     private final UUID id;
+    private final NotificationDispatcher notificationDispatcher;
 
-    protected RedissonCountDownLatch(CommandExecutor commandExecutor, String name, UUID id) {
+    protected RedissonCountDownLatch(CommandExecutor commandExecutor, String name, UUID id, NotificationDispatcher notificationDispatcher) {
         super(commandExecutor, name);
         this.id = id;
+        this.notificationDispatcher = notificationDispatcher;
     }
 
     private Future<RedissonCountDownLatchEntry> subscribe() {
@@ -74,7 +76,8 @@ public class RedissonCountDownLatch extends RedissonObject implements RCountDown
 
             RedisPubSubListener<Integer> listener = createListener(value);
 
-            commandExecutor.getConnectionManager().subscribe(listener, getChannelName());
+            value.setListener(listener);
+            notificationDispatcher.subscribe(getChannelName(), listener);
             return newPromise;
         }
     }
@@ -115,7 +118,7 @@ public class RedissonCountDownLatch extends RedissonObject implements RCountDown
                 // just an assertion
                 boolean removed = ENTRIES.remove(getEntryName()) == entry;
                 if (removed) {
-                    commandExecutor.getConnectionManager().unsubscribe(getChannelName());
+                    notificationDispatcher.unsubscribe(getChannelName(), entry.getListener());
                 }
             }
         }
@@ -180,7 +183,8 @@ public class RedissonCountDownLatch extends RedissonObject implements RCountDown
                         "if v <= 0 then redis.call('del', KEYS[1]) end;" +
                         "if v == 0 then redis.call('publish', ARGV[2], ARGV[1]) end;" +
                         "return true",
-                 Collections.<Object>singletonList(getName()), zeroCountMessage, getChannelName());
+                 Collections.<Object>singletonList(getName()), notificationDispatcher.getMessage(getChannelName(), zeroCountMessage),
+                 notificationDispatcher.getChannel(getChannelName()));
     }
 
     private String getEntryName() {
@@ -208,14 +212,16 @@ public class RedissonCountDownLatch extends RedissonObject implements RCountDown
     public boolean trySetCount(long count) {
         return commandExecutor.evalWrite(getName(), RedisCommands.EVAL_BOOLEAN_R1,
                 "if redis.call('exists', KEYS[1]) == 0 then redis.call('set', KEYS[1], ARGV[2]); redis.call('publish', ARGV[3], ARGV[1]); return true else return false end",
-                 Collections.<Object>singletonList(getName()), newCountMessage, count, getChannelName());
+                 Collections.<Object>singletonList(getName()), notificationDispatcher.getMessage(getChannelName(), newCountMessage),
+                 count, notificationDispatcher.getChannel(getChannelName()));
     }
 
     @Override
     public Future<Boolean> deleteAsync() {
         return commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_BOOLEAN_R1,
                 "if redis.call('del', KEYS[1]) == 1 then redis.call('publish', ARGV[2], ARGV[1]); return true else return false end",
-                 Collections.<Object>singletonList(getName()), newCountMessage, getChannelName());
+                 Collections.<Object>singletonList(getName()), notificationDispatcher.getMessage(getChannelName(), newCountMessage),
+                 notificationDispatcher.getChannel(getChannelName()));
     }
 
 }
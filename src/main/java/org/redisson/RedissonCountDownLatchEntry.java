@@ -15,6 +15,7 @@
  */
 package org.redisson;
 
+import org.redisson.client.RedisPubSubListener;
 import org.redisson.misc.ReclosableLatch;
 
 import io.netty.util.concurrent.Promise;
@@ -25,6 +26,7 @@ public class RedissonCountDownLatchEntry {
 
     private final ReclosableLatch latch;
     private final Promise<RedissonCountDownLatchEntry> promise;
+    private RedisPubSubListener<Integer> listener;
 
     public RedissonCountDownLatchEntry(Promise<RedissonCountDownLatchEntry> promise) {
         super();
@@ -40,6 +42,14 @@ public class RedissonCountDownLatchEntry {
         return --counter;
     }
 
+    public RedisPubSubListener<Integer> getListener() {
+        return listener;
+    }
+
+    public void setListener(RedisPubSubListener<Integer> listener) {
+        this.listener = listener;
+    }
+
     public Promise<RedissonCountDownLatchEntry> getPromise() {
         return promise;
     }
@@ -0,0 +1,186 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.core.RCountMinSketch;
+import org.redisson.misc.Hash;
+
+import io.netty.util.concurrent.Future;
+
+/**
+ * Sketch parameters are stored in <code>width</code> and <code>depth</code> hash fields,
+ * counter of row <code>i</code> and column <code>j</code> is stored in <code>i * width + j</code> field.
+ *
+ * Scripts receive two 31-bit hashes of object and calculate column of each row
+ * as <code>(a + i * b) % width</code>, so sketch parameters are not needed on client side.
+ *
+ * Buffered increments are shared by all instances with the same name, see {@link RedissonCountMinSketchBuffer}.
+ *
+ * @param <V>
+ */
+public class RedissonCountMinSketch<V> extends RedissonExpirable implements RCountMinSketch<V> {
+
+    // expects width, depth and count variables, stores minimal counter value to min variable
+    static final String INCREMENT_SCRIPT = "local min = nil; "
+            + "for i = 0, depth - 1 do "
+                + "local column = (a + i * b) % width; "
+                + "local v = redis.call('hincrby', KEYS[1], i * width + column, count); "
+                + "if min == nil or v < min then "
+                    + "min = v; "
+                + "end; "
+            + "end; ";
+
+    static final String READ_CONFIG_SCRIPT = "local width = tonumber(redis.call('hget', KEYS[1], 'width')); "
+            + "if width == nil then "
+                + "return redis.error_reply('Sketch is not initialized'); "
+            + "end; "
+            + "local depth = tonumber(redis.call('hget', KEYS[1], 'depth')); ";
+
+    // expects count and two hashes of each object in ARGV
+    static final String ADD_ALL_SCRIPT = READ_CONFIG_SCRIPT
+            + "for j = 1, #ARGV, 3 do "
+                + "local count = ARGV[j]; "
+                + "local a = tonumber(ARGV[j + 1]); "
+                + "local b = tonumber(ARGV[j + 2]); "
+                + INCREMENT_SCRIPT
+            + "end;";
+
+    private final RedissonCountMinSketchBuffer buffer;
+
+    protected RedissonCountMinSketch(CommandExecutor commandExecutor, String name, RedissonCountMinSketchBuffer buffer) {
+        super(commandExecutor, name);
+        this.buffer = buffer;
+    }
+
+    protected RedissonCountMinSketch(Codec codec, CommandExecutor commandExecutor, String name, RedissonCountMinSketchBuffer buffer) {
+        super(codec, commandExecutor, name);
+        this.buffer = buffer;
+    }
+
+    @Override
+    public boolean tryInit(int width, int depth) {
+        return commandExecutor.evalWrite(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                "if redis.call('exists', KEYS[1]) == 1 then "
+                    + "return 0; "
+                + "end; "
+                + "redis.call('hmset', KEYS[1], 'width', ARGV[1], 'depth', ARGV[2]); "
+                + "return 1;",
+                Collections.<Object>singletonList(getName()), width, depth);
+    }
+
+    /**
+     * Returns two non-negative 31-bit hashes of encoded object
+     */
+    static long[] hash(byte[] state) {
+        long[] hash = Hash.hash128(state);
+        return new long[] {hash[0] & Integer.MAX_VALUE, hash[1] & Integer.MAX_VALUE};
+    }
+
+    static byte[] encode(Codec codec, Object object) {
+        try {
+            return codec.getValueEncoder().encode(object);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public long add(V object, long count) {
+        return get(addAsync(object, count));
+    }
+
+    @Override
+    public Future<Long> addAsync(V object, long count) {
+        long[] hash = hash(encode(codec, object));
+        return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                READ_CONFIG_SCRIPT
+              + "local count = ARGV[1]; "
+              + "local a = tonumber(ARGV[2]); "
+              + "local b = tonumber(ARGV[3]); "
+              + INCREMENT_SCRIPT
+              + "return min;",
+                Collections.<Object>singletonList(getName()), count, hash[0], hash[1]);
+    }
+
+    @Override
+    public void addAll(Map<V, Long> counts) {
+        get(addAllAsync(counts));
+    }
+
+    @Override
+    public Future<Void> addAllAsync(Map<V, Long> counts) {
+        List<Object> args = new ArrayList<Object>(counts.size() * 3);
+        for (Entry<V, Long> entry : counts.entrySet()) {
+            long[] hash = hash(encode(codec, entry.getKey()));
+            args.add(entry.getValue());
+            args.add(hash[0]);
+            args.add(hash[1]);
+        }
+
+        return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_VOID,
+                ADD_ALL_SCRIPT, Collections.<Object>singletonList(getName()), args.toArray());
+    }
+
+    @Override
+    public long count(V object) {
+        return get(countAsync(object));
+    }
+
+    @Override
+    public Future<Long> countAsync(V object) {
+        long[] hash = hash(encode(codec, object));
+        return commandExecutor.evalReadAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                READ_CONFIG_SCRIPT
+              + "local a = tonumber(ARGV[1]); "
+              + "local b = tonumber(ARGV[2]); "
+              + "local min = nil; "
+              + "for i = 0, depth - 1 do "
+                  + "local column = (a + i * b) % width; "
+                  + "local v = tonumber(redis.call('hget', KEYS[1], i * width + column)) or 0; "
+                  + "if min == nil or v < min then "
+                      + "min = v; "
+                  + "end; "
+              + "end; "
+              + "return min;",
+                Collections.<Object>singletonList(getName()), hash[0], hash[1]);
+    }
+
+    @Override
+    public void addBuffered(V object, long count) {
+        buffer.add(hash(encode(codec, object)), count);
+    }
+
+    @Override
+    public void flush() {
+        get(flushAsync());
+    }
+
+    @Override
+    public Future<Void> flushAsync() {
+        return buffer.flushAsync();
+    }
+
+}
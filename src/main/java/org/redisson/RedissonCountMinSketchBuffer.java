@@ -0,0 +1,140 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Buffer of count-min sketch increments shared by all sketch instances with the same name.
+ * Increments are aggregated by object hashes, so instances with different codecs share it too.
+ * Increments of failed flush are returned to buffer and sent with the next flush.
+ *
+ */
+class RedissonCountMinSketchBuffer {
+
+    static final long FLUSH_DELAY = 1000;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final CommandExecutor commandExecutor;
+    private final String name;
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // both hashes are 31-bit, so they are packed into one long key
+    private Map<Long, Long> counts = new HashMap<Long, Long>();
+
+    RedissonCountMinSketchBuffer(CommandExecutor commandExecutor, String name) {
+        this.commandExecutor = commandExecutor;
+        this.name = name;
+    }
+
+    void add(long[] hash, long count) {
+        synchronized (this) {
+            merge((hash[0] << 31) | hash[1], count);
+        }
+        scheduleFlush();
+    }
+
+    private void merge(Long key, long count) {
+        Long value = counts.get(key);
+        if (value != null) {
+            count += value;
+        }
+        counts.put(key, count);
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+                @Override
+                public void run(Timeout timeout) throws Exception {
+                    flushScheduled.set(false);
+                    flushAsync().addListener(new FutureListener<Void>() {
+                        @Override
+                        public void operationComplete(Future<Void> future) throws Exception {
+                            if (!future.isSuccess()) {
+                                log.error("Can't flush buffered increments of count-min sketch: " + name, future.cause());
+                            }
+                        }
+                    });
+                }
+            }, FLUSH_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void flush() {
+        commandExecutor.get(flushAsync());
+    }
+
+    Future<Void> flushAsync() {
+        final Map<Long, Long> flushed;
+        synchronized (this) {
+            flushed = counts;
+            counts = new HashMap<Long, Long>();
+        }
+        if (flushed.isEmpty()) {
+            return commandExecutor.getConnectionManager().getGroup().next().newSucceededFuture(null);
+        }
+
+        List<Object> args = new ArrayList<Object>(flushed.size() * 3);
+        for (Entry<Long, Long> entry : flushed.entrySet()) {
+            args.add(entry.getValue());
+            args.add(entry.getKey() >>> 31);
+            args.add(entry.getKey() & Integer.MAX_VALUE);
+        }
+
+        final Promise<Void> result = commandExecutor.getConnectionManager().getGroup().next().newPromise();
+        Future<Void> future = commandExecutor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_VOID,
+                RedissonCountMinSketch.ADD_ALL_SCRIPT, Collections.<Object>singletonList(name), args.toArray());
+        future.addListener(new FutureListener<Void>() {
+            @Override
+            public void operationComplete(Future<Void> future) throws Exception {
+                if (future.isSuccess()) {
+                    result.setSuccess(null);
+                    return;
+                }
+
+                synchronized (RedissonCountMinSketchBuffer.this) {
+                    for (Entry<Long, Long> entry : flushed.entrySet()) {
+                        merge(entry.getKey(), entry.getValue());
+                    }
+                }
+                scheduleFlush();
+                result.setFailure(future.cause());
+            }
+        });
+        return result;
+    }
+
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.core.RCounterBuffer;
+import org.redisson.misc.StripedLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Counters are never removed from buffer, so its size is bounded by counters cardinality.
+ * Deltas are taken from cells atomically on flush, so concurrent increments go to the next flush.
+ * Delta of failed command is added back to cells and sent with the next flush.
+ * Deltas of commands succeeded in partially failed flush aren't added back.
+ *
+ */
+public class RedissonCounterBuffer implements RCounterBuffer {
+
+    static final int DEFAULT_FLUSH_SIZE = 10000;
+    static final long DEFAULT_FLUSH_DELAY = 1000;
+
+    static final class Counter {
+
+        private final String mapName;
+        private final String name;
+
+        Counter(String mapName, String name) {
+            this.mapName = mapName;
+            this.name = name;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 31 + ((mapName == null) ? 0 : mapName.hashCode());
+            return 31 * result + name.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null || getClass() != obj.getClass())
+                return false;
+            Counter other = (Counter) obj;
+            if (mapName == null ? other.mapName != null : !mapName.equals(other.mapName))
+                return false;
+            return name.equals(other.name);
+        }
+
+    }
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final CommandExecutor commandExecutor;
+    private final long flushDelay;
+    // flush size is checked per cell of current thread
+    private final long stripeFlushSize;
+
+    private final ConcurrentMap<Counter, StripedLong> counters = new ConcurrentHashMap<Counter, StripedLong>();
+    private final StripedLong updates = new StripedLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final FutureListener<Void> logListener = new FutureListener<Void>() {
+        @Override
+        public void operationComplete(Future<Void> future) throws Exception {
+            if (!future.isSuccess()) {
+                log.error("Can't flush buffered counter increments", future.cause());
+            }
+        }
+    };
+
+    protected RedissonCounterBuffer(CommandExecutor commandExecutor) {
+        this(commandExecutor, DEFAULT_FLUSH_SIZE, DEFAULT_FLUSH_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    protected RedissonCounterBuffer(CommandExecutor commandExecutor, int flushSize, long flushDelay, TimeUnit unit) {
+        this.commandExecutor = commandExecutor;
+        this.flushDelay = unit.toMillis(flushDelay);
+        this.stripeFlushSize = Math.max(1, flushSize / StripedLong.getStripes());
+    }
+
+    @Override
+    public void add(String name, long delta) {
+        add(new Counter(null, name), delta);
+    }
+
+    @Override
+    public void addToMap(String mapName, Object key, long delta) {
+        add(new Counter(mapName, key.toString()), delta);
+    }
+
+    void add(Counter counter, long delta) {
+        StripedLong value = counters.get(counter);
+        if (value == null) {
+            value = new StripedLong();
+            StripedLong oldValue = counters.putIfAbsent(counter, value);
+            if (oldValue != null) {
+                value = oldValue;
+            }
+        }
+        value.add(delta);
+
+        if (updates.add(1) >= stripeFlushSize) {
+            flushAsync().addListener(logListener);
+            return;
+        }
+
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.get() && flushScheduled.compareAndSet(false, true)) {
+            commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+                @Override
+                public void run(Timeout timeout) throws Exception {
+                    flushScheduled.set(false);
+                    flushAsync().addListener(logListener);
+                }
+            }, flushDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public long sum(String name) {
+        flush();
+        return commandExecutor.write(name, StringCodec.INSTANCE, RedisCommands.GET_LONG, name);
+    }
+
+    @Override
+    public void flush() {
+        commandExecutor.get(flushAsync());
+    }
+
+    @Override
+    public Future<Void> flushAsync() {
+        updates.sumThenReset();
+
+        CommandBatchExecutorService executorService = new CommandBatchExecutorService(commandExecutor.getConnectionManager());
+        final List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        for (Entry<Counter, StripedLong> entry : counters.entrySet()) {
+            final StripedLong value = entry.getValue();
+            final long delta = value.sumThenReset();
+            if (delta == 0) {
+                continue;
+            }
+
+            Counter counter = entry.getKey();
+            Future<Object> future;
+            if (counter.mapName == null) {
+                future = executorService.writeAsync(counter.name, StringCodec.INSTANCE, RedisCommands.INCRBY, counter.name, delta);
+            } else {
+                future = executorService.writeAsync(counter.mapName, StringCodec.INSTANCE, RedisCommands.HINCRBYFLOAT, counter.mapName, counter.name, delta);
+            }
+            future.addListener(new FutureListener<Object>() {
+                @Override
+                public void operationComplete(Future<Object> future) throws Exception {
+                    if (!future.isSuccess()) {
+                        value.add(delta);
+                        scheduleFlush();
+                    }
+                }
+            });
+            futures.add(future);
+        }
+
+        if (futures.isEmpty()) {
+            return commandExecutor.getConnectionManager().getGroup().next().newSucceededFuture(null);
+        }
+
+        final Promise<Void> result = commandExecutor.getConnectionManager().getGroup().next().newPromise();
+        executorService.executeAsyncVoid().addListener(new FutureListener<Void>() {
+            @Override
+            public void operationComplete(Future<Void> future) throws Exception {
+                if (future.isSuccess()) {
+                    result.setSuccess(null);
+                    return;
+                }
+
+                // deltas of failed commands are added back by their own listeners
+                result.setFailure(future.cause());
+            }
+        });
+        return result;
+    }
+
+}
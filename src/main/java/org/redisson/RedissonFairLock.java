@@ -0,0 +1,197 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.RedisStrictCommand;
+import org.redisson.client.protocol.convertor.BooleanReplayConvertor;
+import org.redisson.core.RFairLock;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+
+/**
+ * Distributed implementation of {@link java.util.concurrent.locks.Lock}
+ * Implements reentrant fair lock.<br>
+ * Waiters are queued in Redis list and lock is granted in FIFO order.
+ * Unlock notifies only the waiter at the head of queue,
+ * so each handoff costs one script invocation regardless of waiters amount.<br>
+ * Queued waiter which doesn't retry during <code>threadWaitTime</code> after its turn
+ * is considered as dead and removed from queue.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonFairLock extends RedissonLock implements RFairLock {
+
+    // encodes ARGV[2] of script with three keys
+    static final RedisStrictCommand<Boolean> EVAL_BOOLEAN_R2_K3 = new RedisStrictCommand<Boolean>("EVAL", new BooleanReplayConvertor(), 7);
+
+    private static final long THREAD_WAIT_TIME = 5000;
+
+    /**
+     * Removes queued waiters which timeouts are elapsed. ARGV[1] is current time.
+     */
+    static final String REMOVE_STALE_SCRIPT =
+            "while true do " +
+                "local firstThreadId = redis.call('lindex', KEYS[2], 0); " +
+                "if (firstThreadId == false) then " +
+                    "break; " +
+                "end; " +
+                "local timeout = redis.call('zscore', KEYS[3], firstThreadId); " +
+                "if (timeout ~= false and tonumber(timeout) > tonumber(ARGV[1])) then " +
+                    "break; " +
+                "end; " +
+                "redis.call('zrem', KEYS[3], firstThreadId); " +
+                "redis.call('lpop', KEYS[2]); " +
+            "end; ";
+
+    /**
+     * Publishes unlock message to waiter at the head of queue.
+     * ARGV[2] is unlock message and ARGV[3] is channel name prefix.
+     */
+    private static final String NOTIFY_NEXT_SCRIPT =
+            "local nextThreadId = redis.call('lindex', KEYS[2], 0); " +
+            "if (nextThreadId ~= false) then " +
+                "redis.call('publish', ARGV[3] .. ':' .. nextThreadId, ARGV[2]); " +
+            "end; ";
+
+    protected RedissonFairLock(CommandExecutor commandExecutor, String name, UUID id, LockLeaseRenewer leaseRenewer) {
+        // the next owner is chosen by script, so its channel can't be mapped to shared one
+        super(commandExecutor, name, id, leaseRenewer,
+                new NotificationDispatcher(commandExecutor.getConnectionManager(), 0));
+    }
+
+    String getThreadsQueueName() {
+        return "redisson_lock_queue:{" + getName() + "}";
+    }
+
+    String getTimeoutSetName() {
+        return "redisson_lock_timeout:{" + getName() + "}";
+    }
+
+    @Override
+    protected String getEntryName(String lockName) {
+        return getChannelName(lockName);
+    }
+
+    @Override
+    protected String getChannelName(String lockName) {
+        return getChannelName() + ":" + lockName;
+    }
+
+    @Override
+    protected Future<Long> tryLockInnerAsync(long leaseTime, TimeUnit unit, String lockName) {
+        internalLockLeaseTime = unit.toMillis(leaseTime);
+
+        return commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_LONG,
+                REMOVE_STALE_SCRIPT +
+                "if (redis.call('exists', KEYS[1]) == 0) and ((redis.call('exists', KEYS[2]) == 0) " +
+                        "or (redis.call('lindex', KEYS[2], 0) == ARGV[3])) then " +
+                    "redis.call('lpop', KEYS[2]); " +
+                    "redis.call('zrem', KEYS[3], ARGV[3]); " +
+                    "redis.call('hset', KEYS[1], ARGV[3], 1); " +
+                    "redis.call('pexpire', KEYS[1], ARGV[2]); " +
+                    "return nil; " +
+                "end; " +
+                "if (redis.call('hexists', KEYS[1], ARGV[3]) == 1) then " +
+                    "redis.call('hincrby', KEYS[1], ARGV[3], 1); " +
+                    "redis.call('pexpire', KEYS[1], ARGV[2]); " +
+                    "return nil; " +
+                "end; " +
+                "local firstThreadId = redis.call('lindex', KEYS[2], 0); " +
+                "local ttl; " +
+                "if (firstThreadId ~= false and firstThreadId ~= ARGV[3]) then " +
+                    "ttl = tonumber(redis.call('zscore', KEYS[3], firstThreadId)) - tonumber(ARGV[1]); " +
+                "else " +
+                    "ttl = redis.call('pttl', KEYS[1]); " +
+                "end; " +
+                "local timeout = ttl + tonumber(ARGV[4]); " +
+                "if (redis.call('zadd', KEYS[3], timeout + tonumber(ARGV[1]), ARGV[3]) == 1) then " +
+                    "redis.call('rpush', KEYS[2], ARGV[3]); " +
+                "end; " +
+                "if (redis.call('pttl', KEYS[2]) < timeout) then " +
+                    "redis.call('pexpire', KEYS[2], timeout); " +
+                    "redis.call('pexpire', KEYS[3], timeout); " +
+                "end; " +
+                "return ttl;",
+                Arrays.<Object>asList(getName(), getThreadsQueueName(), getTimeoutSetName()),
+                System.currentTimeMillis(), internalLockLeaseTime, lockName, THREAD_WAIT_TIME);
+    }
+
+    @Override
+    protected void acquireFailed(String lockName) {
+        commandExecutor.evalWriteAsync(getName(), EVAL_BOOLEAN_R2_K3,
+                "local firstThreadId = redis.call('lindex', KEYS[2], 0); " +
+                "redis.call('lrem', KEYS[2], 0, ARGV[4]); " +
+                "redis.call('zrem', KEYS[3], ARGV[4]); " +
+                "if (firstThreadId == ARGV[4] and redis.call('exists', KEYS[1]) == 0) then " +
+                    NOTIFY_NEXT_SCRIPT +
+                "end; " +
+                "return true;",
+                Arrays.<Object>asList(getName(), getThreadsQueueName(), getTimeoutSetName()),
+                System.currentTimeMillis(), unlockMessage, getChannelName(), lockName);
+    }
+
+    @Override
+    protected Future<Boolean> unlockInnerAsync(String lockName) {
+        Future<Boolean> future = commandExecutor.evalWriteAsync(getName(), EVAL_BOOLEAN_R2_K3,
+                REMOVE_STALE_SCRIPT +
+                "if (redis.call('exists', KEYS[1]) == 0) then " +
+                    NOTIFY_NEXT_SCRIPT +
+                    "return true; " +
+                "end; " +
+                "if (redis.call('hexists', KEYS[1], ARGV[4]) == 0) then " +
+                    "return nil; " +
+                "end; " +
+                "local counter = redis.call('hincrby', KEYS[1], ARGV[4], -1); " +
+                "if (counter > 0) then " +
+                    "redis.call('pexpire', KEYS[1], ARGV[5]); " +
+                    "return false; " +
+                "end; " +
+                "redis.call('del', KEYS[1]); " +
+                NOTIFY_NEXT_SCRIPT +
+                "return true;",
+                Arrays.<Object>asList(getName(), getThreadsQueueName(), getTimeoutSetName()),
+                System.currentTimeMillis(), unlockMessage, getChannelName(), lockName, internalLockLeaseTime);
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (future.isSuccess() && Boolean.TRUE.equals(future.getNow())) {
+                    stopRefreshTask();
+                }
+            }
+        });
+        return future;
+    }
+
+    @Override
+    protected Future<Boolean> forceUnlockAsync() {
+        stopRefreshTask();
+        return commandExecutor.evalWriteAsync(getName(), EVAL_BOOLEAN_R2_K3,
+                REMOVE_STALE_SCRIPT +
+                "redis.call('del', KEYS[1]); " +
+                NOTIFY_NEXT_SCRIPT +
+                "return true;",
+                Arrays.<Object>asList(getName(), getThreadsQueueName(), getTimeoutSetName()),
+                System.currentTimeMillis(), unlockMessage, getChannelName());
+    }
+
+}
@@ -15,12 +15,12 @@
  */
 package org.redisson;
 
+import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.redisson.client.codec.StringCodec;
@@ -52,28 +52,18 @@ public class RedissonKeys implements RKeys {
     }
 
     @Override
-    public Iterable<String> getKeysByPattern(final String pattern) {
-        List<Iterable<String>> iterables = new ArrayList<Iterable<String>>();
-        for (final ClusterSlotRange slot : commandExecutor.getConnectionManager().getEntries().keySet()) {
-            Iterable<String> iterable = new Iterable<String>() {
-                @Override
-                public Iterator<String> iterator() {
-                    return createKeysIterator(slot.getStartSlot(), pattern);
-                }
-            };
-            iterables.add(iterable);
-        }
-        return new CompositeIterable<String>(iterables);
+    public Iterable<String> getKeysByPattern(String pattern) {
+        return getKeysByPattern(pattern, 0);
     }
 
     @Override
-    public Iterable<String> getKeys() {
+    public Iterable<String> getKeysByPattern(final String pattern, final int count) {
         List<Iterable<String>> iterables = new ArrayList<Iterable<String>>();
         for (final ClusterSlotRange slot : commandExecutor.getConnectionManager().getEntries().keySet()) {
             Iterable<String> iterable = new Iterable<String>() {
                 @Override
                 public Iterator<String> iterator() {
-                    return createKeysIterator(slot.getStartSlot(), null);
+                    return createKeysIterator(slot.getStartSlot(), pattern, count);
                 }
             };
             iterables.add(iterable);
@@ -81,61 +71,41 @@ public class RedissonKeys implements RKeys {
         return new CompositeIterable<String>(iterables);
     }
 
-    private ListScanResult<String> scanIterator(int slot, long startPos, String pattern) {
-        if (pattern == null) {
-            return commandExecutor.write(slot, StringCodec.INSTANCE, RedisCommands.SCAN, startPos);
-        }
-        return commandExecutor.write(slot, StringCodec.INSTANCE, RedisCommands.SCAN, startPos, "MATCH", pattern);
+    @Override
+    public Iterable<String> getKeys() {
+        return getKeysByPattern(null);
     }
 
-    private Iterator<String> createKeysIterator(final int slot, final String pattern) {
-        return new Iterator<String>() {
-
-            private List<String> firstValues;
-            private Iterator<String> iter;
-            private long iterPos;
+    @Override
+    public Iterable<String> getKeys(int count) {
+        return getKeysByPattern(null, count);
+    }
 
-            private boolean removeExecuted;
-            private String value;
+    private Future<ListScanResult<String>> scanIteratorAsync(int slot, long startPos, String pattern, int count) {
+        List<Object> args = new ArrayList<Object>();
+        args.add(startPos);
+        if (pattern != null) {
+            args.add("MATCH");
+            args.add(pattern);
+        }
+        if (count > 0) {
+            args.add("COUNT");
+            args.add(count);
+        }
+        return commandExecutor.writeAsync(slot, StringCodec.INSTANCE, RedisCommands.SCAN, args.toArray());
+    }
 
-            @Override
-            public boolean hasNext() {
-                if (iter == null || !iter.hasNext()) {
-                    ListScanResult<String> res = scanIterator(slot, iterPos, pattern);
-                    if (iterPos == 0 && firstValues == null) {
-                        firstValues = res.getValues();
-                    } else if (res.getValues().equals(firstValues)) {
-                        return false;
-                    }
-                    iter = res.getValues().iterator();
-                    iterPos = res.getPos();
-                }
-                return iter.hasNext();
-            }
+    private Iterator<String> createKeysIterator(final int slot, final String pattern, final int count) {
+        return new RedissonBaseIterator<String, String>(commandExecutor) {
 
             @Override
-            public String next() {
-                if (!hasNext()) {
-                    throw new NoSuchElementException("No such element");
-                }
-
-                value = iter.next();
-                removeExecuted = false;
-                return value;
+            protected Future<ListScanResult<String>> scanIteratorAsync(InetSocketAddress client, long startPos) {
+                return RedissonKeys.this.scanIteratorAsync(slot, startPos, pattern, count);
             }
 
             @Override
-            public void remove() {
-                if (removeExecuted) {
-                    throw new IllegalStateException("Element been already deleted");
-                }
-                if (iter == null) {
-                    throw new IllegalStateException();
-                }
-
-                iter.remove();
+            protected void remove(String value) {
                 delete(value);
-                removeExecuted = true;
             }
 
         };
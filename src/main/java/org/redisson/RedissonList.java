@@ -31,7 +31,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.NoSuchElementException;
+import java.util.UUID;
 
 import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.RedisCommand;
@@ -55,6 +55,8 @@ import io.netty.util.concurrent.Promise;
  */
 public class RedissonList<V> extends RedissonExpirable implements RList<V> {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     protected RedissonList(CommandExecutor commandExecutor, String name) {
         super(commandExecutor, name);
     }
@@ -87,6 +89,11 @@ public class RedissonList<V> extends RedissonExpirable implements RList<V> {
         return listIterator();
     }
 
+    @Override
+    public Iterator<V> iterator(int pageSize) {
+        return listIterator(0, pageSize);
+    }
+
     @Override
     public Object[] toArray() {
         List<V> list = readAll();
@@ -361,13 +368,13 @@ public class RedissonList<V> extends RedissonExpirable implements RList<V> {
             return commandExecutor.write(getName(), codec, LPOP, getName());
         }
 
+        // element is replaced by unique tombstone, which is removed then
         return commandExecutor.evalWrite(getName(), codec, EVAL_OBJECT,
                 "local v = redis.call('lindex', KEYS[1], ARGV[1]); " +
-                        "local tail = redis.call('lrange', KEYS[1], ARGV[1]);" +
-                        "redis.call('ltrim', KEYS[1], 0, ARGV[1] - 1);" +
-                        "for i, v in ipairs(tail) do redis.call('rpush', KEYS[1], v) end;" +
+                        "redis.call('lset', KEYS[1], ARGV[1], ARGV[2]); " +
+                        "redis.call('lrem', KEYS[1], 1, ARGV[2]); " +
                         "return v",
-                Collections.<Object>singletonList(getName()), index);
+                Collections.<Object>singletonList(getName()), index, "redisson__removed__" + UUID.randomUUID());
     }
 
     @Override
@@ -425,98 +432,17 @@ public class RedissonList<V> extends RedissonExpirable implements RList<V> {
     }
 
     @Override
-    public ListIterator<V> listIterator(final int ind) {
-        return new ListIterator<V>() {
-
-            private V prevCurrentValue;
-            private V nextCurrentValue;
-            private V currentValueHasRead;
-            private int currentIndex = ind - 1;
-            private boolean removeExecuted;
-
-            @Override
-            public boolean hasNext() {
-                V val = RedissonList.this.getValue(currentIndex+1);
-                if (val != null) {
-                    nextCurrentValue = val;
-                }
-                return val != null;
-            }
-
-            @Override
-            public V next() {
-                if (nextCurrentValue == null && !hasNext()) {
-                    throw new NoSuchElementException("No such element at index " + currentIndex);
-                }
-                currentIndex++;
-                currentValueHasRead = nextCurrentValue;
-                nextCurrentValue = null;
-                removeExecuted = false;
-                return currentValueHasRead;
-            }
-
-            @Override
-            public void remove() {
-                if (currentValueHasRead == null) {
-                    throw new IllegalStateException("Neither next nor previous have been called");
-                }
-                if (removeExecuted) {
-                    throw new IllegalStateException("Element been already deleted");
-                }
-                RedissonList.this.remove(currentValueHasRead);
-                currentIndex--;
-                removeExecuted = true;
-                currentValueHasRead = null;
-            }
-
-            @Override
-            public boolean hasPrevious() {
-                if (currentIndex < 0) {
-                    return false;
-                }
-                V val = RedissonList.this.getValue(currentIndex);
-                if (val != null) {
-                    prevCurrentValue = val;
-                }
-                return val != null;
-            }
-
-            @Override
-            public V previous() {
-                if (prevCurrentValue == null && !hasPrevious()) {
-                    throw new NoSuchElementException("No such element at index " + currentIndex);
-                }
-                currentIndex--;
-                removeExecuted = false;
-                currentValueHasRead = prevCurrentValue;
-                prevCurrentValue = null;
-                return currentValueHasRead;
-            }
-
-            @Override
-            public int nextIndex() {
-                return currentIndex + 1;
-            }
-
-            @Override
-            public int previousIndex() {
-                return currentIndex;
-            }
+    public ListIterator<V> listIterator(int ind) {
+        return listIterator(ind, DEFAULT_PAGE_SIZE);
+    }
 
-            @Override
-            public void set(V e) {
-                if (currentIndex >= size()-1) {
-                    throw new IllegalStateException();
-                }
-                RedissonList.this.set(currentIndex, e);
-            }
+    @Override
+    public ListIterator<V> listIterator(int ind, int pageSize) {
+        return new RedissonListIterator<V>(this, ind, pageSize);
+    }
 
-            @Override
-            public void add(V e) {
-                RedissonList.this.add(currentIndex+1, e);
-                currentIndex++;
-            }
-        };
+    Future<List<V>> rangeAsync(int fromIndex, int toIndex) {
+        return commandExecutor.readAsync(getName(), codec, LRANGE, getName(), fromIndex, toIndex);
     }
 
     @Override
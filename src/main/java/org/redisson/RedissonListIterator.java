@@ -0,0 +1,209 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+import io.netty.util.concurrent.Future;
+
+/**
+ * List iterator which loads elements by pages using <code>LRANGE</code>.
+ * Next page is requested asynchronously as soon as current page has been loaded.
+ * Modifications made through the iterator are applied to loaded pages as well.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+public class RedissonListIterator<V> implements ListIterator<V> {
+
+    private final RedissonList<V> list;
+    private final int pageSize;
+
+    private List<V> page;
+    private int pageStart;
+
+    private Future<List<V>> prefetch;
+    private int prefetchStart;
+
+    private int currentIndex;
+    /**
+     * Index of element returned by last call to next or previous,
+     * <code>-1</code> if it has been removed or element was added
+     */
+    private int lastReturnedIndex = -1;
+
+    public RedissonListIterator(RedissonList<V> list, int index, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize should be greater than 0");
+        }
+        this.list = list;
+        this.pageSize = pageSize;
+        this.currentIndex = index - 1;
+    }
+
+    private boolean inPage(int index) {
+        return page != null && index >= pageStart && index < pageStart + page.size();
+    }
+
+    private V getValue(int index) {
+        if (index < 0) {
+            return null;
+        }
+
+        if (!inPage(index) && prefetch != null
+                && index >= prefetchStart && index < prefetchStart + pageSize) {
+            page = list.get(prefetch);
+            pageStart = prefetchStart;
+            prefetch = null;
+            prefetchNext();
+        }
+
+        if (!inPage(index)) {
+            int start = index;
+            if (page != null && index < pageStart) {
+                // iterating backwards
+                start = Math.max(0, index - pageSize + 1);
+            }
+            page = list.get(list.rangeAsync(start, start + pageSize - 1));
+            pageStart = start;
+            prefetch = null;
+            if (start == index) {
+                prefetchNext();
+            }
+        }
+
+        if (!inPage(index)) {
+            return null;
+        }
+        return page.get(index - pageStart);
+    }
+
+    private void prefetchNext() {
+        if (page.size() < pageSize) {
+            return;
+        }
+        prefetchStart = pageStart + page.size();
+        prefetch = list.rangeAsync(prefetchStart, prefetchStart + pageSize - 1);
+    }
+
+    private void onAdd(int index, V value) {
+        if (page != null && index >= pageStart && index <= pageStart + page.size()) {
+            page.add(index - pageStart, value);
+        } else {
+            page = null;
+        }
+        // prefetched page is valid only if it was read before modification
+        if (prefetch != null) {
+            if (!prefetch.isDone() || index > prefetchStart) {
+                prefetch = null;
+            } else {
+                prefetchStart++;
+            }
+        }
+    }
+
+    private void onRemove(int index) {
+        if (inPage(index)) {
+            page.remove(index - pageStart);
+        } else {
+            page = null;
+        }
+        if (prefetch != null) {
+            if (!prefetch.isDone() || index >= prefetchStart) {
+                prefetch = null;
+            } else {
+                prefetchStart--;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return getValue(currentIndex + 1) != null;
+    }
+
+    @Override
+    public V next() {
+        V value = getValue(currentIndex + 1);
+        if (value == null) {
+            throw new NoSuchElementException("No such element at index " + currentIndex);
+        }
+        currentIndex++;
+        lastReturnedIndex = currentIndex;
+        return value;
+    }
+
+    @Override
+    public void remove() {
+        if (lastReturnedIndex < 0) {
+            throw new IllegalStateException("Neither next nor previous have been called after last remove or add");
+        }
+        // removed by index, value could be duplicated in list
+        list.remove(lastReturnedIndex);
+        onRemove(lastReturnedIndex);
+        currentIndex = lastReturnedIndex - 1;
+        lastReturnedIndex = -1;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return getValue(currentIndex) != null;
+    }
+
+    @Override
+    public V previous() {
+        V value = getValue(currentIndex);
+        if (value == null) {
+            throw new NoSuchElementException("No such element at index " + currentIndex);
+        }
+        lastReturnedIndex = currentIndex;
+        currentIndex--;
+        return value;
+    }
+
+    @Override
+    public int nextIndex() {
+        return currentIndex + 1;
+    }
+
+    @Override
+    public int previousIndex() {
+        return currentIndex;
+    }
+
+    @Override
+    public void set(V e) {
+        if (lastReturnedIndex < 0) {
+            throw new IllegalStateException();
+        }
+        list.set(lastReturnedIndex, e);
+        if (inPage(lastReturnedIndex)) {
+            page.set(lastReturnedIndex - pageStart, e);
+        }
+    }
+
+    @Override
+    public void add(V e) {
+        list.add(currentIndex+1, e);
+        onAdd(currentIndex+1, e);
+        currentIndex++;
+        lastReturnedIndex = -1;
+    }
+
+}
@@ -19,6 +19,8 @@ import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 
 import org.redisson.client.BaseRedisPubSubListener;
@@ -30,6 +32,7 @@ import org.redisson.core.RLock;
 import io.netty.util.Timeout;
 import io.netty.util.TimerTask;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.internal.PlatformDependent;
 
@@ -44,39 +47,67 @@ import io.netty.util.internal.PlatformDependent;
 public class RedissonLock extends RedissonExpirable implements RLock {
 
     public static final long LOCK_EXPIRATION_INTERVAL_SECONDS = 30;
-    private static final ConcurrentMap<String, Timeout> refreshTaskMap = PlatformDependent.newConcurrentHashMap();
+    private static final String OWNER_TOKEN_PREFIX = "token:";
     protected long internalLockLeaseTime = TimeUnit.SECONDS.toMillis(LOCK_EXPIRATION_INTERVAL_SECONDS);
 
     private final UUID id;
+    private final LockLeaseRenewer leaseRenewer;
+    protected final NotificationDispatcher notificationDispatcher;
 
-    private static final Integer unlockMessage = 0;
+    protected static final Integer unlockMessage = 0;
+
+    /**
+     * Converts lock state stored as cjson string by previous versions
+     * into hash of owner to hold count. Lock ttl is preserved.
+     */
+    private static final String MIGRATE_SCRIPT =
+            "if (redis.call('type', KEYS[1]).ok == 'string') then " +
+                "local o = cjson.decode(redis.call('get', KEYS[1])); " +
+                "local ttl = redis.call('pttl', KEYS[1]); " +
+                "redis.call('del', KEYS[1]); " +
+                "redis.call('hset', KEYS[1], o['o'], o['c']); " +
+                "if (ttl > 0) then " +
+                    "redis.call('pexpire', KEYS[1], ttl); " +
+                "end; " +
+            "end; ";
 
     private static final ConcurrentMap<String, RedissonLockEntry> ENTRIES = PlatformDependent.newConcurrentHashMap();
 
-    protected RedissonLock(CommandExecutor commandExecutor, String name, UUID id) {
+    protected RedissonLock(CommandExecutor commandExecutor, String name, UUID id,
+                            LockLeaseRenewer leaseRenewer, NotificationDispatcher notificationDispatcher) {
         super(commandExecutor, name);
         this.id = id;
+        this.leaseRenewer = leaseRenewer;
+        this.notificationDispatcher = notificationDispatcher;
     }
 
-    private void unsubscribe(RedissonLockEntry entry) {
+    private void unsubscribe(RedissonLockEntry entry, String lockName) {
         synchronized (ENTRIES) {
             if (entry.release() == 0) {
                 // just an assertion
-                boolean removed = ENTRIES.remove(getEntryName()) == entry;
+                boolean removed = ENTRIES.remove(getEntryName(lockName)) == entry;
                 if (removed) {
-                    commandExecutor.getConnectionManager().unsubscribe(getChannelName());
+                    notificationDispatcher.unsubscribe(getChannelName(lockName), entry.getListener());
                 }
             }
         }
     }
 
-    private String getEntryName() {
+    /**
+     * Returns name of local entry shared by waiters of <code>lockName</code>
+     *
+     * @param lockName
+     * @return
+     */
+    protected String getEntryName(String lockName) {
         return id + ":" + getName();
     }
 
-    private Future<RedissonLockEntry> subscribe() {
+    private Future<RedissonLockEntry> subscribe(String lockName) {
+        final String entryName = getEntryName(lockName);
+        final String channelName = getChannelName(lockName);
         synchronized (ENTRIES) {
-            RedissonLockEntry entry = ENTRIES.get(getEntryName());
+            RedissonLockEntry entry = ENTRIES.get(entryName);
             if (entry != null) {
                 entry.aquire();
                 return entry.getPromise();
@@ -86,7 +117,7 @@ public class RedissonLock extends RedissonExpirable implements RLock {
             final RedissonLockEntry value = new RedissonLockEntry(newPromise);
             value.aquire();
 
-            RedissonLockEntry oldValue = ENTRIES.putIfAbsent(getEntryName(), value);
+            RedissonLockEntry oldValue = ENTRIES.putIfAbsent(entryName, value);
             if (oldValue != null) {
                 oldValue.aquire();
                 return oldValue.getPromise();
@@ -96,14 +127,22 @@ public class RedissonLock extends RedissonExpirable implements RLock {
 
                 @Override
                 public void onMessage(String channel, Integer message) {
-                    if (message.equals(unlockMessage) && getChannelName().equals(channel)) {
-                        value.getLatch().release();
+                    if (message.equals(unlockMessage) && channelName.equals(channel)) {
+                        // permits are consumed only by blocked threads
+                        if (value.hasSyncWaiters()) {
+                            value.getLatch().release();
+                        }
+
+                        Runnable runnable = value.getListeners().poll();
+                        if (runnable != null) {
+                            runnable.run();
+                        }
                     }
                 }
 
                 @Override
                 public boolean onStatus(PubSubType type, String channel) {
-                    if (channel.equals(getChannelName())
+                    if (channel.equals(channelName)
                             && type == PubSubType.SUBSCRIBE) {
                         value.getPromise().trySuccess(value);
                         return true;
@@ -113,15 +152,34 @@ public class RedissonLock extends RedissonExpirable implements RLock {
 
             };
 
-            commandExecutor.getConnectionManager().subscribe(listener, getChannelName());
+            value.setListener(listener);
+            notificationDispatcher.subscribe(channelName, listener);
             return newPromise;
         }
     }
 
-    private String getChannelName() {
+    protected String getChannelName() {
         return "redisson__lock__channel__{" + getName() + "}";
     }
 
+    /**
+     * Returns channel used to notify waiter of <code>lockName</code>
+     *
+     * @param lockName
+     * @return
+     */
+    protected String getChannelName(String lockName) {
+        return getChannelName();
+    }
+
+    /**
+     * Invoked when waiter of <code>lockName</code> gives up lock acquisition
+     *
+     * @param lockName
+     */
+    protected void acquireFailed(String lockName) {
+    }
+
     @Override
     public void lock() {
         try {
@@ -159,8 +217,10 @@ public class RedissonLock extends RedissonExpirable implements RLock {
             return;
         }
 
-        Future<RedissonLockEntry> future = subscribe();
+        String lockName = getLockName(currentOwnerToken());
+        Future<RedissonLockEntry> future = subscribe(lockName);
         future.syncUninterruptibly();
+        future.getNow().addSyncWaiter();
 
         try {
             while (true) {
@@ -175,21 +235,29 @@ public class RedissonLock extends RedissonExpirable implements RLock {
                 }
 
                 // waiting for message
-                RedissonLockEntry entry = ENTRIES.get(getEntryName());
+                RedissonLockEntry entry = ENTRIES.get(getEntryName(lockName));
                 if (ttl >= 0) {
                     entry.getLatch().tryAcquire(ttl, TimeUnit.MILLISECONDS);
                 } else {
                     entry.getLatch().acquire();
                 }
             }
+        } catch (InterruptedException e) {
+            acquireFailed(lockName);
+            throw e;
         } finally {
-            unsubscribe(future.getNow());
+            future.getNow().removeSyncWaiter();
+            unsubscribe(future.getNow(), lockName);
         }
     }
 
     @Override
     public boolean tryLock() {
-        return tryLockInner() == null;
+        if (tryLockInner() == null) {
+            return true;
+        }
+        acquireFailed(getLockName(currentOwnerToken()));
+        return false;
     }
 
     private Long tryLockInner() {
@@ -202,53 +270,74 @@ public class RedissonLock extends RedissonExpirable implements RLock {
     }
 
     private void newRefreshTask() {
-        if (refreshTaskMap.containsKey(getName())) {
-            return;
+        leaseRenewer.add(getName());
+    }
+
+    /**
+     * Stop lease renewal
+     */
+    protected void stopRefreshTask() {
+        leaseRenewer.remove(getName());
+    }
+
+    private Long tryLockInner(final long leaseTime, final TimeUnit unit) {
+        return get(tryLockInnerAsync(leaseTime, unit, getLockName(currentOwnerToken())));
+    }
+
+    protected Future<Long> tryLockInnerAsync(final long leaseTime, final TimeUnit unit, String lockName) {
+        internalLockLeaseTime = unit.toMillis(leaseTime);
+
+        return commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_LONG,
+                "if (redis.call('exists', KEYS[1]) == 0) then " +
+                    "redis.call('hset', KEYS[1], ARGV[1], 1); " +
+                    "redis.call('pexpire', KEYS[1], ARGV[2]); " +
+                    "return nil; " +
+                "end; " +
+                MIGRATE_SCRIPT +
+                "if (redis.call('hexists', KEYS[1], ARGV[1]) == 1) then " +
+                    "redis.call('hincrby', KEYS[1], ARGV[1], 1); " +
+                    "redis.call('pexpire', KEYS[1], ARGV[2]); " +
+                    "return nil; " +
+                "end; " +
+                "return redis.call('pttl', KEYS[1]);",
+                        Collections.<Object>singletonList(getName()), lockName, internalLockLeaseTime);
+    }
+
+    private Future<Long> tryAcquireAsync(long leaseTime, TimeUnit unit, String lockName) {
+        if (leaseTime != -1) {
+            return tryLockInnerAsync(leaseTime, unit, lockName);
         }
 
-        Timeout task = commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+        Future<Long> ttlFuture = tryLockInnerAsync(LOCK_EXPIRATION_INTERVAL_SECONDS, TimeUnit.SECONDS, lockName);
+        ttlFuture.addListener(new FutureListener<Long>() {
             @Override
-            public void run(Timeout timeout) throws Exception {
-                expire(internalLockLeaseTime, TimeUnit.MILLISECONDS);
-                refreshTaskMap.remove(getName());
-                newRefreshTask(); // reschedule itself
+            public void operationComplete(Future<Long> future) throws Exception {
+                // lock acquired
+                if (future.isSuccess() && future.getNow() == null) {
+                    newRefreshTask();
+                }
             }
-        }, internalLockLeaseTime / 3, TimeUnit.MILLISECONDS);
+        });
+        return ttlFuture;
+    }
 
-        if (refreshTaskMap.putIfAbsent(getName(), task) != null) {
-            task.cancel();
-        }
+    protected String getLockName(String ownerToken) {
+        return id.toString() + "-" + ownerToken;
     }
 
     /**
-     * Stop refresh timer
-     * @return true if timer was stopped successfully
+     * Returns lock name for explicit owner token.
+     * Prefix separates it from thread id based names.
+     *
+     * @param ownerToken
+     * @return
      */
-    private void stopRefreshTask() {
-        Timeout task = refreshTaskMap.remove(getName());
-        if (task != null) {
-            task.cancel();
-        }
+    private String getTokenLockName(String ownerToken) {
+        return getLockName(OWNER_TOKEN_PREFIX + ownerToken);
     }
 
-
-    private Long tryLockInner(final long leaseTime, final TimeUnit unit) {
-        internalLockLeaseTime = unit.toMillis(leaseTime);
-
-        return commandExecutor.evalWrite(getName(), RedisCommands.EVAL_LONG,
-                "local v = redis.call('get', KEYS[1]); " +
-                                "if (v == false) then " +
-                                "  redis.call('set', KEYS[1], cjson.encode({['o'] = ARGV[1], ['c'] = 1}), 'px', ARGV[2]); " +
-                                "  return nil; " +
-                                "else " +
-                                "  local o = cjson.decode(v); " +
-                                "  if (o['o'] == ARGV[1]) then " +
-                                "    o['c'] = o['c'] + 1; redis.call('set', KEYS[1], cjson.encode(o), 'px', ARGV[2]); " +
-                                "    return nil; " +
-                                "  end;" +
-                                "  return redis.call('pttl', KEYS[1]); " +
-                                "end",
-                        Collections.<Object>singletonList(getName()), id.toString() + "-" + Thread.currentThread().getId(), internalLockLeaseTime);
+    private String currentOwnerToken() {
+        return String.valueOf(Thread.currentThread().getId());
     }
 
     public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
@@ -264,11 +353,22 @@ public class RedissonLock extends RedissonExpirable implements RLock {
             return true;
         }
 
-        Future<RedissonLockEntry> future = subscribe();
+        final String lockName = getLockName(currentOwnerToken());
+        final Future<RedissonLockEntry> future = subscribe(lockName);
         if (!future.awaitUninterruptibly(time, TimeUnit.MILLISECONDS)) {
+            future.addListener(new FutureListener<RedissonLockEntry>() {
+                @Override
+                public void operationComplete(Future<RedissonLockEntry> future) throws Exception {
+                    if (future.isSuccess()) {
+                        unsubscribe(future.getNow(), lockName);
+                    }
+                }
+            });
+            acquireFailed(lockName);
             return false;
         }
 
+        future.getNow().addSyncWaiter();
         try {
             while (true) {
                 if (leaseTime != -1) {
@@ -282,12 +382,13 @@ public class RedissonLock extends RedissonExpirable implements RLock {
                 }
 
                 if (time <= 0) {
+                    acquireFailed(lockName);
                     return false;
                 }
 
                 // waiting for message
                 long current = System.currentTimeMillis();
-                RedissonLockEntry entry = ENTRIES.get(getEntryName());
+                RedissonLockEntry entry = ENTRIES.get(getEntryName(lockName));
 
                 if (ttl >= 0 && ttl < time) {
                     entry.getLatch().tryAcquire(ttl, TimeUnit.MILLISECONDS);
@@ -299,8 +400,12 @@ public class RedissonLock extends RedissonExpirable implements RLock {
                 time -= elapsed;
             }
             return true;
+        } catch (InterruptedException e) {
+            acquireFailed(lockName);
+            throw e;
         } finally {
-            unsubscribe(future.getNow());
+            future.getNow().removeSyncWaiter();
+            unsubscribe(future.getNow(), lockName);
         }
     }
 
@@ -311,34 +416,274 @@ public class RedissonLock extends RedissonExpirable implements RLock {
 
     @Override
     public void unlock() {
-        Boolean opStatus = commandExecutor.evalWrite(getName(), RedisCommands.EVAL_BOOLEAN_R2,
-                "local v = redis.call('get', KEYS[1]); " +
-                                "if (v == false) then " +
-                                "  redis.call('publish', ARGV[4], ARGV[2]); " +
-                                "  return true; " +
-                                "else " +
-                                "  local o = cjson.decode(v); " +
-                                "  if (o['o'] == ARGV[1]) then " +
-                                "    o['c'] = o['c'] - 1; " +
-                                "    if (o['c'] > 0) then " +
-                                "      redis.call('set', KEYS[1], cjson.encode(o), 'px', ARGV[3]); " +
-                                "      return false;"+
-                                "    else " +
-                                "      redis.call('del', KEYS[1]);" +
-                                "      redis.call('publish', ARGV[4], ARGV[2]); " +
-                                "      return true;"+
-                                "    end" +
-                                "  end;" +
-                                "  return nil; " +
-                                "end",
-                        Collections.<Object>singletonList(getName()), id.toString() + "-" + Thread.currentThread().getId(), unlockMessage, internalLockLeaseTime, getChannelName());
+        Boolean opStatus = get(unlockInnerAsync(getLockName(currentOwnerToken())));
         if (opStatus == null) {
             throw new IllegalStateException("Can't unlock lock Current id: "
                     + id + " thread-id: " + Thread.currentThread().getId());
         }
-        if (opStatus) {
-            stopRefreshTask();
+    }
+
+    protected Future<Boolean> unlockInnerAsync(String lockName) {
+        Future<Boolean> future = commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_BOOLEAN_R2,
+                "if (redis.call('exists', KEYS[1]) == 0) then " +
+                    "redis.call('publish', ARGV[4], ARGV[2]); " +
+                    "return true; " +
+                "end; " +
+                MIGRATE_SCRIPT +
+                "if (redis.call('hexists', KEYS[1], ARGV[1]) == 0) then " +
+                    "return nil; " +
+                "end; " +
+                "local counter = redis.call('hincrby', KEYS[1], ARGV[1], -1); " +
+                "if (counter > 0) then " +
+                    "redis.call('pexpire', KEYS[1], ARGV[3]); " +
+                    "return false; " +
+                "else " +
+                    "redis.call('del', KEYS[1]); " +
+                    "redis.call('publish', ARGV[4], ARGV[2]); " +
+                    "return true; " +
+                "end;",
+                        Collections.<Object>singletonList(getName()), lockName, notificationDispatcher.getMessage(getChannelName(), unlockMessage),
+                        internalLockLeaseTime, notificationDispatcher.getChannel(getChannelName()));
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (future.isSuccess() && Boolean.TRUE.equals(future.getNow())) {
+                    stopRefreshTask();
+                }
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public Future<Void> unlockAsync() {
+        return unlockAsyncByName(getLockName(currentOwnerToken()), currentOwnerToken());
+    }
+
+    @Override
+    public Future<Void> unlockAsync(String ownerToken) {
+        return unlockAsyncByName(getTokenLockName(ownerToken), ownerToken);
+    }
+
+    private Future<Void> unlockAsyncByName(String lockName, final String ownerToken) {
+        final Promise<Void> result = newPromise();
+        Future<Boolean> future = unlockInnerAsync(lockName);
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                if (future.getNow() == null) {
+                    result.tryFailure(new IllegalStateException("Can't unlock lock Current id: "
+                            + id + " owner-token: " + ownerToken));
+                    return;
+                }
+                result.trySuccess(null);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public Future<Void> lockAsync() {
+        return lockAsync(-1, null);
+    }
+
+    @Override
+    public Future<Void> lockAsync(long leaseTime, TimeUnit unit) {
+        return lockAsyncByName(leaseTime, unit, getLockName(currentOwnerToken()));
+    }
+
+    @Override
+    public Future<Void> lockAsync(long leaseTime, TimeUnit unit, String ownerToken) {
+        return lockAsyncByName(leaseTime, unit, getTokenLockName(ownerToken));
+    }
+
+    private Future<Void> lockAsyncByName(long leaseTime, TimeUnit unit, String lockName) {
+        final Promise<Void> result = newPromise();
+        Future<Boolean> future = tryLockAsyncByName(-1, leaseTime, unit, lockName);
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                result.trySuccess(null);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public Future<Boolean> tryLockAsync() {
+        return tryLockAsync(0, -1, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Future<Boolean> tryLockAsync(long waitTime, long leaseTime, TimeUnit unit) {
+        return tryLockAsyncByName(waitTime, leaseTime, unit, getLockName(currentOwnerToken()));
+    }
+
+    @Override
+    public Future<Boolean> tryLockAsync(long waitTime, long leaseTime, TimeUnit unit, String ownerToken) {
+        return tryLockAsyncByName(waitTime, leaseTime, unit, getTokenLockName(ownerToken));
+    }
+
+    private Future<Boolean> tryLockAsyncByName(long waitTime, final long leaseTime, final TimeUnit unit, final String lockName) {
+        final Promise<Boolean> result = newPromise();
+        // -1 means wait until lock acquired
+        final long deadline;
+        if (waitTime == -1) {
+            deadline = -1;
+        } else {
+            deadline = System.currentTimeMillis() + unit.toMillis(waitTime);
+        }
+
+        Future<Long> ttlFuture = tryAcquireAsync(leaseTime, unit, lockName);
+        ttlFuture.addListener(new FutureListener<Long>() {
+            @Override
+            public void operationComplete(Future<Long> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                // lock acquired
+                if (future.getNow() == null) {
+                    result.trySuccess(true);
+                    return;
+                }
+
+                if (deadline != -1 && System.currentTimeMillis() >= deadline) {
+                    acquireFailed(lockName);
+                    result.trySuccess(false);
+                    return;
+                }
+
+                subscribeAsync(leaseTime, unit, lockName, deadline, result);
+            }
+        });
+        return result;
+    }
+
+    private void subscribeAsync(final long leaseTime, final TimeUnit unit, final String lockName,
+                                    final long deadline, final Promise<Boolean> result) {
+        final Future<RedissonLockEntry> subscribeFuture = subscribe(lockName);
+        final AtomicReference<Timeout> timeoutRef = new AtomicReference<Timeout>();
+        if (deadline != -1) {
+            Timeout timeout = commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+                @Override
+                public void run(Timeout timeout) throws Exception {
+                    if (result.trySuccess(false)) {
+                        acquireFailed(lockName);
+                        subscribeFuture.addListener(new FutureListener<RedissonLockEntry>() {
+                            @Override
+                            public void operationComplete(Future<RedissonLockEntry> future) throws Exception {
+                                unsubscribe(future.getNow(), lockName);
+                            }
+                        });
+                    }
+                }
+            }, Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            timeoutRef.set(timeout);
         }
+
+        subscribeFuture.addListener(new FutureListener<RedissonLockEntry>() {
+            @Override
+            public void operationComplete(Future<RedissonLockEntry> future) throws Exception {
+                if (timeoutRef.get() != null && !timeoutRef.get().cancel()) {
+                    // wait time elapsed during subscription
+                    return;
+                }
+                if (result.isDone()) {
+                    unsubscribe(future.getNow(), lockName);
+                    return;
+                }
+
+                acquireAsync(future.getNow(), leaseTime, unit, lockName, deadline, result);
+            }
+        });
+    }
+
+    /**
+     * Retries lock acquisition each time unlock message received
+     * or when lock ttl has expired. No thread is blocked during waiting.
+     */
+    private void acquireAsync(final RedissonLockEntry entry, final long leaseTime, final TimeUnit unit, final String lockName,
+                                final long deadline, final Promise<Boolean> result) {
+        Future<Long> ttlFuture = tryAcquireAsync(leaseTime, unit, lockName);
+        ttlFuture.addListener(new FutureListener<Long>() {
+            @Override
+            public void operationComplete(Future<Long> future) throws Exception {
+                if (!future.isSuccess()) {
+                    unsubscribe(entry, lockName);
+                    acquireFailed(lockName);
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                Long ttl = future.getNow();
+                // lock acquired
+                if (ttl == null) {
+                    unsubscribe(entry, lockName);
+                    if (!result.trySuccess(true)) {
+                        // result has been completed already
+                        unlockInnerAsync(lockName);
+                    }
+                    return;
+                }
+
+                long waitTime = ttl;
+                if (ttl < 0) {
+                    // lock without expiration, retry after lease time
+                    if (leaseTime != -1) {
+                        waitTime = unit.toMillis(leaseTime);
+                    } else {
+                        waitTime = TimeUnit.SECONDS.toMillis(LOCK_EXPIRATION_INTERVAL_SECONDS);
+                    }
+                }
+                if (deadline != -1) {
+                    long remainTime = deadline - System.currentTimeMillis();
+                    if (remainTime <= 0) {
+                        unsubscribe(entry, lockName);
+                        acquireFailed(lockName);
+                        result.trySuccess(false);
+                        return;
+                    }
+                    waitTime = Math.min(waitTime, remainTime);
+                }
+
+                final AtomicBoolean executed = new AtomicBoolean();
+                final AtomicReference<Timeout> timeoutRef = new AtomicReference<Timeout>();
+                final Runnable listener = new Runnable() {
+                    @Override
+                    public void run() {
+                        if (!executed.compareAndSet(false, true)) {
+                            return;
+                        }
+                        entry.removeListener(this);
+                        if (timeoutRef.get() != null) {
+                            timeoutRef.get().cancel();
+                        }
+                        acquireAsync(entry, leaseTime, unit, lockName, deadline, result);
+                    }
+                };
+                // waiting for message
+                entry.addListener(listener);
+
+                Timeout timeout = commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+                    @Override
+                    public void run(Timeout timeout) throws Exception {
+                        listener.run();
+                    }
+                }, waitTime, TimeUnit.MILLISECONDS);
+                timeoutRef.set(timeout);
+            }
+        });
     }
 
     @Override
@@ -352,11 +697,12 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         get(forceUnlockAsync());
     }
 
-    private Future<Boolean> forceUnlockAsync() {
+    protected Future<Boolean> forceUnlockAsync() {
         stopRefreshTask();
         return commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_BOOLEAN_R1,
                 "redis.call('del', KEYS[1]); redis.call('publish', ARGV[2], ARGV[1]); return true",
-                        Collections.<Object>singletonList(getName()), unlockMessage, getChannelName());
+                        Collections.<Object>singletonList(getName()), notificationDispatcher.getMessage(getChannelName(), unlockMessage),
+                        notificationDispatcher.getChannel(getChannelName()));
     }
 
     @Override
@@ -367,32 +713,34 @@ public class RedissonLock extends RedissonExpirable implements RLock {
     @Override
     public boolean isHeldByCurrentThread() {
         Boolean opStatus = commandExecutor.evalRead(getName(), RedisCommands.EVAL_BOOLEAN,
-                            "local v = redis.call('get', KEYS[1]); " +
-                                "if (v == false) then " +
-                                "  return false; " +
-                                "else " +
-                                "  local o = cjson.decode(v); " +
-                                "  if (o['o'] == ARGV[1]) then " +
-                                "    return true; " +
-                                "  else" +
-                                "    return false; " +
-                                "  end;" +
-                                "end",
-                        Collections.<Object>singletonList(getName()), id.toString() + "-" + Thread.currentThread().getId());
+                "if (redis.call('type', KEYS[1]).ok == 'string') then " +
+                    "local o = cjson.decode(redis.call('get', KEYS[1])); " +
+                    "if (o['o'] == ARGV[1]) then " +
+                        "return 1; " +
+                    "end; " +
+                    "return 0; " +
+                "end; " +
+                "return redis.call('hexists', KEYS[1], ARGV[1]);",
+                        Collections.<Object>singletonList(getName()), getLockName(currentOwnerToken()));
         return opStatus;
     }
 
     @Override
     public int getHoldCount() {
         Long opStatus = commandExecutor.evalRead(getName(), RedisCommands.EVAL_LONG,
-                "local v = redis.call('get', KEYS[1]); " +
-                                "if (v == false) then " +
-                                "  return 0; " +
-                                "else " +
-                                "  local o = cjson.decode(v); " +
-                                "  return o['c']; " +
-                                "end",
-                        Collections.<Object>singletonList(getName()));
+                "if (redis.call('type', KEYS[1]).ok == 'string') then " +
+                    "local o = cjson.decode(redis.call('get', KEYS[1])); " +
+                    "if (o['o'] == ARGV[1]) then " +
+                        "return o['c']; " +
+                    "end; " +
+                    "return 0; " +
+                "end; " +
+                "local counter = redis.call('hget', KEYS[1], ARGV[1]); " +
+                "if (counter == false) then " +
+                    "return 0; " +
+                "end; " +
+                "return tonumber(counter);",
+                        Collections.<Object>singletonList(getName()), getLockName(currentOwnerToken()));
         return opStatus.intValue();
     }
 
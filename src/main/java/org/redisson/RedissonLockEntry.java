@@ -15,9 +15,14 @@
  */
 package org.redisson;
 
+import org.redisson.client.RedisPubSubListener;
+
 import io.netty.util.concurrent.Promise;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class RedissonLockEntry {
 
@@ -25,17 +30,24 @@ public class RedissonLockEntry {
 
     private final Semaphore latch;
     private final Promise<RedissonLockEntry> promise;
+    private RedisPubSubListener<Integer> listener;
+    private final Queue<Runnable> listeners;
+    private final AtomicInteger syncWaiters;
 
     public RedissonLockEntry(RedissonLockEntry source) {
         counter = source.counter;
         latch = source.latch;
         promise = source.promise;
+        listeners = source.listeners;
+        syncWaiters = source.syncWaiters;
     }
 
     public RedissonLockEntry(Promise<RedissonLockEntry> promise) {
         super();
         this.latch = new Semaphore(0);
         this.promise = promise;
+        this.listeners = new ConcurrentLinkedQueue<Runnable>();
+        this.syncWaiters = new AtomicInteger();
     }
 
     public void aquire() {
@@ -46,6 +58,14 @@ public class RedissonLockEntry {
         return --counter;
     }
 
+    public RedisPubSubListener<Integer> getListener() {
+        return listener;
+    }
+
+    public void setListener(RedisPubSubListener<Integer> listener) {
+        this.listener = listener;
+    }
+
     public Promise<RedissonLockEntry> getPromise() {
         return promise;
     }
@@ -54,6 +74,39 @@ public class RedissonLockEntry {
         return latch;
     }
 
+    /**
+     * Listeners of async waiters. One listener is executed per unlock message.
+     *
+     * @return
+     */
+    public Queue<Runnable> getListeners() {
+        return listeners;
+    }
+
+    /**
+     * Registers thread blocked on latch.
+     * Latch permits are released only if such threads exist.
+     */
+    public void addSyncWaiter() {
+        syncWaiters.incrementAndGet();
+    }
+
+    public void removeSyncWaiter() {
+        syncWaiters.decrementAndGet();
+    }
+
+    public boolean hasSyncWaiters() {
+        return syncWaiters.get() > 0;
+    }
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public boolean removeListener(Runnable listener) {
+        return listeners.remove(listener);
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
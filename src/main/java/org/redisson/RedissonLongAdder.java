@@ -0,0 +1,100 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.core.RLongAdder;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Long adder backed by {@link RedissonCounterBuffer}. Increments are buffered by counter buffer
+ * shared with other adders of the same {@link Redisson} instance and flush settings,
+ * so adder instance could be created on each use.
+ *
+ */
+public class RedissonLongAdder extends RedissonExpirable implements RLongAdder {
+
+    private final RedissonCounterBuffer buffer;
+    private final RedissonCounterBuffer.Counter counter;
+
+    protected RedissonLongAdder(CommandExecutor commandExecutor, String name, RedissonCounterBuffer buffer) {
+        super(commandExecutor, name);
+        this.buffer = buffer;
+        this.counter = new RedissonCounterBuffer.Counter(null, name);
+    }
+
+    @Override
+    public void add(long delta) {
+        buffer.add(counter, delta);
+    }
+
+    @Override
+    public void increment() {
+        add(1);
+    }
+
+    @Override
+    public void decrement() {
+        add(-1);
+    }
+
+    @Override
+    public long sum() {
+        return get(sumAsync());
+    }
+
+    @Override
+    public Future<Long> sumAsync() {
+        final Promise<Long> result = newPromise();
+        flushAsync().addListener(new FutureListener<Void>() {
+            @Override
+            public void operationComplete(Future<Void> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.setFailure(future.cause());
+                    return;
+                }
+
+                Future<Long> f = commandExecutor.writeAsync(getName(), StringCodec.INSTANCE, RedisCommands.GET_LONG, getName());
+                f.addListener(new FutureListener<Long>() {
+                    @Override
+                    public void operationComplete(Future<Long> future) throws Exception {
+                        if (!future.isSuccess()) {
+                            result.setFailure(future.cause());
+                            return;
+                        }
+                        result.setSuccess(future.getNow());
+                    }
+                });
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void flush() {
+        get(flushAsync());
+    }
+
+    @Override
+    public Future<Void> flushAsync() {
+        return buffer.flushAsync();
+    }
+
+}
@@ -58,6 +58,30 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
     private static final RedisCommand<Long> EVAL_REMOVE_VALUE = new RedisCommand<Long>("EVAL", new LongReplayConvertor(), 4, ValueType.MAP);
     private static final RedisCommand<Object> EVAL_PUT = EVAL_REPLACE;
 
+    /**
+     * Script text is constant, condition is compiled from ARGV,
+     * so it doesn't produce new entry in Redis script cache per condition.
+     */
+    private static final String CONDITION_SCAN_SCRIPT =
+            "local condition, err = loadstring('local key, value, args = ...; return (' .. ARGV[4] .. ');'); "
+            + "if (condition == nil) then return redis.error_reply(err); end; "
+            + "local args = {}; "
+            + "for i = 5, #ARGV do table.insert(args, ARGV[i]); end; "
+            + "local scanArgs = {'hscan', KEYS[1], ARGV[1]}; "
+            + "if ARGV[2] ~= '0' then table.insert(scanArgs, 'COUNT'); table.insert(scanArgs, ARGV[2]); end; "
+            + "if ARGV[3] ~= '' then table.insert(scanArgs, 'MATCH'); table.insert(scanArgs, ARGV[3]); end; "
+            + "local result = redis.call(unpack(scanArgs)); "
+            + "local entries = {}; "
+            + "for i = 1, #result[2], 2 do "
+                + "local key = result[2][i]; "
+                + "local value = result[2][i + 1]; "
+                + "if (condition(key, value, args)) then "
+                    + "table.insert(entries, key); "
+                    + "table.insert(entries, value); "
+                + "end; "
+            + "end; "
+            + "return {result[1], entries};";
+
     protected RedissonMap(CommandExecutor commandExecutor, String name) {
         super(commandExecutor, name);
     }
@@ -315,16 +339,67 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
         return get(fastRemoveAsync(keys));
     }
 
-    MapScanResult<Object, V> scanIterator(InetSocketAddress client, long startPos) {
-        return commandExecutor.read(client, getName(), codec, RedisCommands.HSCAN, getName(), startPos);
+    Future<MapScanResult<Object, V>> scanIteratorAsync(InetSocketAddress client, long startPos, int count) {
+        return scanIteratorAsync(client, startPos, count, null, null);
     }
 
+    Future<MapScanResult<Object, V>> scanIteratorAsync(InetSocketAddress client, long startPos, int count, String keyPattern,
+                                                            String condition, Object ... conditionArgs) {
+        if (condition != null) {
+            List<Object> params = new ArrayList<Object>(6 + conditionArgs.length);
+            params.add(CONDITION_SCAN_SCRIPT);
+            params.add(1);
+            params.add(getName());
+            params.add(startPos);
+            params.add(count);
+            params.add(keyPattern == null ? "" : keyPattern);
+            params.add(condition);
+            params.addAll(Arrays.asList(conditionArgs));
+            return commandExecutor.readAsync(client, getName(), codec, RedisCommands.EVAL_HSCAN, params.toArray());
+        }
+
+        List<Object> args = new ArrayList<Object>();
+        args.add(getName());
+        args.add(startPos);
+        if (keyPattern != null) {
+            args.add("MATCH");
+            args.add(keyPattern);
+        }
+        if (count > 0) {
+            args.add("COUNT");
+            args.add(count);
+        }
+        return commandExecutor.readAsync(client, getName(), codec, RedisCommands.HSCAN, args.toArray());
+    }
+
+    @Override
     public Iterator<Map.Entry<K, V>> entryIterator() {
-        return new RedissonMapIterator<K, V, Map.Entry<K, V>>(this);
+        return entryIterator(0);
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> entryIterator(int count) {
+        return new RedissonMapIterator<K, V, Map.Entry<K, V>>(this, count);
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> entryIterator(String keyPattern, int count) {
+        return new RedissonMapIterator<K, V, Map.Entry<K, V>>(this, count, keyPattern, null);
     }
 
+    @Override
+    public Iterator<Map.Entry<K, V>> entryIterator(String keyPattern, String condition, int count, Object ... conditionArgs) {
+        return new RedissonMapIterator<K, V, Map.Entry<K, V>>(this, count, keyPattern, condition, conditionArgs);
+    }
+
+    @Override
     public Iterator<V> valueIterator() {
-        return new RedissonMapIterator<K, V, V>(this) {
+        return valueIterator(0);
+    }
+
+    @Override
+    public Iterator<V> valueIterator(int count) {
+        return new RedissonMapIterator<K, V, V>(this, count) {
             @Override
             V getValue(java.util.Map.Entry<K, V> entry) {
                 return entry.getValue();
@@ -332,8 +407,14 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
         };
     }
 
+    @Override
     public Iterator<K> keyIterator() {
-        return new RedissonMapIterator<K, V, K>(this) {
+        return keyIterator(0);
+    }
+
+    @Override
+    public Iterator<K> keyIterator(int count) {
+        return new RedissonMapIterator<K, V, K>(this, count) {
             @Override
             K getValue(java.util.Map.Entry<K, V> entry) {
                 return entry.getKey();
@@ -16,71 +16,45 @@
 package org.redisson;
 
 import java.net.InetSocketAddress;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.NoSuchElementException;
 
-import org.redisson.client.protocol.decoder.MapScanResult;
+import org.redisson.client.protocol.decoder.ScanResult;
 
-public class RedissonMapIterator<K, V, M> implements Iterator<M> {
+import io.netty.util.concurrent.Future;
 
-    private Map<K, V> firstValues;
-    private Iterator<Map.Entry<K, V>> iter;
-    private long iterPos = 0;
-    private InetSocketAddress client;
-
-    private boolean removeExecuted;
-    private Map.Entry<K, V> entry;
+public class RedissonMapIterator<K, V, M> extends RedissonBaseIterator<Map.Entry<K, V>, M> {
 
     private final RedissonMap<K, V> map;
+    private final int count;
+    private final String keyPattern;
+    private final String condition;
+    private final Object[] conditionArgs;
 
     public RedissonMapIterator(RedissonMap<K, V> map) {
-        this.map = map;
+        this(map, 0);
     }
 
-    @Override
-    public boolean hasNext() {
-        if (iter == null || !iter.hasNext()) {
-            MapScanResult<Object, V> res = map.scanIterator(client, iterPos);
-            client = res.getRedisClient();
-            if (iterPos == 0 && firstValues == null) {
-                firstValues = (Map<K, V>) res.getMap();
-            } else if (res.getMap().equals(firstValues)) {
-                return false;
-            }
-            iter = ((Map<K, V>)res.getMap()).entrySet().iterator();
-            iterPos = res.getPos();
-        }
-        return iter.hasNext();
+    public RedissonMapIterator(RedissonMap<K, V> map, int count) {
+        this(map, count, null, null);
     }
 
-    @Override
-    public M next() {
-        if (!hasNext()) {
-            throw new NoSuchElementException("No such element at index");
-        }
-
-        entry = iter.next();
-        removeExecuted = false;
-        return getValue(entry);
+    public RedissonMapIterator(RedissonMap<K, V> map, int count, String keyPattern, String condition, Object ... conditionArgs) {
+        super(map.commandExecutor);
+        this.map = map;
+        this.count = count;
+        this.keyPattern = keyPattern;
+        this.condition = condition;
+        this.conditionArgs = conditionArgs;
     }
 
-    M getValue(Entry<K, V> entry) {
-        return (M) entry;
+    @Override
+    protected Future<? extends ScanResult<Map.Entry<K, V>>> scanIteratorAsync(InetSocketAddress client, long startPos) {
+        return (Future<? extends ScanResult<Map.Entry<K, V>>>) (Object) map.scanIteratorAsync(client, startPos, count, keyPattern, condition, conditionArgs);
     }
 
     @Override
-    public void remove() {
-        if (removeExecuted) {
-            throw new IllegalStateException("Element been already deleted");
-        }
-
-        // lazy init iterator
-        hasNext();
-        iter.remove();
+    protected void remove(Map.Entry<K, V> entry) {
         map.fastRemove(entry.getKey());
-        removeExecuted = true;
     }
 
 }
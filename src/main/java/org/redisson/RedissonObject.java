@@ -56,6 +56,10 @@ abstract class RedissonObject implements RObject {
         return commandExecutor.getConnectionManager().getGroup().next().<V>newSucceededFuture(result);
     }
 
+    protected <V> Future<V> newFailedFuture(Throwable cause) {
+        return commandExecutor.getConnectionManager().newFailedFuture(cause);
+    }
+
     @Override
     public String getName() {
         return name;
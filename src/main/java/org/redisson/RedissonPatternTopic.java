@@ -24,6 +24,7 @@ import org.redisson.connection.PubSubConnectionEntry;
 import org.redisson.core.PatternMessageListener;
 import org.redisson.core.PatternStatusListener;
 import org.redisson.core.RPatternTopic;
+import org.redisson.misc.OrderedExecutor;
 
 import io.netty.util.concurrent.Future;
 
@@ -52,12 +53,14 @@ public class RedissonPatternTopic<M> implements RPatternTopic<M> {
 
     @Override
     public int addListener(PatternStatusListener listener) {
-        return addListener(new PubSubPatternStatusListener(listener, name));
+        OrderedExecutor executor = commandExecutor.getConnectionManager().getListenerExecutor();
+        return addListener(new PubSubPatternStatusListener(listener, name, executor));
     };
 
     @Override
     public int addListener(PatternMessageListener<M> listener) {
-        PubSubPatternMessageListener<M> pubSubListener = new PubSubPatternMessageListener<M>(listener, name);
+        OrderedExecutor executor = commandExecutor.getConnectionManager().getListenerExecutor();
+        PubSubPatternMessageListener<M> pubSubListener = new PubSubPatternMessageListener<M>(listener, name, executor);
         return addListener(pubSubListener);
     }
 
@@ -86,6 +89,10 @@ public class RedissonPatternTopic<M> implements RPatternTopic<M> {
                 entry.removeListener(name, listenerId);
                 if (entry.getListeners(name).isEmpty()) {
                     commandExecutor.getConnectionManager().punsubscribe(name);
+                    OrderedExecutor executor = commandExecutor.getConnectionManager().getListenerExecutor();
+                    if (executor != null) {
+                        executor.remove(name);
+                    }
                 }
                 return;
             }
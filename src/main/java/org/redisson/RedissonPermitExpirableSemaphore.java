@@ -0,0 +1,277 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.core.RPermitExpirableSemaphore;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.internal.ThreadLocalRandom;
+
+/**
+ * Semaphore with lease time for each acquired permit.
+ * Available permits amount is stored as number and acquired permits
+ * are stored in sorted set with expiration time as score.
+ * Expired permits are returned to semaphore during next acquisition attempt.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonPermitExpirableSemaphore extends RedissonExpirable implements RPermitExpirableSemaphore {
+
+    private static final Integer releaseMessage = 1;
+
+    /**
+     * Returns expired permits to semaphore. ARGV[1] is current time.
+     */
+    private static final String RECLAIM_SCRIPT =
+            "local expired = redis.call('zrangebyscore', KEYS[2], '-inf', ARGV[1]); " +
+            "if (#expired > 0) then " +
+                "redis.call('zremrangebyscore', KEYS[2], '-inf', ARGV[1]); " +
+                "redis.call('incrby', KEYS[1], #expired); " +
+            "end; ";
+
+    private final UUID id;
+    private final NotificationDispatcher notificationDispatcher;
+    private final SemaphorePubSub semaphorePubSub;
+
+    protected RedissonPermitExpirableSemaphore(CommandExecutor commandExecutor, String name, UUID id,
+                                                NotificationDispatcher notificationDispatcher) {
+        super(commandExecutor, name);
+        this.id = id;
+        this.notificationDispatcher = notificationDispatcher;
+        this.semaphorePubSub = new SemaphorePubSub(commandExecutor.getConnectionManager(), notificationDispatcher);
+    }
+
+    String getTimeoutName() {
+        return "redisson__timeout__semaphore__{" + getName() + "}";
+    }
+
+    private String getEntryName() {
+        return id + ":" + getName();
+    }
+
+    private String getChannelName() {
+        return "redisson_permit_semaphore__channel__{" + getName() + "}";
+    }
+
+    private String generatePermitId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+    }
+
+    private Object getExpirationTime(long leaseTime, TimeUnit unit) {
+        if (leaseTime == -1) {
+            return "+inf";
+        }
+        return System.currentTimeMillis() + unit.toMillis(leaseTime);
+    }
+
+    /**
+     * Returns <code>null</code> if permit acquired or time in milliseconds
+     * till the nearest permit expiration. <code>-1</code> means there is no expiring permits.
+     */
+    private Long tryAcquireInner(String permitId, long leaseTime, TimeUnit unit) {
+        return commandExecutor.evalWrite(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                RECLAIM_SCRIPT +
+                "local value = redis.call('get', KEYS[1]); " +
+                "if (value ~= false and tonumber(value) >= 1) then " +
+                    "redis.call('decr', KEYS[1]); " +
+                    "redis.call('zadd', KEYS[2], ARGV[3], ARGV[2]); " +
+                    "return nil; " +
+                "end; " +
+                "local first = redis.call('zrange', KEYS[2], 0, 0, 'withscores'); " +
+                "if (first[2] ~= nil and first[2] ~= 'inf') then " +
+                    "return math.max(0, tonumber(first[2]) - tonumber(ARGV[1])); " +
+                "end; " +
+                "return -1;",
+                Arrays.<Object>asList(getName(), getTimeoutName()),
+                System.currentTimeMillis(), permitId, getExpirationTime(leaseTime, unit));
+    }
+
+    @Override
+    public String acquire() throws InterruptedException {
+        return acquire(-1, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String acquire(long leaseTime, TimeUnit unit) throws InterruptedException {
+        String permitId = generatePermitId();
+        Long ttl = tryAcquireInner(permitId, leaseTime, unit);
+        if (ttl == null) {
+            return permitId;
+        }
+
+        Future<RedissonLockEntry> future = semaphorePubSub.subscribe(getEntryName(), getChannelName());
+        future.syncUninterruptibly();
+        try {
+            while (true) {
+                ttl = tryAcquireInner(permitId, leaseTime, unit);
+                if (ttl == null) {
+                    return permitId;
+                }
+
+                // waiting for message or permit expiration
+                RedissonLockEntry entry = semaphorePubSub.getEntry(getEntryName());
+                if (ttl >= 0) {
+                    entry.getLatch().tryAcquire(ttl, TimeUnit.MILLISECONDS);
+                } else {
+                    entry.getLatch().tryAcquire(commandExecutor.getConnectionManager().getConfig().getRetryInterval(), TimeUnit.MILLISECONDS);
+                }
+            }
+        } finally {
+            semaphorePubSub.unsubscribe(future.getNow(), getEntryName(), getChannelName());
+        }
+    }
+
+    @Override
+    public String tryAcquire() {
+        String permitId = generatePermitId();
+        if (tryAcquireInner(permitId, -1, TimeUnit.MILLISECONDS) == null) {
+            return permitId;
+        }
+        return null;
+    }
+
+    @Override
+    public String tryAcquire(long waitTime, TimeUnit unit) throws InterruptedException {
+        return tryAcquire(waitTime, -1, unit);
+    }
+
+    @Override
+    public String tryAcquire(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        String permitId = generatePermitId();
+        Long ttl = tryAcquireInner(permitId, leaseTime, unit);
+        if (ttl == null) {
+            return permitId;
+        }
+
+        long time = unit.toMillis(waitTime);
+        long current = System.currentTimeMillis();
+        final Future<RedissonLockEntry> future = semaphorePubSub.subscribe(getEntryName(), getChannelName());
+        if (!future.await(time, TimeUnit.MILLISECONDS)) {
+            future.addListener(new FutureListener<RedissonLockEntry>() {
+                @Override
+                public void operationComplete(Future<RedissonLockEntry> future) throws Exception {
+                    if (future.isSuccess()) {
+                        semaphorePubSub.unsubscribe(future.getNow(), getEntryName(), getChannelName());
+                    }
+                }
+            });
+            return null;
+        }
+
+        try {
+            time -= System.currentTimeMillis() - current;
+            while (true) {
+                ttl = tryAcquireInner(permitId, leaseTime, unit);
+                if (ttl == null) {
+                    return permitId;
+                }
+
+                if (time <= 0) {
+                    return null;
+                }
+
+                // waiting for message or permit expiration
+                current = System.currentTimeMillis();
+                RedissonLockEntry entry = semaphorePubSub.getEntry(getEntryName());
+                if (ttl >= 0 && ttl < time) {
+                    entry.getLatch().tryAcquire(ttl, TimeUnit.MILLISECONDS);
+                } else {
+                    entry.getLatch().tryAcquire(time, TimeUnit.MILLISECONDS);
+                }
+                time -= System.currentTimeMillis() - current;
+            }
+        } finally {
+            semaphorePubSub.unsubscribe(future.getNow(), getEntryName(), getChannelName());
+        }
+    }
+
+    @Override
+    public void release(String permitId) {
+        if (!tryRelease(permitId)) {
+            throw new IllegalArgumentException("Permit with id " + permitId + " has already been released or doesn't exist");
+        }
+    }
+
+    @Override
+    public boolean tryRelease(String permitId) {
+        return commandExecutor.evalWrite(getName(), RedisCommands.EVAL_BOOLEAN_R2,
+                "local score = redis.call('zscore', KEYS[2], ARGV[2]); " +
+                "if (score == false or (score ~= 'inf' and tonumber(score) <= tonumber(ARGV[3]))) then " +
+                    "return 0; " +
+                "end; " +
+                "redis.call('zrem', KEYS[2], ARGV[2]); " +
+                "redis.call('incrby', KEYS[1], 1); " +
+                "redis.call('publish', ARGV[4], ARGV[1]); " +
+                "return 1;",
+                Arrays.<Object>asList(getName(), getTimeoutName()),
+                notificationDispatcher.getMessage(getChannelName(), releaseMessage), permitId,
+                System.currentTimeMillis(), notificationDispatcher.getChannel(getChannelName()));
+    }
+
+    @Override
+    public boolean updateLeaseTime(String permitId, long leaseTime, TimeUnit unit) {
+        return commandExecutor.evalWrite(getName(), RedisCommands.EVAL_BOOLEAN,
+                "local score = redis.call('zscore', KEYS[2], ARGV[1]); " +
+                "if (score == false or (score ~= 'inf' and tonumber(score) <= tonumber(ARGV[2]))) then " +
+                    "return 0; " +
+                "end; " +
+                "redis.call('zadd', KEYS[2], ARGV[3], ARGV[1]); " +
+                "return 1;",
+                Arrays.<Object>asList(getName(), getTimeoutName()),
+                permitId, System.currentTimeMillis(), getExpirationTime(leaseTime, unit));
+    }
+
+    @Override
+    public int availablePermits() {
+        Long res = commandExecutor.evalRead(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local value = redis.call('get', KEYS[1]); " +
+                "if (value == false) then " +
+                    "value = 0; " +
+                "end; " +
+                "return tonumber(value) + redis.call('zcount', KEYS[2], '-inf', ARGV[1]);",
+                Arrays.<Object>asList(getName(), getTimeoutName()), System.currentTimeMillis());
+        return res.intValue();
+    }
+
+    @Override
+    public boolean trySetPermits(int permits) {
+        return commandExecutor.evalWrite(getName(), RedisCommands.EVAL_BOOLEAN_R1,
+                "if (redis.call('exists', KEYS[1]) == 0) then " +
+                    "redis.call('set', KEYS[1], ARGV[2]); " +
+                    "redis.call('publish', ARGV[3], ARGV[1]); " +
+                    "return 1; " +
+                "end; " +
+                "return 0;",
+                Collections.<Object>singletonList(getName()), notificationDispatcher.getMessage(getChannelName(), permits),
+                permits, notificationDispatcher.getChannel(getChannelName()));
+    }
+
+    @Override
+    public Future<Boolean> deleteAsync() {
+        return commandExecutor.writeAsync(getName(), RedisCommands.DEL_OBJECTS, getName(), getTimeoutName());
+    }
+
+}
@@ -0,0 +1,338 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.core.RRateLimiter;
+
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Distributed token bucket rate limiter.
+ * Bucket state is stored in hash and refilled by script on each acquisition,
+ * using time passed since previous acquisition.<br>
+ * If <code>prefetchPermits</code> is set, each script call claims up to
+ * this amount of permits. Surplus is kept locally and served without
+ * network round trip until it is used or rate interval has passed.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonRateLimiter extends RedissonExpirable implements RRateLimiter {
+
+    static class PrefetchedPermits {
+
+        private long permits;
+        private long expiration;
+
+        synchronized boolean tryTake(long amount) {
+            if (System.currentTimeMillis() >= expiration) {
+                permits = 0;
+            }
+            if (permits >= amount) {
+                permits -= amount;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean isExpired() {
+            return System.currentTimeMillis() >= expiration;
+        }
+
+        synchronized void add(long amount, long expiration) {
+            if (System.currentTimeMillis() >= this.expiration) {
+                permits = 0;
+            }
+            permits += amount;
+            this.expiration = expiration;
+        }
+
+    }
+
+    private static final ConcurrentMap<String, PrefetchedPermits> PREFETCHED = PlatformDependent.newConcurrentHashMap();
+
+    private final UUID id;
+    private final long prefetchPermits;
+
+    protected RedissonRateLimiter(CommandExecutor commandExecutor, String name, UUID id, long prefetchPermits) {
+        super(commandExecutor, name);
+        this.id = id;
+        this.prefetchPermits = prefetchPermits;
+    }
+
+    private String getPrefetchedKey() {
+        return id + ":" + getName();
+    }
+
+    private PrefetchedPermits getPrefetched() {
+        String key = getPrefetchedKey();
+        PrefetchedPermits prefetched = PREFETCHED.get(key);
+        if (prefetched == null) {
+            prefetched = new PrefetchedPermits();
+            PrefetchedPermits oldValue = PREFETCHED.putIfAbsent(key, prefetched);
+            if (oldValue != null) {
+                prefetched = oldValue;
+            }
+        }
+        return prefetched;
+    }
+
+    private boolean tryTakePrefetched(long permits) {
+        PrefetchedPermits prefetched = PREFETCHED.get(getPrefetchedKey());
+        if (prefetched == null) {
+            return false;
+        }
+        if (prefetched.tryTake(permits)) {
+            return true;
+        }
+        // expired entries are removed, so map doesn't grow with names of unused limiters
+        if (prefetched.isExpired()) {
+            PREFETCHED.remove(getPrefetchedKey(), prefetched);
+        }
+        return false;
+    }
+
+    private void checkRate(long rate, long rateInterval) {
+        if (rate <= 0 || rateInterval <= 0) {
+            throw new IllegalArgumentException("Rate and rate interval should be positive");
+        }
+    }
+
+    private void checkPermits(long permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Permits amount should be positive");
+        }
+    }
+
+    @Override
+    public boolean trySetRate(long rate, long rateInterval, TimeUnit unit) {
+        checkRate(rate, rateInterval);
+        return get(trySetRateAsync(rate, rateInterval, unit));
+    }
+
+    @Override
+    public Future<Boolean> trySetRateAsync(long rate, long rateInterval, TimeUnit unit) {
+        if (rate <= 0 || rateInterval <= 0) {
+            return newFailedFuture(new IllegalArgumentException("Rate and rate interval should be positive"));
+        }
+
+        return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                "if (redis.call('hexists', KEYS[1], 'rate') == 1) then " +
+                    "return 0; " +
+                "end; " +
+                "redis.call('hmset', KEYS[1], 'rate', ARGV[1], 'interval', ARGV[2]); " +
+                "return 1;",
+                Collections.<Object>singletonList(getName()), rate, unit.toMillis(rateInterval));
+    }
+
+    /**
+     * Returns <code>null</code> if permits acquired or time in milliseconds
+     * till the requested amount of permits will be available.
+     */
+    private Future<Long> tryAcquireInnerAsync(final long permits) {
+        if (permits <= 0) {
+            return newFailedFuture(new IllegalArgumentException("Permits amount should be positive"));
+        }
+
+        final Promise<Long> result = newPromise();
+        if (prefetchPermits > 0 && tryTakePrefetched(permits)) {
+            result.setSuccess(null);
+            return result;
+        }
+
+        Future<List<Long>> future = commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                "local rate = redis.call('hget', KEYS[1], 'rate'); " +
+                "local interval = redis.call('hget', KEYS[1], 'interval'); " +
+                "if (rate == false or interval == false) then " +
+                    "return redis.error_reply('RateLimiter is not initialized'); " +
+                "end; " +
+                "rate = tonumber(rate); " +
+                "interval = tonumber(interval); " +
+                "local permits = tonumber(ARGV[1]); " +
+                "local now = tonumber(ARGV[3]); " +
+                "if (permits > rate) then " +
+                    "return redis.error_reply('Requested permits amount could not exceed defined rate'); " +
+                "end; " +
+                "local tokens = rate; " +
+                "local value = redis.call('hget', KEYS[1], 'tokens'); " +
+                "local timestamp = redis.call('hget', KEYS[1], 'timestamp'); " +
+                "if (value ~= false and timestamp ~= false) then " +
+                    "timestamp = tonumber(timestamp); " +
+                    "tokens = math.min(rate, tonumber(value) + math.max(0, now - timestamp) * rate / interval); " +
+                    "now = math.max(now, timestamp); " +
+                "end; " +
+                "local result; " +
+                "if (tokens >= permits) then " +
+                    "local granted = math.min(tonumber(ARGV[2]), math.floor(tokens)); " +
+                    "tokens = tokens - granted; " +
+                    "result = {granted, interval}; " +
+                "else " +
+                    "result = {0, math.ceil((permits - tokens) * interval / rate)}; " +
+                "end; " +
+                "redis.call('hmset', KEYS[1], 'tokens', tokens, 'timestamp', now); " +
+                "return result;",
+                Collections.<Object>singletonList(getName()), permits, Math.max(permits, prefetchPermits),
+                System.currentTimeMillis());
+        future.addListener(new FutureListener<List<Long>>() {
+            @Override
+            public void operationComplete(Future<List<Long>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                long granted = future.getNow().get(0);
+                if (granted == 0) {
+                    result.trySuccess(future.getNow().get(1));
+                    return;
+                }
+
+                if (granted > permits) {
+                    long interval = future.getNow().get(1);
+                    getPrefetched().add(granted - permits, System.currentTimeMillis() + interval);
+                }
+                result.trySuccess(null);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    @Override
+    public boolean tryAcquire(long permits) {
+        checkPermits(permits);
+        return get(tryAcquireAsync(permits));
+    }
+
+    @Override
+    public Future<Boolean> tryAcquireAsync() {
+        return tryAcquireAsync(1);
+    }
+
+    @Override
+    public Future<Boolean> tryAcquireAsync(long permits) {
+        final Promise<Boolean> result = newPromise();
+        Future<Long> future = tryAcquireInnerAsync(permits);
+        future.addListener(new FutureListener<Long>() {
+            @Override
+            public void operationComplete(Future<Long> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                result.trySuccess(future.getNow() == null);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public boolean tryAcquire(long permits, long timeout, TimeUnit unit) throws InterruptedException {
+        checkPermits(permits);
+        long time = unit.toMillis(timeout);
+        while (true) {
+            long current = System.currentTimeMillis();
+            Long wait = get(tryAcquireInnerAsync(permits));
+            if (wait == null) {
+                return true;
+            }
+
+            time -= System.currentTimeMillis() - current;
+            if (wait > time) {
+                // permits won't be refilled in time
+                return false;
+            }
+
+            Thread.sleep(wait);
+            time -= wait;
+        }
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        acquire(1);
+    }
+
+    @Override
+    public void acquire(long permits) throws InterruptedException {
+        checkPermits(permits);
+        while (true) {
+            Long wait = get(tryAcquireInnerAsync(permits));
+            if (wait == null) {
+                return;
+            }
+            Thread.sleep(wait);
+        }
+    }
+
+    @Override
+    public Future<Void> acquireAsync(long permits) {
+        Promise<Void> result = newPromise();
+        acquireAsync(permits, result);
+        return result;
+    }
+
+    private void acquireAsync(final long permits, final Promise<Void> result) {
+        Future<Long> future = tryAcquireInnerAsync(permits);
+        future.addListener(new FutureListener<Long>() {
+            @Override
+            public void operationComplete(Future<Long> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                Long wait = future.getNow();
+                if (wait == null) {
+                    result.trySuccess(null);
+                    return;
+                }
+
+                commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+                    @Override
+                    public void run(Timeout timeout) throws Exception {
+                        acquireAsync(permits, result);
+                    }
+                }, wait, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    @Override
+    public Future<Boolean> deleteAsync() {
+        // permits prefetched before deletion shouldn't be used
+        PREFETCHED.remove(getPrefetchedKey());
+        return super.deleteAsync();
+    }
+
+}
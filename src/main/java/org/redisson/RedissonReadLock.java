@@ -0,0 +1,159 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.client.protocol.RedisCommands;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+
+/**
+ * Read lock of {@link RedissonReadWriteLock}. Shared by readers.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonReadLock extends RedissonLock {
+
+    private final UUID id;
+    private final boolean fair;
+
+    protected RedissonReadLock(CommandExecutor commandExecutor, String name, UUID id,
+                    LockLeaseRenewer leaseRenewer, NotificationDispatcher notificationDispatcher, boolean fair) {
+        super(commandExecutor, name, id, leaseRenewer, notificationDispatcher);
+        this.id = id;
+        this.fair = fair;
+    }
+
+    private String getWriteLockName(String lockName) {
+        return lockName + RedissonWriteLock.WRITE_SUFFIX;
+    }
+
+    @Override
+    protected Future<Long> tryLockInnerAsync(long leaseTime, TimeUnit unit, String lockName) {
+        internalLockLeaseTime = unit.toMillis(leaseTime);
+
+        return commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_LONG,
+                RedissonReadWriteLock.REMOVE_STALE_SCRIPT +
+                "local mode = redis.call('hget', KEYS[1], 'mode'); " +
+                "if (mode ~= false and (redis.call('hexists', KEYS[1], ARGV[3]) == 1 " +
+                        "or redis.call('hexists', KEYS[1], ARGV[6]) == 1)) then " +
+                    "redis.call('hincrby', KEYS[1], ARGV[3], 1); " +
+                    "if (redis.call('pttl', KEYS[1]) < tonumber(ARGV[2])) then " +
+                        "redis.call('pexpire', KEYS[1], ARGV[2]); " +
+                    "end; " +
+                    "return nil; " +
+                "end; " +
+                "if (mode == false or mode == 'read') then " +
+                    "local allowed = true; " +
+                    "if (ARGV[5] == '1') then " +
+                        // no writer is queued before this reader
+                        "for i, v in ipairs(redis.call('lrange', KEYS[2], 0, -1)) do " +
+                            "if (v == ARGV[3]) then " +
+                                "break; " +
+                            "end; " +
+                            "if (string.sub(v, -string.len(ARGV[7])) == ARGV[7]) then " +
+                                "allowed = false; " +
+                                "break; " +
+                            "end; " +
+                        "end; " +
+                    "elseif (redis.call('zcard', KEYS[3]) > 0) then " +
+                        "allowed = false; " +
+                    "end; " +
+                    "if (allowed) then " +
+                        "redis.call('hset', KEYS[1], 'mode', 'read'); " +
+                        "redis.call('hincrby', KEYS[1], ARGV[3], 1); " +
+                        "if (redis.call('pttl', KEYS[1]) < tonumber(ARGV[2])) then " +
+                            "redis.call('pexpire', KEYS[1], ARGV[2]); " +
+                        "end; " +
+                        RedissonReadWriteLock.DEQUEUE_SCRIPT +
+                        "return nil; " +
+                    "end; " +
+                "end; " +
+                "if (ARGV[5] ~= '1') then " +
+                    "local ttl = redis.call('pttl', KEYS[1]); " +
+                    "if (ttl < 0) then " +
+                        "ttl = 0; " +
+                        "local first = redis.call('zrange', KEYS[3], 0, 0, 'withscores'); " +
+                        "if (first[2] ~= nil) then " +
+                            "ttl = math.max(0, tonumber(first[2]) - tonumber(ARGV[1])); " +
+                        "end; " +
+                    "end; " +
+                    "return ttl; " +
+                "end; " +
+                RedissonReadWriteLock.ENQUEUE_SCRIPT,
+                Arrays.<Object>asList(getName(), RedissonReadWriteLock.getQueueName(getName()),
+                        RedissonReadWriteLock.getTimeoutSetName(getName())),
+                System.currentTimeMillis(), internalLockLeaseTime, lockName, RedissonReadWriteLock.THREAD_WAIT_TIME,
+                fair ? 1 : 0, getWriteLockName(lockName), RedissonWriteLock.WRITE_SUFFIX);
+    }
+
+    @Override
+    protected void acquireFailed(String lockName) {
+        if (!fair) {
+            // readers are not queued
+            return;
+        }
+
+        commandExecutor.evalWriteAsync(getName(), RedissonFairLock.EVAL_BOOLEAN_R2_K3,
+                RedissonReadWriteLock.ACQUIRE_FAILED_SCRIPT,
+                Arrays.<Object>asList(getName(), RedissonReadWriteLock.getQueueName(getName()),
+                        RedissonReadWriteLock.getTimeoutSetName(getName())),
+                System.currentTimeMillis(), notificationDispatcher.getMessage(getChannelName(), unlockMessage),
+                notificationDispatcher.getChannel(getChannelName()), lockName);
+    }
+
+    @Override
+    protected Future<Boolean> unlockInnerAsync(String lockName) {
+        Future<Boolean> future = commandExecutor.evalWriteAsync(getName(), RedissonFairLock.EVAL_BOOLEAN_R2_K3,
+                "local mode = redis.call('hget', KEYS[1], 'mode'); " +
+                "if (mode == false) then " +
+                    "redis.call('publish', ARGV[3], ARGV[2]); " +
+                    "return true; " +
+                "end; " +
+                "if (redis.call('hexists', KEYS[1], ARGV[4]) == 0) then " +
+                    "return nil; " +
+                "end; " +
+                "if (redis.call('hincrby', KEYS[1], ARGV[4], -1) > 0) then " +
+                    "return false; " +
+                "end; " +
+                "redis.call('hdel', KEYS[1], ARGV[4]); " +
+                "if (redis.call('hlen', KEYS[1]) == 1) then " +
+                    "redis.call('del', KEYS[1]); " +
+                    "redis.call('publish', ARGV[3], ARGV[2]); " +
+                    "return true; " +
+                "end; " +
+                RedissonReadWriteLock.HELD_BY_INSTANCE_SCRIPT,
+                Arrays.<Object>asList(getName(), RedissonReadWriteLock.getQueueName(getName()),
+                        RedissonReadWriteLock.getTimeoutSetName(getName())),
+                System.currentTimeMillis(), notificationDispatcher.getMessage(getChannelName(), unlockMessage),
+                notificationDispatcher.getChannel(getChannelName()), lockName, internalLockLeaseTime, id + "-");
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (future.isSuccess() && Boolean.TRUE.equals(future.getNow())) {
+                    stopRefreshTask();
+                }
+            }
+        });
+        return future;
+    }
+
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.UUID;
+
+import org.redisson.core.RLock;
+import org.redisson.core.RReadWriteLock;
+
+/**
+ * Distributed implementation of {@link java.util.concurrent.locks.ReadWriteLock}
+ * Lock state is stored in hash: <code>mode</code> field contains <code>read</code>
+ * or <code>write</code> value and each holder has field with its hold count.<br>
+ * Waiting writers are registered in sorted set with slot expiration time as score.
+ * In default writer-preferring mode new readers are not admitted while
+ * a writer is waiting. In fair mode both readers and writers are queued
+ * and lock is granted in FIFO order, consecutive readers acquire it together.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonReadWriteLock extends RedissonExpirable implements RReadWriteLock {
+
+    static final long THREAD_WAIT_TIME = 5000;
+
+    /**
+     * Removes queued waiters which timeouts are elapsed.
+     * ARGV[1] is current time, ARGV[5] is fair mode flag.
+     */
+    static final String REMOVE_STALE_SCRIPT =
+            "if (ARGV[5] == '1') then " +
+                RedissonFairLock.REMOVE_STALE_SCRIPT +
+            "else " +
+                "redis.call('zremrangebyscore', KEYS[3], '-inf', ARGV[1]); " +
+            "end; ";
+
+    /**
+     * Removes ARGV[3] waiter from queue
+     */
+    static final String DEQUEUE_SCRIPT =
+            "redis.call('lrem', KEYS[2], 0, ARGV[3]); " +
+            "redis.call('zrem', KEYS[3], ARGV[3]); ";
+
+    /**
+     * Registers ARGV[3] waiter and returns time to wait in milliseconds.
+     * Waiter slot expires after ARGV[4] milliseconds since its turn.
+     */
+    static final String ENQUEUE_SCRIPT =
+            "local ttl = redis.call('pttl', KEYS[1]); " +
+            "if (ttl < 0) then " +
+                "ttl = 0; " +
+                "local first = redis.call('zrange', KEYS[3], 0, 0, 'withscores'); " +
+                "if (first[2] ~= nil) then " +
+                    "ttl = math.max(0, tonumber(first[2]) - tonumber(ARGV[1])); " +
+                "end; " +
+            "end; " +
+            "local timeout = ttl + tonumber(ARGV[4]); " +
+            "if (redis.call('zadd', KEYS[3], timeout + tonumber(ARGV[1]), ARGV[3]) == 1 and ARGV[5] == '1') then " +
+                "redis.call('rpush', KEYS[2], ARGV[3]); " +
+            "end; " +
+            "if (redis.call('pttl', KEYS[3]) < timeout) then " +
+                "redis.call('pexpire', KEYS[2], timeout); " +
+                "redis.call('pexpire', KEYS[3], timeout); " +
+            "end; " +
+            "return ttl;";
+
+    /**
+     * Returns <code>false</code> if lock is still held by Redisson instance
+     * with ARGV[6] lock name prefix, so its lease renewal should continue.
+     */
+    static final String HELD_BY_INSTANCE_SCRIPT =
+            "for i, v in ipairs(redis.call('hkeys', KEYS[1])) do " +
+                "if (string.sub(v, 1, string.len(ARGV[6])) == ARGV[6]) then " +
+                    "return false; " +
+                "end; " +
+            "end; " +
+            "return true;";
+
+    /**
+     * Removes ARGV[4] waiter from queue and notifies other waiters
+     */
+    static final String ACQUIRE_FAILED_SCRIPT =
+            "redis.call('lrem', KEYS[2], 0, ARGV[4]); " +
+            "redis.call('zrem', KEYS[3], ARGV[4]); " +
+            "redis.call('publish', ARGV[3], ARGV[2]); " +
+            "return true;";
+
+    private final UUID id;
+    private final LockLeaseRenewer leaseRenewer;
+    private final NotificationDispatcher notificationDispatcher;
+    private final boolean fair;
+
+    protected RedissonReadWriteLock(CommandExecutor commandExecutor, String name, UUID id,
+                    LockLeaseRenewer leaseRenewer, NotificationDispatcher notificationDispatcher, boolean fair) {
+        super(commandExecutor, name);
+        this.id = id;
+        this.leaseRenewer = leaseRenewer;
+        this.notificationDispatcher = notificationDispatcher;
+        this.fair = fair;
+    }
+
+    static String getQueueName(String name) {
+        return "redisson_rwlock_queue:{" + name + "}";
+    }
+
+    static String getTimeoutSetName(String name) {
+        return "redisson_rwlock_timeout:{" + name + "}";
+    }
+
+    @Override
+    public RLock readLock() {
+        return new RedissonReadLock(commandExecutor, getName(), id, leaseRenewer, notificationDispatcher, fair);
+    }
+
+    @Override
+    public RLock writeLock() {
+        return new RedissonWriteLock(commandExecutor, getName(), id, leaseRenewer, notificationDispatcher, fair);
+    }
+
+}
@@ -0,0 +1,597 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.core.RRoaringBitmap;
+
+import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.internal.ThreadLocalRandom;
+
+/**
+ * Hash field <code>high</code> holds container of values with the same high 16 bits,
+ * field <code>'n' .. high</code> holds its cardinality and field <code>v</code>
+ * holds bitmap version. Each change sets new random version,
+ * so version isn't repeated even after bitmap has been deleted.
+ *
+ * Container with up to {@link #ARRAY_MAX_SIZE} values is stored as sorted array
+ * of big-endian 16-bit values, otherwise as bitmap of {@link #BITMAP_SIZE} bytes
+ * with the most significant bit first.
+ *
+ * AND, OR, XOR and ANDNOT operations combine containers on client side.
+ * Result is stored only if bitmap version is unchanged since it was loaded,
+ * otherwise operation is repeated. Loaded containers are cached by this instance
+ * and reused while version of their bitmap is unchanged.
+ *
+ */
+public class RedissonRoaringBitmap extends RedissonExpirable implements RRoaringBitmap {
+
+    static final int ARRAY_MAX_SIZE = 4095;
+    static final int BITMAP_SIZE = 8192;
+
+    private enum Operation {AND, OR, XOR, ANDNOT}
+
+    private static final String SET_VERSION = "redis.call('hset', KEYS[1], 'v', ARGV[3]); ";
+
+    private static final String INIT = "local high = ARGV[1]; "
+            + "local low = tonumber(ARGV[2]); "
+            + "local c = redis.call('hget', KEYS[1], high); ";
+
+    private static final String BITMAP_CHECK = "local i = math.floor(low / 8) + 1; "
+            + "local b = string.byte(c, i); "
+            + "local mask = 2 ^ (7 - low % 8); "
+            + "local isSet = math.floor(b / mask) % 2 == 1; ";
+
+    private static final String ARRAY_SEARCH = "local lo = 1; "
+            + "local hi = #c / 2; "
+            + "local found = 0; "
+            + "while lo <= hi do "
+                + "local mid = math.floor((lo + hi) / 2); "
+                + "local v = string.byte(c, 2 * mid - 1) * 256 + string.byte(c, 2 * mid); "
+                + "if v == low then "
+                    + "found = mid; "
+                    + "break; "
+                + "end; "
+                + "if v < low then "
+                    + "lo = mid + 1; "
+                + "else "
+                    + "hi = mid - 1; "
+                + "end; "
+            + "end; ";
+
+    private static class Containers {
+
+        final String version;
+        final Map<Integer, byte[]> containers;
+
+        Containers(String version, Map<Integer, byte[]> containers) {
+            this.version = version;
+            this.containers = containers;
+        }
+
+    }
+
+    private final ConcurrentMap<String, Containers> cache = new ConcurrentHashMap<String, Containers>();
+
+    protected RedissonRoaringBitmap(CommandExecutor commandExecutor, String name) {
+        super(commandExecutor, name);
+    }
+
+    @Override
+    public boolean add(int value) {
+        return get(addAsync(value));
+    }
+
+    @Override
+    public Future<Boolean> addAsync(int value) {
+        return commandExecutor.evalWriteAsync(getName(), codec, RedisCommands.EVAL_BOOLEAN,
+                INIT
+              + "if c == false then "
+                  + "redis.call('hset', KEYS[1], high, string.char(math.floor(low / 256), low % 256)); "
+                  + "redis.call('hset', KEYS[1], 'n' .. high, 1); "
+                  + SET_VERSION
+                  + "return 1; "
+              + "end; "
+              + "if #c == " + BITMAP_SIZE + " then "
+                  + BITMAP_CHECK
+                  + "if isSet then "
+                      + "return 0; "
+                  + "end; "
+                  + "redis.call('hset', KEYS[1], high, string.sub(c, 1, i - 1) .. string.char(b + mask) .. string.sub(c, i + 1)); "
+                  + "redis.call('hincrby', KEYS[1], 'n' .. high, 1); "
+                  + SET_VERSION
+                  + "return 1; "
+              + "end; "
+              + ARRAY_SEARCH
+              + "if found > 0 then "
+                  + "return 0; "
+              + "end; "
+              + "if #c / 2 < " + ARRAY_MAX_SIZE + " then "
+                  + "redis.call('hset', KEYS[1], high, string.sub(c, 1, 2 * lo - 2) "
+                          + ".. string.char(math.floor(low / 256), low % 256) .. string.sub(c, 2 * lo - 1)); "
+              + "else "
+                  // array is full, converting it to bitmap
+                  + "local bytes = {}; "
+                  + "for j = 1, " + BITMAP_SIZE + " do "
+                      + "bytes[j] = 0; "
+                  + "end; "
+                  + "for j = 0, #c / 2 do "
+                      + "local v = low; "
+                      + "if j > 0 then "
+                          + "v = string.byte(c, 2 * j - 1) * 256 + string.byte(c, 2 * j); "
+                      + "end; "
+                      + "local pos = math.floor(v / 8) + 1; "
+                      + "bytes[pos] = bytes[pos] + 2 ^ (7 - v % 8); "
+                  + "end; "
+                  + "local parts = {}; "
+                  + "for j = 1, " + BITMAP_SIZE + ", 1024 do "
+                      + "table.insert(parts, string.char(unpack(bytes, j, j + 1023))); "
+                  + "end; "
+                  + "redis.call('hset', KEYS[1], high, table.concat(parts)); "
+              + "end; "
+              + "redis.call('hincrby', KEYS[1], 'n' .. high, 1); "
+              + SET_VERSION
+              + "return 1;",
+                Collections.<Object>singletonList(getName()), value >>> 16, value & 0xFFFF, newVersion());
+    }
+
+    @Override
+    public boolean remove(int value) {
+        return get(removeAsync(value));
+    }
+
+    @Override
+    public Future<Boolean> removeAsync(int value) {
+        return commandExecutor.evalWriteAsync(getName(), codec, RedisCommands.EVAL_BOOLEAN,
+                INIT
+              + "if c == false then "
+                  + "return 0; "
+              + "end; "
+              + "if #c == " + BITMAP_SIZE + " then "
+                  + BITMAP_CHECK
+                  + "if not isSet then "
+                      + "return 0; "
+                  + "end; "
+                  + "local n = redis.call('hincrby', KEYS[1], 'n' .. high, -1); "
+                  + "if n > " + ARRAY_MAX_SIZE + " then "
+                      + "redis.call('hset', KEYS[1], high, string.sub(c, 1, i - 1) .. string.char(b - mask) .. string.sub(c, i + 1)); "
+                      + SET_VERSION
+                      + "return 1; "
+                  + "end; "
+                  // bitmap became sparse, converting it to array
+                  + "local parts = {}; "
+                  + "for j = 1, " + BITMAP_SIZE + " do "
+                      + "local bj = string.byte(c, j); "
+                      + "if j == i then "
+                          + "bj = bj - mask; "
+                      + "end; "
+                      + "for k = 0, 7 do "
+                          + "if bj == 0 then "
+                              + "break; "
+                          + "end; "
+                          + "local m = 2 ^ (7 - k); "
+                          + "if bj >= m then "
+                              + "bj = bj - m; "
+                              + "local v = (j - 1) * 8 + k; "
+                              + "table.insert(parts, string.char(math.floor(v / 256), v % 256)); "
+                          + "end; "
+                      + "end; "
+                  + "end; "
+                  + "redis.call('hset', KEYS[1], high, table.concat(parts)); "
+                  + SET_VERSION
+                  + "return 1; "
+              + "end; "
+              + ARRAY_SEARCH
+              + "if found == 0 then "
+                  + "return 0; "
+              + "end; "
+              + "if #c == 2 then "
+                  + "redis.call('hdel', KEYS[1], high, 'n' .. high); "
+                  + SET_VERSION
+                  + "return 1; "
+              + "end; "
+              + "redis.call('hset', KEYS[1], high, string.sub(c, 1, 2 * found - 2) .. string.sub(c, 2 * found + 1)); "
+              + "redis.call('hincrby', KEYS[1], 'n' .. high, -1); "
+              + SET_VERSION
+              + "return 1;",
+                Collections.<Object>singletonList(getName()), value >>> 16, value & 0xFFFF, newVersion());
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return get(containsAsync(value));
+    }
+
+    @Override
+    public Future<Boolean> containsAsync(int value) {
+        return commandExecutor.evalReadAsync(getName(), codec, RedisCommands.EVAL_BOOLEAN,
+                INIT
+              + "if c == false then "
+                  + "return 0; "
+              + "end; "
+              + "if #c == " + BITMAP_SIZE + " then "
+                  + BITMAP_CHECK
+                  + "if isSet then "
+                      + "return 1; "
+                  + "end; "
+                  + "return 0; "
+              + "end; "
+              + ARRAY_SEARCH
+              + "if found > 0 then "
+                  + "return 1; "
+              + "end; "
+              + "return 0;",
+                Collections.<Object>singletonList(getName()), value >>> 16, value & 0xFFFF);
+    }
+
+    @Override
+    public long cardinality() {
+        return get(cardinalityAsync());
+    }
+
+    @Override
+    public Future<Long> cardinalityAsync() {
+        return commandExecutor.evalReadAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local sum = 0; "
+              + "for _, f in ipairs(redis.call('hkeys', KEYS[1])) do "
+                  + "if string.sub(f, 1, 1) == 'n' then "
+                      + "sum = sum + tonumber(redis.call('hget', KEYS[1], f)); "
+                  + "end; "
+              + "end; "
+              + "return sum;",
+                Collections.<Object>singletonList(getName()));
+    }
+
+    @Override
+    public long rank(int value) {
+        return get(rankAsync(value));
+    }
+
+    @Override
+    public Future<Long> rankAsync(final int value) {
+        Future<List<Object>> f = commandExecutor.evalReadAsync(getName(), ByteArrayCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                "local high = tonumber(ARGV[1]); "
+              + "local sum = 0; "
+              + "for _, f in ipairs(redis.call('hkeys', KEYS[1])) do "
+                  + "if string.sub(f, 1, 1) == 'n' and tonumber(string.sub(f, 2)) < high then "
+                      + "sum = sum + tonumber(redis.call('hget', KEYS[1], f)); "
+                  + "end; "
+              + "end; "
+              + "return {sum, redis.call('hget', KEYS[1], ARGV[1])};",
+                Collections.<Object>singletonList(getName()), value >>> 16);
+
+        final Promise<Long> result = newPromise();
+        f.addListener(new FutureListener<List<Object>>() {
+            @Override
+            public void operationComplete(Future<List<Object>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.setFailure(future.cause());
+                    return;
+                }
+
+                List<Object> res = future.getNow();
+                long rank = (Long) res.get(0);
+                if (res.size() > 1 && res.get(1) != null) {
+                    rank += rank((byte[]) res.get(1), value & 0xFFFF);
+                }
+                result.setSuccess(rank);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void and(String... bitmapNames) {
+        op(Operation.AND, bitmapNames);
+    }
+
+    @Override
+    public void or(String... bitmapNames) {
+        op(Operation.OR, bitmapNames);
+    }
+
+    @Override
+    public void xor(String... bitmapNames) {
+        op(Operation.XOR, bitmapNames);
+    }
+
+    @Override
+    public void andNot(String... bitmapNames) {
+        op(Operation.ANDNOT, bitmapNames);
+    }
+
+    private void op(Operation operation, String... bitmapNames) {
+        while (true) {
+            Containers current = load(getName(), null);
+            Map<Integer, long[]> result = new HashMap<Integer, long[]>(current.containers.size());
+            for (Entry<Integer, byte[]> entry : current.containers.entrySet()) {
+                result.put(entry.getKey(), toBits(entry.getValue()));
+            }
+
+            for (String name : bitmapNames) {
+                // AND and ANDNOT only need containers of existing result
+                Collection<Integer> highs = null;
+                if (operation == Operation.AND || operation == Operation.ANDNOT) {
+                    highs = result.keySet();
+                }
+                apply(operation, result, load(name, highs).containers);
+            }
+
+            if (store(result, current.version)) {
+                return;
+            }
+            // bitmap has been changed concurrently
+        }
+    }
+
+    private void apply(Operation operation, Map<Integer, long[]> result, Map<Integer, byte[]> other) {
+        if (operation == Operation.OR || operation == Operation.XOR) {
+            for (Entry<Integer, byte[]> entry : other.entrySet()) {
+                if (!result.containsKey(entry.getKey())) {
+                    result.put(entry.getKey(), new long[BITMAP_SIZE / 8]);
+                }
+            }
+        }
+
+        for (Iterator<Entry<Integer, long[]>> iterator = result.entrySet().iterator(); iterator.hasNext();) {
+            Entry<Integer, long[]> entry = iterator.next();
+            long[] bits = entry.getValue();
+            byte[] otherContainer = other.get(entry.getKey());
+            if (otherContainer == null) {
+                if (operation == Operation.AND) {
+                    iterator.remove();
+                }
+                continue;
+            }
+
+            long[] otherBits = toBits(otherContainer);
+            boolean empty = true;
+            for (int i = 0; i < bits.length; i++) {
+                switch (operation) {
+                case AND:
+                    bits[i] &= otherBits[i];
+                    break;
+                case OR:
+                    bits[i] |= otherBits[i];
+                    break;
+                case XOR:
+                    bits[i] ^= otherBits[i];
+                    break;
+                case ANDNOT:
+                    bits[i] &= ~otherBits[i];
+                    break;
+                }
+                empty &= bits[i] == 0;
+            }
+            if (empty) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Loads containers of bitmap. Cached containers are used
+     * if bitmap version is unchanged since they were loaded.
+     *
+     * @param name - bitmap name
+     * @param highs - containers to load, <code>null</code> if all containers should be loaded
+     * @return containers
+     */
+    private Containers load(String name, Collection<Integer> highs) {
+        Containers cached = cache.get(name);
+        List<Object> args = new ArrayList<Object>();
+        if (cached != null) {
+            args.add(cached.version);
+        } else {
+            args.add("");
+        }
+        if (highs != null) {
+            if (highs.isEmpty()) {
+                return new Containers(null, Collections.<Integer, byte[]>emptyMap());
+            }
+            args.addAll(highs);
+        }
+
+        Future<List<Object>> f = commandExecutor.evalReadAsync(name, ByteArrayCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                "local version = redis.call('hget', KEYS[1], 'v') or '0'; "
+              + "if version == ARGV[1] then "
+                  + "return {version}; "
+              + "end; "
+              + "local result = {version}; "
+              + "local fields = {}; "
+              + "for i = 2, #ARGV do "
+                  + "table.insert(fields, ARGV[i]); "
+              + "end; "
+              + "if #fields == 0 then "
+                  + "fields = redis.call('hkeys', KEYS[1]); "
+              + "end; "
+              + "for _, f in ipairs(fields) do "
+                  + "if string.sub(f, 1, 1) ~= 'n' and f ~= 'v' then "
+                      + "local c = redis.call('hget', KEYS[1], f); "
+                      + "if c ~= false then "
+                          + "table.insert(result, f); "
+                          + "table.insert(result, c); "
+                      + "end; "
+                  + "end; "
+              + "end; "
+              + "return result;",
+                Collections.<Object>singletonList(name), args.toArray());
+        List<Object> res = get(f);
+
+        String version = new String((byte[]) res.get(0), CharsetUtil.UTF_8);
+        if (cached != null && cached.version.equals(version)) {
+            return cached;
+        }
+
+        Map<Integer, byte[]> containers = new HashMap<Integer, byte[]>(res.size() / 2);
+        for (int i = 1; i < res.size(); i += 2) {
+            Integer high = Integer.valueOf(new String((byte[]) res.get(i), CharsetUtil.UTF_8));
+            containers.put(high, (byte[]) res.get(i + 1));
+        }
+        Containers loaded = new Containers(version, containers);
+        if (highs == null) {
+            cache.put(name, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Replaces bitmap content with <code>result</code>
+     * if bitmap version is still equal to <code>version</code>.
+     *
+     * @return <code>true</code> if result has been stored
+     */
+    private boolean store(Map<Integer, long[]> result, String version) {
+        Map<Integer, byte[]> containers = new HashMap<Integer, byte[]>(result.size());
+        String newVersion = newVersion();
+        List<Object> args = new ArrayList<Object>(result.size() * 3 + 2);
+        args.add(version);
+        args.add(newVersion);
+        for (Entry<Integer, long[]> entry : result.entrySet()) {
+            byte[] container = toContainer(entry.getValue());
+            containers.put(entry.getKey(), container);
+            args.add(entry.getKey());
+            args.add(container);
+            args.add(cardinality(container));
+        }
+
+        Future<Boolean> f = commandExecutor.evalWriteAsync(getName(), codec, RedisCommands.EVAL_BOOLEAN,
+                "local version = redis.call('hget', KEYS[1], 'v') or '0'; "
+              + "if version ~= ARGV[1] then "
+                  + "return 0; "
+              + "end; "
+              + "redis.call('del', KEYS[1]); "
+              + "for i = 3, #ARGV, 3 do "
+                  + "redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]); "
+                  + "redis.call('hset', KEYS[1], 'n' .. ARGV[i], ARGV[i + 2]); "
+              + "end; "
+              + "redis.call('hset', KEYS[1], 'v', ARGV[2]); "
+              + "return 1;",
+                Collections.<Object>singletonList(getName()), args.toArray());
+        if (!get(f)) {
+            return false;
+        }
+
+        cache.put(getName(), new Containers(newVersion, containers));
+        return true;
+    }
+
+    private String newVersion() {
+        return Long.toString(ThreadLocalRandom.current().nextLong());
+    }
+
+    static long[] toBits(byte[] container) {
+        long[] bits = new long[BITMAP_SIZE / 8];
+        if (container.length == BITMAP_SIZE) {
+            for (int i = 0; i < BITMAP_SIZE; i++) {
+                for (int k = 0; k < 8; k++) {
+                    if ((container[i] & (0x80 >>> k)) != 0) {
+                        int v = i * 8 + k;
+                        bits[v >>> 6] |= 1L << (v & 63);
+                    }
+                }
+            }
+        } else {
+            for (int i = 0; i < container.length; i += 2) {
+                int v = ((container[i] & 0xFF) << 8) | (container[i + 1] & 0xFF);
+                bits[v >>> 6] |= 1L << (v & 63);
+            }
+        }
+        return bits;
+    }
+
+    static byte[] toContainer(long[] bits) {
+        int cardinality = 0;
+        for (long word : bits) {
+            cardinality += Long.bitCount(word);
+        }
+
+        if (cardinality > ARRAY_MAX_SIZE) {
+            byte[] container = new byte[BITMAP_SIZE];
+            for (int v = 0; v < BITMAP_SIZE * 8; v++) {
+                if ((bits[v >>> 6] & (1L << (v & 63))) != 0) {
+                    container[v >>> 3] |= 0x80 >>> (v & 7);
+                }
+            }
+            return container;
+        }
+
+        byte[] container = new byte[cardinality * 2];
+        int index = 0;
+        for (int v = 0; v < BITMAP_SIZE * 8; v++) {
+            if ((bits[v >>> 6] & (1L << (v & 63))) != 0) {
+                container[index++] = (byte) (v >>> 8);
+                container[index++] = (byte) v;
+            }
+        }
+        return container;
+    }
+
+    static int cardinality(byte[] container) {
+        if (container.length != BITMAP_SIZE) {
+            return container.length / 2;
+        }
+        int cardinality = 0;
+        for (byte b : container) {
+            cardinality += Integer.bitCount(b & 0xFF);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns amount of container values less than or equal to <code>low</code>
+     */
+    static int rank(byte[] container, int low) {
+        if (container.length == BITMAP_SIZE) {
+            int rank = 0;
+            for (int i = 0; i < low >>> 3; i++) {
+                rank += Integer.bitCount(container[i] & 0xFF);
+            }
+            int lastByte = container[low >>> 3] & 0xFF;
+            return rank + Integer.bitCount(lastByte >>> (7 - (low & 7)));
+        }
+
+        int lo = 0;
+        int hi = container.length / 2 - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int v = ((container[2 * mid] & 0xFF) << 8) | (container[2 * mid + 1] & 0xFF);
+            if (v <= low) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+}
@@ -0,0 +1,425 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.core.RSemaphore;
+
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Distributed alternative to the {@link java.util.concurrent.Semaphore}
+ * Permits amount is stored as number. Release publishes amount of
+ * released permits, so waiters don't poll Redis.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonSemaphore extends RedissonExpirable implements RSemaphore {
+
+    private final UUID id;
+    private final NotificationDispatcher notificationDispatcher;
+    private final SemaphorePubSub semaphorePubSub;
+
+    protected RedissonSemaphore(CommandExecutor commandExecutor, String name, UUID id, NotificationDispatcher notificationDispatcher) {
+        super(commandExecutor, name);
+        this.id = id;
+        this.notificationDispatcher = notificationDispatcher;
+        this.semaphorePubSub = new SemaphorePubSub(commandExecutor.getConnectionManager(), notificationDispatcher);
+    }
+
+    private String getEntryName() {
+        return id + ":" + getName();
+    }
+
+    String getChannelName() {
+        return "redisson_semaphore__channel__{" + getName() + "}";
+    }
+
+    private Future<RedissonLockEntry> subscribe() {
+        return semaphorePubSub.subscribe(getEntryName(), getChannelName());
+    }
+
+    private void unsubscribe(RedissonLockEntry entry) {
+        semaphorePubSub.unsubscribe(entry, getEntryName(), getChannelName());
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        acquire(1);
+    }
+
+    @Override
+    public void acquire(int permits) throws InterruptedException {
+        if (tryAcquire(permits)) {
+            return;
+        }
+
+        Future<RedissonLockEntry> future = subscribe();
+        future.syncUninterruptibly();
+        try {
+            while (true) {
+                if (tryAcquire(permits)) {
+                    return;
+                }
+
+                // waiting for message, retry in case if it has been missed
+                semaphorePubSub.getEntry(getEntryName()).getLatch().tryAcquire(
+                        commandExecutor.getConnectionManager().getConfig().getRetryInterval(), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            unsubscribe(future.getNow());
+        }
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        if (permits < 0) {
+            throw new IllegalArgumentException("Permits amount can't be negative");
+        }
+        return get(tryAcquireAsync(permits));
+    }
+
+    @Override
+    public boolean tryAcquire(long waitTime, TimeUnit unit) throws InterruptedException {
+        return tryAcquire(1, waitTime, unit);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits, long waitTime, TimeUnit unit) throws InterruptedException {
+        if (tryAcquire(permits)) {
+            return true;
+        }
+
+        long time = unit.toMillis(waitTime);
+        long current = System.currentTimeMillis();
+        final Future<RedissonLockEntry> future = subscribe();
+        if (!future.await(time, TimeUnit.MILLISECONDS)) {
+            future.addListener(new FutureListener<RedissonLockEntry>() {
+                @Override
+                public void operationComplete(Future<RedissonLockEntry> future) throws Exception {
+                    if (future.isSuccess()) {
+                        unsubscribe(future.getNow());
+                    }
+                }
+            });
+            return false;
+        }
+
+        try {
+            time -= System.currentTimeMillis() - current;
+            while (true) {
+                if (tryAcquire(permits)) {
+                    return true;
+                }
+
+                if (time <= 0) {
+                    return false;
+                }
+
+                // waiting for message
+                current = System.currentTimeMillis();
+                semaphorePubSub.getEntry(getEntryName()).getLatch().tryAcquire(time, TimeUnit.MILLISECONDS);
+                time -= System.currentTimeMillis() - current;
+            }
+        } finally {
+            unsubscribe(future.getNow());
+        }
+    }
+
+    @Override
+    public Future<Void> acquireAsync() {
+        return acquireAsync(1);
+    }
+
+    @Override
+    public Future<Void> acquireAsync(int permits) {
+        final Promise<Void> result = newPromise();
+        Future<Boolean> future = tryAcquireAsync(permits, -1, TimeUnit.MILLISECONDS);
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                result.trySuccess(null);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public Future<Boolean> tryAcquireAsync() {
+        return tryAcquireAsync(1);
+    }
+
+    @Override
+    public Future<Boolean> tryAcquireAsync(int permits) {
+        if (permits < 0) {
+            return newFailedFuture(new IllegalArgumentException("Permits amount can't be negative"));
+        }
+
+        return commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_BOOLEAN,
+                "local value = redis.call('get', KEYS[1]); " +
+                "if (value ~= false and tonumber(value) >= tonumber(ARGV[1])) then " +
+                    "redis.call('decrby', KEYS[1], ARGV[1]); " +
+                    "return 1; " +
+                "end; " +
+                "return 0;",
+                Collections.<Object>singletonList(getName()), permits);
+    }
+
+    @Override
+    public Future<Boolean> tryAcquireAsync(long waitTime, TimeUnit unit) {
+        return tryAcquireAsync(1, waitTime, unit);
+    }
+
+    @Override
+    public Future<Boolean> tryAcquireAsync(final int permits, long waitTime, TimeUnit unit) {
+        final Promise<Boolean> result = newPromise();
+        // -1 means wait until permits acquired
+        final long deadline;
+        if (waitTime == -1) {
+            deadline = -1;
+        } else {
+            deadline = System.currentTimeMillis() + unit.toMillis(waitTime);
+        }
+
+        Future<Boolean> future = tryAcquireAsync(permits);
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                if (future.getNow()) {
+                    result.trySuccess(true);
+                    return;
+                }
+
+                if (deadline != -1 && System.currentTimeMillis() >= deadline) {
+                    result.trySuccess(false);
+                    return;
+                }
+
+                subscribeAsync(permits, deadline, result);
+            }
+        });
+        return result;
+    }
+
+    private void subscribeAsync(final int permits, final long deadline, final Promise<Boolean> result) {
+        final Future<RedissonLockEntry> subscribeFuture = subscribe();
+        final AtomicReference<Timeout> timeoutRef = new AtomicReference<Timeout>();
+        if (deadline != -1) {
+            Timeout timeout = commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+                @Override
+                public void run(Timeout timeout) throws Exception {
+                    if (result.trySuccess(false)) {
+                        subscribeFuture.addListener(new FutureListener<RedissonLockEntry>() {
+                            @Override
+                            public void operationComplete(Future<RedissonLockEntry> future) throws Exception {
+                                unsubscribe(future.getNow());
+                            }
+                        });
+                    }
+                }
+            }, Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            timeoutRef.set(timeout);
+        }
+
+        subscribeFuture.addListener(new FutureListener<RedissonLockEntry>() {
+            @Override
+            public void operationComplete(Future<RedissonLockEntry> future) throws Exception {
+                if (timeoutRef.get() != null && !timeoutRef.get().cancel()) {
+                    // wait time elapsed during subscription
+                    return;
+                }
+                if (result.isDone()) {
+                    unsubscribe(future.getNow());
+                    return;
+                }
+
+                acquireAsync(future.getNow(), permits, deadline, result);
+            }
+        });
+    }
+
+    /**
+     * Retries permits acquisition each time release message received.
+     * No thread is blocked during waiting.
+     */
+    private void acquireAsync(final RedissonLockEntry entry, final int permits,
+                                final long deadline, final Promise<Boolean> result) {
+        Future<Boolean> future = tryAcquireAsync(permits);
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (!future.isSuccess()) {
+                    unsubscribe(entry);
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                if (future.getNow()) {
+                    unsubscribe(entry);
+                    if (!result.trySuccess(true)) {
+                        // result has been completed already
+                        releaseAsync(permits);
+                    }
+                    return;
+                }
+
+                // retry in case if release message has been missed
+                long waitTime = commandExecutor.getConnectionManager().getConfig().getRetryInterval();
+                if (deadline != -1) {
+                    long remainTime = deadline - System.currentTimeMillis();
+                    if (remainTime <= 0) {
+                        unsubscribe(entry);
+                        result.trySuccess(false);
+                        return;
+                    }
+                    waitTime = Math.min(waitTime, remainTime);
+                }
+
+                final AtomicBoolean executed = new AtomicBoolean();
+                final AtomicReference<Timeout> timeoutRef = new AtomicReference<Timeout>();
+                final Runnable listener = new Runnable() {
+                    @Override
+                    public void run() {
+                        if (!executed.compareAndSet(false, true)) {
+                            return;
+                        }
+                        entry.removeListener(this);
+                        if (timeoutRef.get() != null) {
+                            timeoutRef.get().cancel();
+                        }
+                        acquireAsync(entry, permits, deadline, result);
+                    }
+                };
+                // waiting for message
+                entry.addListener(listener);
+
+                Timeout timeout = commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+                    @Override
+                    public void run(Timeout timeout) throws Exception {
+                        listener.run();
+                    }
+                }, waitTime, TimeUnit.MILLISECONDS);
+                timeoutRef.set(timeout);
+            }
+        });
+    }
+
+    @Override
+    public void release() {
+        release(1);
+    }
+
+    @Override
+    public void release(int permits) {
+        if (permits < 0) {
+            throw new IllegalArgumentException("Permits amount can't be negative");
+        }
+        get(releaseAsync(permits));
+    }
+
+    @Override
+    public Future<Void> releaseAsync() {
+        return releaseAsync(1);
+    }
+
+    @Override
+    public Future<Void> releaseAsync(int permits) {
+        if (permits < 0) {
+            return newFailedFuture(new IllegalArgumentException("Permits amount can't be negative"));
+        }
+
+        final Promise<Void> result = newPromise();
+        Future<Boolean> future = commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_BOOLEAN_R1,
+                "redis.call('incrby', KEYS[1], ARGV[2]); " +
+                "redis.call('publish', ARGV[3], ARGV[1]); " +
+                "return 1;",
+                Collections.<Object>singletonList(getName()), notificationDispatcher.getMessage(getChannelName(), permits),
+                permits, notificationDispatcher.getChannel(getChannelName()));
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                result.trySuccess(null);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public int availablePermits() {
+        Long res = commandExecutor.read(getName(), LongCodec.INSTANCE, RedisCommands.GET, getName());
+        if (res == null) {
+            return 0;
+        }
+        return res.intValue();
+    }
+
+    @Override
+    public boolean trySetPermits(int permits) {
+        return commandExecutor.evalWrite(getName(), RedisCommands.EVAL_BOOLEAN_R1,
+                "if (redis.call('exists', KEYS[1]) == 0) then " +
+                    "redis.call('set', KEYS[1], ARGV[2]); " +
+                    "redis.call('publish', ARGV[3], ARGV[1]); " +
+                    "return 1; " +
+                "end; " +
+                "return 0;",
+                Collections.<Object>singletonList(getName()), notificationDispatcher.getMessage(getChannelName(), permits),
+                permits, notificationDispatcher.getChannel(getChannelName()));
+    }
+
+    @Override
+    public int drainPermits() {
+        Long res = commandExecutor.evalWrite(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local value = redis.call('get', KEYS[1]); " +
+                "if (value == false or tonumber(value) <= 0) then " +
+                    "return 0; " +
+                "end; " +
+                "redis.call('set', KEYS[1], 0); " +
+                "return tonumber(value);",
+                Collections.<Object>singletonList(getName()));
+        return res.intValue();
+    }
+
+}
@@ -22,7 +22,6 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.redisson.client.codec.Codec;
@@ -78,70 +77,30 @@ public class RedissonSet<V> extends RedissonExpirable implements RSet<V> {
         return commandExecutor.readAsync(getName(), codec, RedisCommands.SISMEMBER, getName(), o);
     }
 
-    private ListScanResult<V> scanIterator(InetSocketAddress client, long startPos) {
-        return commandExecutor.read(client, getName(), codec, RedisCommands.SSCAN, getName(), startPos);
+    private Future<ListScanResult<V>> scanIteratorAsync(InetSocketAddress client, long startPos, int count) {
+        if (count > 0) {
+            return commandExecutor.readAsync(client, getName(), codec, RedisCommands.SSCAN, getName(), startPos, "COUNT", count);
+        }
+        return commandExecutor.readAsync(client, getName(), codec, RedisCommands.SSCAN, getName(), startPos);
     }
 
     @Override
     public Iterator<V> iterator() {
-        return new Iterator<V>() {
-
-            private List<V> firstValues;
-            private Iterator<V> iter;
-            private InetSocketAddress client;
-            private long nextIterPos;
-
-            private boolean currentElementRemoved;
-            private boolean removeExecuted;
-            private V value;
+        return iterator(0);
+    }
 
-            @Override
-            public boolean hasNext() {
-                if (iter == null || !iter.hasNext()) {
-                    if (nextIterPos == -1) {
-                        return false;
-                    }
-                    long prevIterPos = nextIterPos;
-                    ListScanResult<V> res = scanIterator(client, nextIterPos);
-                    client = res.getRedisClient();
-                    if (nextIterPos == 0 && firstValues == null) {
-                        firstValues = res.getValues();
-                    } else if (res.getValues().equals(firstValues)) {
-                        return false;
-                    }
-                    iter = res.getValues().iterator();
-                    nextIterPos = res.getPos();
-                    if (prevIterPos == nextIterPos && !removeExecuted) {
-                        nextIterPos = -1;
-                    }
-                }
-                return iter.hasNext();
-            }
+    @Override
+    public Iterator<V> iterator(final int count) {
+        return new RedissonBaseIterator<V, V>(commandExecutor) {
 
             @Override
-            public V next() {
-                if (!hasNext()) {
-                    throw new NoSuchElementException("No such element at index");
-                }
-
-                value = iter.next();
-                currentElementRemoved = false;
-                return value;
+            protected Future<ListScanResult<V>> scanIteratorAsync(InetSocketAddress client, long startPos) {
+                return RedissonSet.this.scanIteratorAsync(client, startPos, count);
             }
 
             @Override
-            public void remove() {
-                if (currentElementRemoved) {
-                    throw new IllegalStateException("Element been already deleted");
-                }
-                if (iter == null) {
-                    throw new IllegalStateException();
-                }
-
-                iter.remove();
+            protected void remove(V value) {
                 RedissonSet.this.remove(value);
-                currentElementRemoved = true;
-                removeExecuted = true;
             }
 
         };
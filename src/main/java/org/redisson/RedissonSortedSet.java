@@ -36,6 +36,8 @@ import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.RedisStrictCommand;
+import org.redisson.client.protocol.convertor.LongReplayConvertor;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.core.RSortedSet;
 
@@ -72,15 +74,25 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
         private V value;
         private int index;
+        private Long version;
 
         public BinarySearchResult(V value) {
             super();
             this.value = value;
         }
 
+        public BinarySearchResult(Long version, int index) {
+            this.version = version;
+            this.index = index;
+        }
+
         public BinarySearchResult() {
         }
 
+        public Long getVersion() {
+            return version;
+        }
+
         public void setIndex(int index) {
             this.index = index;
         }
@@ -95,6 +107,85 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
     }
 
+    private static final int SEARCH_FANOUT = 64;
+
+    // encodes ARGV[1] of script with 3 keys
+    private static final RedisStrictCommand<Long> EVAL_LONG_R3 = new RedisStrictCommand<Long>("EVAL", new LongReplayConvertor(), 6);
+
+    /**
+     * Binary search of ARGV[1] over list by encoded form. Strings are compared
+     * bytewise, integers (ARGV[2] == '1') by sign, length and digits.
+     * Returns -1 if a comparator has been set for this set.
+     */
+    private static final String NATURAL_SEARCH_SCRIPT =
+            "if redis.call('exists', KEYS[3]) == 1 then "
+                + "return -1; "
+            + "end; "
+            + "local function compareBytes(a, b) "
+                + "for i = 1, math.min(#a, #b) do "
+                    + "local x = string.byte(a, i); "
+                    + "local y = string.byte(b, i); "
+                    + "if x ~= y then "
+                        + "if x < y then return -1; end; "
+                        + "return 1; "
+                    + "end; "
+                + "end; "
+                + "if #a == #b then return 0; end; "
+                + "if #a < #b then return -1; end; "
+                + "return 1; "
+            + "end; "
+            + "local function compare(a, b) "
+                + "if ARGV[2] ~= '1' then "
+                    + "return compareBytes(a, b); "
+                + "end; "
+                + "local na = string.sub(a, 1, 1) == '-'; "
+                + "local nb = string.sub(b, 1, 1) == '-'; "
+                + "if na ~= nb then "
+                    + "if na then return -1; end; "
+                    + "return 1; "
+                + "end; "
+                + "local c = compareBytes(a, b); "
+                + "if #a ~= #b then "
+                    + "if #a < #b then c = -1; else c = 1; end; "
+                + "end; "
+                + "if na then return -c; end; "
+                + "return c; "
+            + "end; "
+            + "local lo = 0; "
+            + "local hi = redis.call('llen', KEYS[1]) - 1; "
+            + "local index = nil; "
+            + "while lo <= hi do "
+                + "local mid = math.floor((lo + hi) / 2); "
+                + "local c = compare(ARGV[1], redis.call('lindex', KEYS[1], mid)); "
+                + "if c == 0 then "
+                    + "index = mid; "
+                    + "break; "
+                + "elseif c < 0 then "
+                    + "hi = mid - 1; "
+                + "else "
+                    + "lo = mid + 1; "
+                + "end; "
+            + "end; "
+            + "if index == nil then "
+                + "index = -(lo + 1); "
+            + "end; ";
+
+    /**
+     * Removes element at ARGV[2] index if set version equals to ARGV[1]
+     * or ARGV[1] is empty.
+     */
+    private static final String REMOVE_INDEX_SCRIPT =
+            "if ARGV[1] ~= '' and tonumber(redis.call('get', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then "
+                + "return 0; "
+            + "end; "
+            + "if redis.call('lindex', KEYS[1], ARGV[2]) == false then "
+                + "return 0; "
+            + "end; "
+            + "redis.call('lset', KEYS[1], ARGV[2], '__redisson__sortedset__removed__'); "
+            + "redis.call('lrem', KEYS[1], 1, '__redisson__sortedset__removed__'); "
+            + "redis.call('incr', KEYS[2]); "
+            + "return 1; ";
+
     private Comparator<? super V> comparator = NaturalComparator.NATURAL_ORDER;
 
     protected RedissonSortedSet(CommandExecutor commandExecutor, String name) {
@@ -169,23 +260,25 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         return commandExecutor.read(getName(), codec, RedisCommands.LLEN, getName());
     }
 
-    private int size(RedisConnection connection) {
-        return connection.sync(RedisCommands.LLEN, getName()).intValue();
-    }
-
     @Override
     public boolean isEmpty() {
         return size() == 0;
     }
 
     @Override
-    public boolean contains(final Object o) {
-        return commandExecutor.read(getName(), codec, new SyncOperation<Boolean>() {
-            @Override
-            public Boolean execute(Codec codec, RedisConnection conn) {
-                return binarySearch((V)o, codec, conn).getIndex() >= 0;
+    public boolean contains(Object o) {
+        if (isServerSideOrdering()) {
+            Long res = commandExecutor.evalRead(getName(), codec, EVAL_LONG_R3,
+                    NATURAL_SEARCH_SCRIPT
+                    + "if index >= 0 then return 1; end; "
+                    + "return 0; ",
+                    Arrays.<Object>asList(getName(), getCurrentVersionKey(), getComparatorKeyName()), o, numericFlag());
+            if (res != -1) {
+                return res == 1;
             }
-        });
+            loadComparator();
+        }
+        return search((V) o).getIndex() >= 0;
     }
 
     public Iterator<V> iterator() {
@@ -250,32 +343,10 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 //        return iterator(startScore, Double.MAX_VALUE);
     }
 
-    private void remove(final int index) {
-        commandExecutor.write(getName(), codec, new SyncOperation<V>() {
-            @Override
-            public V execute(Codec codec, RedisConnection conn) {
-                if (index == 0) {
-                    return conn.sync(codec, RedisCommands.LPOP, getName());
-                }
-                while (true) {
-                    conn.sync(RedisCommands.WATCH, getName());
-                    List<Object> tail = conn.sync(codec, RedisCommands.LRANGE, getName(), index + 1, size());
-                    conn.sync(RedisCommands.MULTI);
-                    conn.sync(codec, RedisCommands.LTRIM, getName(), 0, index - 1);
-                    if (tail.isEmpty()) {
-                        if (((List<Object>)conn.sync(codec, RedisCommands.EXEC)).size() == 1) {
-                            return null;
-                        }
-                    } else {
-                        tail.add(0, getName());
-                        conn.sync(codec, RedisCommands.RPUSH, tail.toArray());
-                        if (((List<Object>)conn.sync(codec, RedisCommands.EXEC)).size() == 2) {
-                            return null;
-                        }
-                    }
-                }
-            }
-        });
+    private void remove(int index) {
+        commandExecutor.evalWrite(getName(), codec, RedisCommands.EVAL_BOOLEAN,
+                REMOVE_INDEX_SCRIPT,
+                Arrays.<Object>asList(getName(), getCurrentVersionKey()), "", index);
     }
 
     private V get(final int index) {
@@ -298,18 +369,53 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         return "redisson__sortedset__version__{" + getName() + "}";
     }
 
-    private Long getCurrentVersion(Codec codec, RedisConnection simpleConnection) {
-        return simpleConnection.sync(LongCodec.INSTANCE, RedisCommands.GET, getCurrentVersionKey());
-    }
-
     @Override
-    public boolean add(final V value) {
-        return commandExecutor.write(getName(), codec, new SyncOperation<Boolean>() {
-            @Override
-            public Boolean execute(Codec codec, RedisConnection conn) {
-                return add(value, codec, conn);
+    public boolean add(V value) {
+        if (isServerSideOrdering()) {
+            Long res = commandExecutor.evalWrite(getName(), codec, EVAL_LONG_R3,
+                    NATURAL_SEARCH_SCRIPT
+                    + "if index >= 0 then return 0; end; "
+                    + "index = -(index + 1); "
+                    + "if index >= redis.call('llen', KEYS[1]) then "
+                        + "redis.call('rpush', KEYS[1], ARGV[1]); "
+                    + "else "
+                        + "local pivot = redis.call('lindex', KEYS[1], index); "
+                        + "redis.call('linsert', KEYS[1], 'before', pivot, ARGV[1]); "
+                    + "end; "
+                    + "redis.call('incr', KEYS[2]); "
+                    + "return 1; ",
+                    Arrays.<Object>asList(getName(), getCurrentVersionKey(), getComparatorKeyName()), value, numericFlag());
+            if (res != -1) {
+                return res == 1;
             }
-        });
+            loadComparator();
+        }
+
+        while (true) {
+            BinarySearchResult<V> res = search(value);
+            if (res.getIndex() >= 0) {
+                return false;
+            }
+
+            int index = -(res.getIndex() + 1);
+            Boolean added = commandExecutor.evalWrite(getName(), codec, RedisCommands.EVAL_BOOLEAN_R2,
+                    "if tonumber(redis.call('get', KEYS[2]) or '0') ~= tonumber(ARGV[2]) then "
+                        + "return false; "
+                    + "end; "
+                    + "local index = tonumber(ARGV[3]); "
+                    + "if index >= redis.call('llen', KEYS[1]) then "
+                        + "redis.call('rpush', KEYS[1], ARGV[1]); "
+                    + "else "
+                        + "local pivot = redis.call('lindex', KEYS[1], index); "
+                        + "redis.call('linsert', KEYS[1], 'before', pivot, ARGV[1]); "
+                    + "end; "
+                    + "redis.call('incr', KEYS[2]); "
+                    + "return 1; ",
+                    Arrays.<Object>asList(getName(), getCurrentVersionKey()), value, res.getVersion(), index);
+            if (added) {
+                return true;
+            }
+        }
     }
 
     public Future<Boolean> addAsync(final V value) {
@@ -328,112 +434,6 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         return promise;
     }
 
-    boolean add(V value, Codec codec, RedisConnection connection) {
-        while (true) {
-            connection.sync(RedisCommands.WATCH, getName(), getComparatorKeyName());
-
-            checkComparator(connection);
-
-            Long version = getCurrentVersion(codec, connection);
-            BinarySearchResult<V> res = binarySearch(value, codec, connection);
-            if (res.getIndex() < 0) {
-//                System.out.println("index: " + res.getIndex() + " value: " + value);
-                if (!version.equals(getCurrentVersion(codec, connection))) {
-                    connection.sync(RedisCommands.UNWATCH);
-                    continue;
-                }
-//                NewScore newScore = calcNewScore(res.getIndex(), connection);
-//                if (!version.equals(getCurrentVersion(simpleConnection))) {
-//                    connection.unwatch();
-//                    continue;
-//                }
-//
-//                String leftScoreKey = getScoreKeyName(newScore.getLeftScore());
-//                String rightScoreKey = getScoreKeyName(newScore.getRightScore());
-//
-//                if (simpleConnection.setnx(leftScoreKey, 1)) {
-//                    if (!version.equals(getCurrentVersion(simpleConnection))) {
-//                        connection.unwatch();
-//
-//                        connection.del(leftScoreKey);
-//                        continue;
-//                    }
-//                    if (rightScoreKey != null) {
-//
-//                        if (!simpleConnection.setnx(rightScoreKey, 1)) {
-//                            connection.unwatch();
-//
-//                            connection.del(leftScoreKey);
-//                            continue;
-//                        }
-//                    }
-//                } else {
-//                    connection.unwatch();
-//                    continue;
-//                }
-
-                V pivot = null;
-                boolean before = false;
-                int index = -(res.getIndex() + 1);
-
-                if (index < size()) {
-                    before = true;
-                    pivot = connection.sync(codec, RedisCommands.LINDEX, getName(), index);
-                }
-
-                connection.sync(RedisCommands.MULTI);
-                if (index >= size()) {
-                    connection.sync(codec, RedisCommands.RPUSH, getName(), value);
-                } else {
-                    connection.sync(codec, RedisCommands.LINSERT, getName(), before ? "BEFORE" : "AFTER", pivot, value);
-                }
-//                System.out.println("adding: " + newScore.getScore() + " " + value);
-//                connection.zadd(getName(), newScore.getScore(), value);
-//                if (rightScoreKey != null) {
-//                    connection.del(leftScoreKey, rightScoreKey);
-//                } else {
-//                    connection.del(leftScoreKey);
-//                }
-                connection.sync(RedisCommands.INCR, getCurrentVersionKey());
-                List<Object> re = connection.sync(codec, RedisCommands.EXEC);
-                if (re.size() == 2) {
-//                    System.out.println("index: " + index + " value: " + value + " pivot: " + pivot);
-                    return true;
-//                    Number val = (Number) re.get(0);
-//                    Long delCount = (Long) re.get(1);
-//                    if (rightScoreKey != null) {
-//                        if (delCount != 2) {
-//                            throw new IllegalStateException();
-//                        }
-//                    } else {
-//                        if (delCount != 1) {
-//                            throw new IllegalStateException();
-//                        }
-//                    }
-//                    return val != null && val.intValue() > 0;
-                }
-            } else {
-                connection.sync(RedisCommands.UNWATCH);
-                return false;
-            }
-        }
-    }
-
-    private void checkComparator(RedisConnection connection) {
-        String comparatorSign = connection.sync(StringCodec.INSTANCE, RedisCommands.GET, getComparatorKeyName());
-        if (comparatorSign != null) {
-            String[] vals = comparatorSign.split(":");
-            String className = vals[0];
-            if (!comparator.getClass().getName().equals(className)) {
-//                try {
-                    loadComparator(connection);
-//                } finally {
-//                    connection.sync(RedisCommands.UNWATCH);
-//                }
-            }
-        }
-    }
-
     public static double calcIncrement(double value) {
         BigDecimal b = BigDecimal.valueOf(value);
         BigDecimal r = b.remainder(BigDecimal.ONE);
@@ -465,45 +465,32 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
     }
 
     @Override
-    public boolean remove(final Object value) {
-        return commandExecutor.write(getName(), codec, new SyncOperation<Boolean>() {
-            @Override
-            public Boolean execute(Codec codec, RedisConnection conn) {
-                return remove(value, codec, conn);
+    public boolean remove(Object value) {
+        if (isServerSideOrdering()) {
+            Long res = commandExecutor.evalWrite(getName(), codec, EVAL_LONG_R3,
+                    NATURAL_SEARCH_SCRIPT
+                    + "if index < 0 then return 0; end; "
+                    + "redis.call('lrem', KEYS[1], 1, ARGV[1]); "
+                    + "redis.call('incr', KEYS[2]); "
+                    + "return 1; ",
+                    Arrays.<Object>asList(getName(), getCurrentVersionKey(), getComparatorKeyName()), value, numericFlag());
+            if (res != -1) {
+                return res == 1;
             }
-        });
-    }
+            loadComparator();
+        }
 
-    boolean remove(Object value, Codec codec, RedisConnection conn) {
         while (true) {
-            conn.sync(RedisCommands.WATCH, getName());
-            BinarySearchResult<V> res = binarySearch((V) value, codec, conn);
+            BinarySearchResult<V> res = search((V) value);
             if (res.getIndex() < 0) {
-                conn.sync(RedisCommands.UNWATCH);
                 return false;
             }
 
-            if (res.getIndex() == 0) {
-                conn.sync(RedisCommands.MULTI);
-                conn.sync(codec, RedisCommands.LPOP, getName());
-                if (((List<Object>)conn.sync(codec, RedisCommands.EXEC)).size() == 1) {
-                    return true;
-                }
-            }
-
-            List<Object> tail = conn.sync(codec, RedisCommands.LRANGE, getName(), res.getIndex() + 1, size());
-            conn.sync(RedisCommands.MULTI);
-            conn.sync(RedisCommands.LTRIM, getName(), 0, res.getIndex() - 1);
-            if (tail.isEmpty()) {
-                if (((List<Object>)conn.sync(codec, RedisCommands.EXEC)).size() == 1) {
-                    return true;
-                }
-            } else {
-                tail.add(0, getName());
-                conn.sync(codec, RedisCommands.RPUSH, tail.toArray());
-                if (((List<Object>)conn.sync(codec, RedisCommands.EXEC)).size() == 2) {
-                    return true;
-                }
+            Boolean removed = commandExecutor.evalWrite(getName(), codec, RedisCommands.EVAL_BOOLEAN,
+                    REMOVE_INDEX_SCRIPT,
+                    Arrays.<Object>asList(getName(), getCurrentVersionKey()), res.getVersion(), res.getIndex());
+            if (removed) {
+                return true;
             }
         }
     }
@@ -620,45 +607,104 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         return res;
     }
 
-    private V getAtIndex(Codec codec, int index, RedisConnection connection) {
-        return connection.sync(codec, RedisCommands.LINDEX, getName(), index);
+    /**
+     * Natural ordering of String and Long values matches the order
+     * of their encoded form, so these sets are searched by Lua script
+     * in a single round trip.
+     */
+    private boolean isServerSideOrdering() {
+        return comparator == NaturalComparator.NATURAL_ORDER && codec instanceof StringCodec;
+    }
+
+    private String numericFlag() {
+        if (codec instanceof LongCodec) {
+            return "1";
+        }
+        return "0";
     }
 
     /**
-     * Binary search algorithm
+     * Multi-way search. Each round trip fetches up to {@link #SEARCH_FANOUT}
+     * evenly spaced elements of the remaining range, so the value position
+     * in a set of 1M elements is found in 4 round trips.
+     * Search restarts if set has been modified in the meantime.
      *
      * @param value
-     * @param connection
-     * @param lowerIndex
-     * @param upperIndex
-     * @return
+     * @return search result with index of value or
+     *         <code>-(insertion point + 1)</code> if value is absent
      */
-    private BinarySearchResult<V> binarySearch(V value, Codec codec, RedisConnection connection, int lowerIndex, int upperIndex) {
-        while (lowerIndex <= upperIndex) {
-            int index = lowerIndex + (upperIndex - lowerIndex) / 2;
-
-            V res = getAtIndex(codec, index, connection);
-            int cmp = comparator.compare(value, res);
-
-            if (cmp == 0) {
-                BinarySearchResult<V> indexRes = new BinarySearchResult<V>();
-                indexRes.setIndex(index);
-                return indexRes;
-            } else if (cmp < 0) {
-                upperIndex = index - 1;
-            } else {
-                lowerIndex = index + 1;
+    private BinarySearchResult<V> search(V value) {
+        Long version = null;
+        int lowerIndex = 0;
+        int upperIndex = -1;
+        while (true) {
+            List<Object> res = commandExecutor.evalRead(getName(), codec, RedisCommands.EVAL_LIST,
+                    "local size = redis.call('llen', KEYS[1]); "
+                    + "local version = tonumber(redis.call('get', KEYS[2]) or '0'); "
+                    + "local lo = tonumber(ARGV[1]); "
+                    + "local hi = tonumber(ARGV[2]); "
+                    + "local fanout = tonumber(ARGV[3]); "
+                    + "if hi < 0 or hi >= size then "
+                        + "hi = size - 1; "
+                    + "end; "
+                    + "local result = {version, redis.call('exists', KEYS[3]), lo, hi}; "
+                    + "if hi - lo + 1 <= fanout then "
+                        + "local values = redis.call('lrange', KEYS[1], lo, hi); "
+                        + "for i, v in ipairs(values) do "
+                            + "table.insert(result, lo + i - 1); "
+                            + "table.insert(result, v); "
+                        + "end; "
+                    + "else "
+                        + "for i = 0, fanout - 1 do "
+                            + "local pos = lo + math.floor(i * (hi - lo) / (fanout - 1)); "
+                            + "table.insert(result, pos); "
+                            + "table.insert(result, redis.call('lindex', KEYS[1], pos)); "
+                        + "end; "
+                    + "end; "
+                    + "return result; ",
+                    Arrays.<Object>asList(getName(), getCurrentVersionKey(), getComparatorKeyName()),
+                    lowerIndex, upperIndex, SEARCH_FANOUT);
+
+            Long currentVersion = (Long) res.get(0);
+            if (version != null && !version.equals(currentVersion)) {
+                version = null;
+                lowerIndex = 0;
+                upperIndex = -1;
+                continue;
             }
-        }
+            version = currentVersion;
 
-        BinarySearchResult<V> indexRes = new BinarySearchResult<V>();
-        indexRes.setIndex(-(lowerIndex + 1));
-        return indexRes;
-    }
+            if ((Long) res.get(1) == 1 && comparator == NaturalComparator.NATURAL_ORDER) {
+                loadComparator();
+                if (comparator != NaturalComparator.NATURAL_ORDER) {
+                    version = null;
+                    continue;
+                }
+            }
 
-    public BinarySearchResult<V> binarySearch(V value, Codec codec, RedisConnection connection) {
-        int upperIndex = size(connection) - 1;
-        return binarySearch(value, codec, connection, 0, upperIndex);
+            int from = ((Long) res.get(2)).intValue();
+            int to = ((Long) res.get(3)).intValue();
+            boolean complete = (res.size() - 4) / 2 == to - from + 1;
+
+            lowerIndex = from;
+            upperIndex = to;
+            for (int i = 4; i < res.size(); i += 2) {
+                int index = ((Long) res.get(i)).intValue();
+                int cmp = comparator.compare(value, (V) res.get(i + 1));
+                if (cmp == 0) {
+                    return new BinarySearchResult<V>(version, index);
+                }
+                if (cmp < 0) {
+                    upperIndex = index - 1;
+                    break;
+                }
+                lowerIndex = index + 1;
+            }
+
+            if (complete || lowerIndex > upperIndex) {
+                return new BinarySearchResult<V>(version, -(lowerIndex + 1));
+            }
+        }
     }
 
     double score(V value, RedisConnection connection, int indexDiff, boolean tail) {
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ScoredEntry;
+import org.redisson.core.RTopK;
+
+import io.netty.util.concurrent.Future;
+
+/**
+ * Heaviest objects are stored in sorted set by object name,
+ * count-min sketch counters and <code>k</code> parameter are stored in separate hash.
+ *
+ * @param <V>
+ */
+public class RedissonTopK<V> extends RedissonObject implements RTopK<V> {
+
+    protected RedissonTopK(CommandExecutor commandExecutor, String name) {
+        super(commandExecutor, name);
+    }
+
+    protected RedissonTopK(Codec codec, CommandExecutor commandExecutor, String name) {
+        super(codec, commandExecutor, name);
+    }
+
+    @Override
+    public boolean tryInit(int k, int width, int depth) {
+        return commandExecutor.evalWrite(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                "if redis.call('exists', KEYS[1]) == 1 then "
+                    + "return 0; "
+                + "end; "
+                + "redis.call('hmset', KEYS[1], 'k', ARGV[1], 'width', ARGV[2], 'depth', ARGV[3]); "
+                + "return 1;",
+                Arrays.<Object>asList(getSketchName()), k, width, depth);
+    }
+
+    @Override
+    public long add(V object, long count) {
+        byte[] state = RedissonCountMinSketch.encode(codec, object);
+        long[] hash = RedissonCountMinSketch.hash(state);
+        Future<Long> f = commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                RedissonCountMinSketch.READ_CONFIG_SCRIPT
+              + "local count = ARGV[1]; "
+              + "local a = tonumber(ARGV[2]); "
+              + "local b = tonumber(ARGV[3]); "
+              + RedissonCountMinSketch.INCREMENT_SCRIPT
+              + "redis.call('zadd', KEYS[2], min, ARGV[4]); "
+              + "if redis.call('zcard', KEYS[2]) > tonumber(redis.call('hget', KEYS[1], 'k')) then "
+                  + "redis.call('zremrangebyrank', KEYS[2], 0, 0); "
+              + "end; "
+              + "return min;",
+                Arrays.<Object>asList(getSketchName(), getName()), count, hash[0], hash[1], state);
+        return get(f);
+    }
+
+    @Override
+    public List<V> getTop() {
+        return commandExecutor.read(getName(), codec, RedisCommands.ZREVRANGE, getName(), 0, -1);
+    }
+
+    @Override
+    public Collection<ScoredEntry<V>> getTopEntries() {
+        return commandExecutor.read(getName(), codec, RedisCommands.ZREVRANGE_ENTRY, getName(), 0, -1, "WITHSCORES");
+    }
+
+    @Override
+    public Future<Boolean> deleteAsync() {
+        return commandExecutor.writeAsync(getName(), RedisCommands.DEL_OBJECTS, getName(), getSketchName());
+    }
+
+    private String getSketchName() {
+        return "redisson__topk__sketch__{" + getName() + "}";
+    }
+
+}
@@ -25,8 +25,11 @@ import org.redisson.connection.PubSubConnectionEntry;
 import org.redisson.core.MessageListener;
 import org.redisson.core.RTopic;
 import org.redisson.core.StatusListener;
+import org.redisson.misc.OrderedExecutor;
 
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
 
 /**
  * Distributed topic implementation. Messages are delivered to all message listeners across Redis cluster.
@@ -67,27 +70,54 @@ public class RedissonTopic<M> implements RTopic<M> {
 
     @Override
     public int addListener(StatusListener listener) {
-        return addListener(new PubSubStatusListener(listener, name));
+        return commandExecutor.get(addListenerAsync(listener));
     };
 
     @Override
     public int addListener(MessageListener<M> listener) {
-        PubSubMessageListener<M> pubSubListener = new PubSubMessageListener<M>(listener, name);
-        return addListener(pubSubListener);
+        return commandExecutor.get(addListenerAsync(listener));
     }
 
-    private int addListener(RedisPubSubListener<M> pubSubListener) {
+    @Override
+    public Future<Integer> addListenerAsync(StatusListener listener) {
+        OrderedExecutor executor = commandExecutor.getConnectionManager().getListenerExecutor();
+        return addListenerAsync(new PubSubStatusListener(listener, name, executor));
+    }
+
+    @Override
+    public Future<Integer> addListenerAsync(MessageListener<M> listener) {
+        OrderedExecutor executor = commandExecutor.getConnectionManager().getListenerExecutor();
+        return addListenerAsync(new PubSubMessageListener<M>(listener, name, executor));
+    }
+
+    private Future<Integer> addListenerAsync(RedisPubSubListener<M> pubSubListener) {
+        Promise<Integer> promise = commandExecutor.getConnectionManager().newPromise();
+        addListenerAsync(pubSubListener, promise);
+        return promise;
+    }
+
+    private void addListenerAsync(final RedisPubSubListener<M> pubSubListener, final Promise<Integer> promise) {
         Future<PubSubConnectionEntry> future = commandExecutor.getConnectionManager().subscribe(name, codec);
-        future.syncUninterruptibly();
-        PubSubConnectionEntry entry = future.getNow();
-        synchronized (entry) {
-            if (entry.isActive()) {
-                entry.addListener(name, pubSubListener);
-                return pubSubListener.hashCode();
+        future.addListener(new FutureListener<PubSubConnectionEntry>() {
+            @Override
+            public void operationComplete(Future<PubSubConnectionEntry> future) throws Exception {
+                if (!future.isSuccess()) {
+                    promise.tryFailure(future.cause());
+                    return;
+                }
+
+                PubSubConnectionEntry entry = future.getNow();
+                synchronized (entry) {
+                    if (entry.isActive()) {
+                        entry.addListener(name, pubSubListener);
+                        promise.trySuccess(pubSubListener.hashCode());
+                        return;
+                    }
+                }
+                // entry is inactive trying add again
+                addListenerAsync(pubSubListener, promise);
             }
-        }
-        // entry is inactive trying add again
-        return addListener(pubSubListener);
+        });
     }
 
     @Override
@@ -101,6 +131,10 @@ public class RedissonTopic<M> implements RTopic<M> {
                 entry.removeListener(name, listenerId);
                 if (!entry.hasListeners(name)) {
                     commandExecutor.getConnectionManager().unsubscribe(name);
+                    OrderedExecutor executor = commandExecutor.getConnectionManager().getListenerExecutor();
+                    if (executor != null) {
+                        executor.remove(name);
+                    }
                 }
                 return;
             }
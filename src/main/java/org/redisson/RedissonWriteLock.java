@@ -0,0 +1,135 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.client.protocol.RedisCommands;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+
+/**
+ * Write lock of {@link RedissonReadWriteLock}. Exclusive.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonWriteLock extends RedissonLock {
+
+    static final String WRITE_SUFFIX = ":write";
+
+    private final UUID id;
+    private final boolean fair;
+
+    protected RedissonWriteLock(CommandExecutor commandExecutor, String name, UUID id,
+                    LockLeaseRenewer leaseRenewer, NotificationDispatcher notificationDispatcher, boolean fair) {
+        super(commandExecutor, name, id, leaseRenewer, notificationDispatcher);
+        this.id = id;
+        this.fair = fair;
+    }
+
+    @Override
+    protected String getLockName(String ownerToken) {
+        return super.getLockName(ownerToken) + WRITE_SUFFIX;
+    }
+
+    @Override
+    protected Future<Long> tryLockInnerAsync(long leaseTime, TimeUnit unit, String lockName) {
+        internalLockLeaseTime = unit.toMillis(leaseTime);
+
+        return commandExecutor.evalWriteAsync(getName(), RedisCommands.EVAL_LONG,
+                RedissonReadWriteLock.REMOVE_STALE_SCRIPT +
+                "local mode = redis.call('hget', KEYS[1], 'mode'); " +
+                "if (mode == 'write' and redis.call('hexists', KEYS[1], ARGV[3]) == 1) then " +
+                    "redis.call('hincrby', KEYS[1], ARGV[3], 1); " +
+                    "redis.call('pexpire', KEYS[1], ARGV[2]); " +
+                    "return nil; " +
+                "end; " +
+                "if (mode == false) then " +
+                    "local allowed = true; " +
+                    "if (ARGV[5] == '1') then " +
+                        "local first = redis.call('lindex', KEYS[2], 0); " +
+                        "allowed = (first == false or first == ARGV[3]); " +
+                    "end; " +
+                    "if (allowed) then " +
+                        "redis.call('hset', KEYS[1], 'mode', 'write'); " +
+                        "redis.call('hset', KEYS[1], ARGV[3], 1); " +
+                        "redis.call('pexpire', KEYS[1], ARGV[2]); " +
+                        RedissonReadWriteLock.DEQUEUE_SCRIPT +
+                        "return nil; " +
+                    "end; " +
+                "end; " +
+                RedissonReadWriteLock.ENQUEUE_SCRIPT,
+                Arrays.<Object>asList(getName(), RedissonReadWriteLock.getQueueName(getName()),
+                        RedissonReadWriteLock.getTimeoutSetName(getName())),
+                System.currentTimeMillis(), internalLockLeaseTime, lockName, RedissonReadWriteLock.THREAD_WAIT_TIME,
+                fair ? 1 : 0);
+    }
+
+    @Override
+    protected void acquireFailed(String lockName) {
+        commandExecutor.evalWriteAsync(getName(), RedissonFairLock.EVAL_BOOLEAN_R2_K3,
+                RedissonReadWriteLock.ACQUIRE_FAILED_SCRIPT,
+                Arrays.<Object>asList(getName(), RedissonReadWriteLock.getQueueName(getName()),
+                        RedissonReadWriteLock.getTimeoutSetName(getName())),
+                System.currentTimeMillis(), notificationDispatcher.getMessage(getChannelName(), unlockMessage),
+                notificationDispatcher.getChannel(getChannelName()), lockName);
+    }
+
+    @Override
+    protected Future<Boolean> unlockInnerAsync(String lockName) {
+        Future<Boolean> future = commandExecutor.evalWriteAsync(getName(), RedissonFairLock.EVAL_BOOLEAN_R2_K3,
+                "local mode = redis.call('hget', KEYS[1], 'mode'); " +
+                "if (mode == false) then " +
+                    "redis.call('publish', ARGV[3], ARGV[2]); " +
+                    "return true; " +
+                "end; " +
+                "if (redis.call('hexists', KEYS[1], ARGV[4]) == 0) then " +
+                    "return nil; " +
+                "end; " +
+                "if (redis.call('hincrby', KEYS[1], ARGV[4], -1) > 0) then " +
+                    "redis.call('pexpire', KEYS[1], ARGV[5]); " +
+                    "return false; " +
+                "end; " +
+                "redis.call('hdel', KEYS[1], ARGV[4]); " +
+                "if (redis.call('hlen', KEYS[1]) == 1) then " +
+                    "redis.call('del', KEYS[1]); " +
+                    "redis.call('publish', ARGV[3], ARGV[2]); " +
+                    "return true; " +
+                "end; " +
+                // read lock acquired by writer is still held
+                "redis.call('hset', KEYS[1], 'mode', 'read'); " +
+                "redis.call('publish', ARGV[3], ARGV[2]); " +
+                RedissonReadWriteLock.HELD_BY_INSTANCE_SCRIPT,
+                Arrays.<Object>asList(getName(), RedissonReadWriteLock.getQueueName(getName()),
+                        RedissonReadWriteLock.getTimeoutSetName(getName())),
+                System.currentTimeMillis(), notificationDispatcher.getMessage(getChannelName(), unlockMessage),
+                notificationDispatcher.getChannel(getChannelName()), lockName, internalLockLeaseTime, id + "-");
+        future.addListener(new FutureListener<Boolean>() {
+            @Override
+            public void operationComplete(Future<Boolean> future) throws Exception {
+                if (future.isSuccess() && Boolean.TRUE.equals(future.getNow())) {
+                    stopRefreshTask();
+                }
+            }
+        });
+        return future;
+    }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.redisson.client.BaseRedisPubSubListener;
+import org.redisson.client.RedisPubSubListener;
+import org.redisson.client.protocol.pubsub.PubSubType;
+import org.redisson.connection.ConnectionManager;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Manages subscriptions of semaphore waiters.
+ * Release message contains amount of released permits,
+ * so the same amount of local waiters is woken up.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+class SemaphorePubSub {
+
+    private static final ConcurrentMap<String, RedissonLockEntry> ENTRIES = PlatformDependent.newConcurrentHashMap();
+
+    private final ConnectionManager connectionManager;
+    private final NotificationDispatcher notificationDispatcher;
+
+    SemaphorePubSub(ConnectionManager connectionManager, NotificationDispatcher notificationDispatcher) {
+        this.connectionManager = connectionManager;
+        this.notificationDispatcher = notificationDispatcher;
+    }
+
+    public RedissonLockEntry getEntry(String entryName) {
+        return ENTRIES.get(entryName);
+    }
+
+    public Future<RedissonLockEntry> subscribe(String entryName, final String channelName) {
+        synchronized (ENTRIES) {
+            RedissonLockEntry entry = ENTRIES.get(entryName);
+            if (entry != null) {
+                entry.aquire();
+                return entry.getPromise();
+            }
+
+            Promise<RedissonLockEntry> newPromise = connectionManager.newPromise();
+            final RedissonLockEntry value = new RedissonLockEntry(newPromise);
+            value.aquire();
+            ENTRIES.put(entryName, value);
+
+            RedisPubSubListener<Integer> listener = new BaseRedisPubSubListener<Integer>() {
+
+                @Override
+                public void onMessage(String channel, Integer message) {
+                    if (!channelName.equals(channel)) {
+                        return;
+                    }
+
+                    value.getLatch().release(message);
+                    for (int i = 0; i < message; i++) {
+                        Runnable runnable = value.getListeners().poll();
+                        if (runnable == null) {
+                            break;
+                        }
+                        runnable.run();
+                    }
+                }
+
+                @Override
+                public boolean onStatus(PubSubType type, String channel) {
+                    if (channel.equals(channelName)
+                            && type == PubSubType.SUBSCRIBE) {
+                        value.getPromise().trySuccess(value);
+                        return true;
+                    }
+                    return false;
+                }
+
+            };
+
+            value.setListener(listener);
+            notificationDispatcher.subscribe(channelName, listener);
+            return newPromise;
+        }
+    }
+
+    public void unsubscribe(RedissonLockEntry entry, String entryName, String channelName) {
+        synchronized (ENTRIES) {
+            if (entry.release() == 0) {
+                // just an assertion
+                boolean removed = ENTRIES.remove(entryName) == entry;
+                if (removed) {
+                    notificationDispatcher.unsubscribe(channelName, entry.getListener());
+                }
+            }
+        }
+    }
+
+}
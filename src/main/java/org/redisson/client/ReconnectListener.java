@@ -21,4 +21,12 @@ public interface ReconnectListener {
 
     void onReconnect(RedisConnection redisConnection, Promise<RedisConnection> connectionFuture) throws RedisException;
 
+    /**
+     * Invoked then connection channel becomes inactive.
+     * Connection is not reconnected if it has been closed by this method.
+     *
+     * @param redisConnection
+     */
+    void onDisconnect(RedisConnection redisConnection);
+
 }
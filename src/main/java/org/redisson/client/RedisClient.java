@@ -16,6 +16,7 @@
 package org.redisson.client;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.redisson.client.handler.CommandDecoder;
 import org.redisson.client.handler.CommandEncoder;
@@ -48,6 +49,9 @@ public class RedisClient {
 
     private final long timeout;
 
+    private final AtomicInteger reconnections = new AtomicInteger();
+    private volatile int reconnectionConcurrency;
+
     public RedisClient(String host, int port) {
         this(new NioEventLoopGroup(), NioSocketChannel.class, host, port, 60*1000);
     }
@@ -78,6 +82,38 @@ public class RedisClient {
         return timeout;
     }
 
+    /**
+     * Limits amount of connections reconnecting simultaneously.
+     * <code>0</code> means unlimited.
+     *
+     * @param reconnectionConcurrency
+     */
+    public void setReconnectionConcurrency(int reconnectionConcurrency) {
+        this.reconnectionConcurrency = reconnectionConcurrency;
+    }
+
+    public boolean tryAcquireReconnection() {
+        if (reconnectionConcurrency == 0) {
+            return true;
+        }
+        while (true) {
+            int value = reconnections.get();
+            if (value >= reconnectionConcurrency) {
+                return false;
+            }
+            if (reconnections.compareAndSet(value, value + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void releaseReconnection() {
+        if (reconnectionConcurrency == 0) {
+            return;
+        }
+        reconnections.decrementAndGet();
+    }
+
     public Bootstrap getBootstrap() {
         return bootstrap;
     }
@@ -43,6 +43,7 @@ public class RedisConnection implements RedisCommands {
 
     private ReconnectListener reconnectListener;
     private long lastUsageTime;
+    private volatile boolean pipelined;
     @Deprecated
     private int failAttempts;
 
@@ -67,6 +68,21 @@ public class RedisConnection implements RedisCommands {
         this.lastUsageTime = lastUsageTime;
     }
 
+    /**
+     * Pipelined connection sends commands without waiting
+     * for response of previous command. Used for connections
+     * shared between concurrent non-blocking commands.
+     *
+     * @param pipelined
+     */
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
     public void setReconnectListener(ReconnectListener reconnectListener) {
         this.reconnectListener = reconnectListener;
     }
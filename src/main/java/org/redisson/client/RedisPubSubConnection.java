@@ -15,10 +15,14 @@
  */
 package org.redisson.client;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.CommandData;
@@ -40,6 +44,11 @@ public class RedisPubSubConnection extends RedisConnection {
     final Map<String, Codec> channels = PlatformDependent.newConcurrentHashMap();
     final Map<String, Codec> patternChannels = PlatformDependent.newConcurrentHashMap();
 
+    private static final int MAX_CHANNELS_PER_COMMAND = 1000;
+
+    private final Queue<PubSubOperation> pendingOperations = new ConcurrentLinkedQueue<PubSubOperation>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
     public RedisPubSubConnection(RedisClient redisClient, Channel channel) {
         super(redisClient, channel);
     }
@@ -75,31 +84,88 @@ public class RedisPubSubConnection extends RedisConnection {
     }
 
     public void subscribe(Codec codec, String ... channel) {
-        async(new PubSubMessageDecoder(codec.getValueDecoder()), RedisCommands.SUBSCRIBE, channel);
         for (String ch : channel) {
             channels.put(ch, codec);
         }
+        enqueue(new PubSubOperation(RedisCommands.SUBSCRIBE, codec, channel));
     }
 
     public void psubscribe(Codec codec, String ... channel) {
-        async(new PubSubPatternMessageDecoder(codec.getValueDecoder()), RedisCommands.PSUBSCRIBE, channel);
         for (String ch : channel) {
             patternChannels.put(ch, codec);
         }
+        enqueue(new PubSubOperation(RedisCommands.PSUBSCRIBE, codec, channel));
     }
 
     public void unsubscribe(String ... channel) {
-        async((MultiDecoder)null, RedisCommands.UNSUBSCRIBE, channel);
         for (String ch : channel) {
             channels.remove(ch);
         }
+        enqueue(new PubSubOperation(RedisCommands.UNSUBSCRIBE, null, channel));
+    }
+
+    /**
+     * Forgets channel without UNSUBSCRIBE command.
+     * Should be used only for disconnected connection.
+     *
+     * @param channel
+     */
+    public void removeChannel(String channel) {
+        channels.remove(channel);
     }
 
     public void punsubscribe(String ... channel) {
-        async((MultiDecoder)null, RedisCommands.PUNSUBSCRIBE, channel);
         for (String ch : channel) {
             patternChannels.remove(ch);
         }
+        enqueue(new PubSubOperation(RedisCommands.PUNSUBSCRIBE, null, channel));
+    }
+
+    /**
+     * Operations issued from different threads before the event loop
+     * gets to them are coalesced into a single multi-channel command.
+     */
+    private void enqueue(PubSubOperation operation) {
+        pendingOperations.add(operation);
+        if (flushScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(new Runnable() {
+                @Override
+                public void run() {
+                    flush();
+                }
+            });
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+
+        PubSubOperation current = null;
+        Set<String> names = new LinkedHashSet<String>();
+        PubSubOperation operation;
+        while ((operation = pendingOperations.poll()) != null) {
+            if (current != null
+                    && (!current.canMerge(operation) || names.size() >= MAX_CHANNELS_PER_COMMAND)) {
+                write(current, names);
+                names = new LinkedHashSet<String>();
+            }
+            current = operation;
+            names.addAll(Arrays.asList(operation.getChannels()));
+        }
+        if (current != null) {
+            write(current, names);
+        }
+    }
+
+    private void write(PubSubOperation operation, Set<String> names) {
+        Object[] params = names.toArray();
+        if (operation.getCommand() == RedisCommands.SUBSCRIBE) {
+            async(new PubSubMessageDecoder(operation.getCodec().getValueDecoder()), operation.getCommand(), params);
+        } else if (operation.getCommand() == RedisCommands.PSUBSCRIBE) {
+            async(new PubSubPatternMessageDecoder(operation.getCodec().getValueDecoder()), operation.getCommand(), params);
+        } else {
+            async((MultiDecoder)null, operation.getCommand(), params);
+        }
     }
 
     private <T, R> void async(MultiDecoder<Object> messageDecoder, RedisCommand<T> command, Object ... params) {
@@ -114,4 +180,34 @@ public class RedisPubSubConnection extends RedisConnection {
         return Collections.unmodifiableMap(patternChannels);
     }
 
+    private static class PubSubOperation {
+
+        private final RedisCommand<Object> command;
+        private final Codec codec;
+        private final String[] channels;
+
+        public PubSubOperation(RedisCommand<Object> command, Codec codec, String[] channels) {
+            this.command = command;
+            this.codec = codec;
+            this.channels = channels;
+        }
+
+        public boolean canMerge(PubSubOperation operation) {
+            return command == operation.command && codec == operation.codec;
+        }
+
+        public RedisCommand<Object> getCommand() {
+            return command;
+        }
+
+        public Codec getCodec() {
+            return codec;
+        }
+
+        public String[] getChannels() {
+            return channels;
+        }
+
+    }
+
 }
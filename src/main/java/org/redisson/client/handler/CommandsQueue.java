@@ -18,6 +18,7 @@ package org.redisson.client.handler;
 import java.util.List;
 import java.util.Queue;
 
+import org.redisson.client.RedisConnection;
 import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.QueueCommand;
 import org.redisson.client.protocol.QueueCommandHolder;
@@ -45,6 +46,14 @@ public class CommandsQueue extends ChannelDuplexHandler {
     public void sendNextCommand(ChannelHandlerContext ctx) {
         ctx.channel().attr(CommandsQueue.REPLAY).remove();
         queue.poll();
+
+        QueueCommandHolder holder = queue.peek();
+        if (holder != null && holder.getSended().get()
+                && holder.getCommand().getPubSubOperations().isEmpty()) {
+            // pipelined command has been already sent, awaiting its response
+            ctx.channel().attr(REPLAY).set(holder.getCommand());
+            return;
+        }
         sendData(ctx);
     }
 
@@ -55,6 +64,8 @@ public class CommandsQueue extends ChannelDuplexHandler {
             QueueCommandHolder holder = queue.peek();
             if (holder != null && holder.getCommand() == data) {
                 super.write(ctx, msg, promise);
+            } else if (isPipelined(ctx, data)) {
+                writePipelined(ctx, data, promise);
             } else {
                 queue.add(new QueueCommandHolder(data, promise));
                 sendData(ctx);
@@ -64,6 +75,38 @@ public class CommandsQueue extends ChannelDuplexHandler {
         }
     }
 
+    private boolean isPipelined(ChannelHandlerContext ctx, QueueCommand data) {
+        RedisConnection connection = RedisConnection.getFrom(ctx.channel());
+        return connection != null && connection.isPipelined()
+                && data.getPubSubOperations().isEmpty();
+    }
+
+    private void writePipelined(final ChannelHandlerContext ctx, QueueCommand data, ChannelPromise promise) throws Exception {
+        // command queued for response can't be cancelled anymore,
+        // otherwise responses order won't match the queue
+        if (!promise.setUncancellable()) {
+            return;
+        }
+
+        QueueCommandHolder holder = new QueueCommandHolder(data, promise);
+        holder.getSended().set(true);
+        if (queue.isEmpty()) {
+            ctx.channel().attr(REPLAY).set(data);
+        }
+        queue.add(holder);
+
+        promise.addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                if (future.cause() != null) {
+                    // responses order can't be matched after I/O failure
+                    ctx.channel().close();
+                }
+            }
+        });
+        super.write(ctx, data, promise);
+    }
+
     private void sendData(final ChannelHandlerContext ctx) {
         QueueCommandHolder command = queue.peek();
         if (command != null && command.getSended().compareAndSet(false, true)) {
@@ -18,6 +18,7 @@ package org.redisson.client.handler;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
+import org.redisson.client.RedisClient;
 import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisException;
 import org.redisson.client.RedisPubSubConnection;
@@ -36,6 +37,7 @@ import io.netty.channel.group.ChannelGroup;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.Promise;
+import io.netty.util.internal.ThreadLocalRandom;
 
 public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
 
@@ -59,6 +61,9 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         RedisConnection connection = RedisConnection.getFrom(ctx.channel());
+        if (!connection.isClosed() && connection.getReconnectListener() != null) {
+            connection.getReconnectListener().onDisconnect(connection);
+        }
         if (!connection.isClosed()) {
             EventLoopGroup group = ctx.channel().eventLoop().parent();
             reconnect(group, connection);
@@ -72,7 +77,27 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
             public void run() {
                 tryReconnect(group, connection, 1);
             }
-        }, 100, TimeUnit.MILLISECONDS);
+        }, ThreadLocalRandom.current().nextInt(100), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Full jitter backoff prevents reconnection of all connections in lockstep.
+     *
+     * @param attempts - amount of reconnection attempts
+     * @return random delay in milliseconds less than <code>2^(attempts+1)</code>
+     */
+    public static int backoffDelay(int attempts) {
+        return ThreadLocalRandom.current().nextInt(2 << Math.min(BACKOFF_CAP, attempts));
+    }
+
+    private void scheduleReconnect(final EventLoopGroup group, final RedisConnection connection, final int attempts) {
+        int timeout = backoffDelay(attempts);
+        group.schedule(new Runnable() {
+            @Override
+            public void run() {
+                tryReconnect(group, connection, Math.min(BACKOFF_CAP, attempts + 1));
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
     }
 
     private void tryReconnect(final EventLoopGroup group, final RedisConnection connection, final int attempts) {
@@ -86,11 +111,18 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
             return;
         }
 
+        final RedisClient client = connection.getRedisClient();
+        if (!client.tryAcquireReconnection()) {
+            scheduleReconnect(group, connection, attempts);
+            return;
+        }
+
         bootstrap.connect().addListener(new ChannelFutureListener() {
 
             @Override
             public void operationComplete(final ChannelFuture future) throws Exception {
                 if (connection.isClosed()) {
+                    client.releaseReconnection();
                     return;
                 }
 
@@ -104,13 +136,8 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
                     log.warn("Can't connect " + connection + " to " + connection.getRedisClient().getAddr(), e);
                 }
 
-                int timeout = 2 << attempts;
-                group.schedule(new Runnable() {
-                    @Override
-                    public void run() {
-                        tryReconnect(group, connection, Math.min(BACKOFF_CAP, attempts + 1));
-                    }
-                }, timeout, TimeUnit.MILLISECONDS);
+                client.releaseReconnection();
+                scheduleReconnect(group, connection, attempts);
             }
 
 
@@ -126,6 +153,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
             connectionFuture.addListener(new FutureListener<RedisConnection>() {
                 @Override
                 public void operationComplete(Future<RedisConnection> future) throws Exception {
+                    connection.getRedisClient().releaseReconnection();
                     if (future.isSuccess()) {
                         connection.updateChannel(channel);
                         resubscribe(connection);
@@ -133,6 +161,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
                 }
             });
         } else {
+            connection.getRedisClient().releaseReconnection();
             connection.updateChannel(channel);
             resubscribe(connection);
         }
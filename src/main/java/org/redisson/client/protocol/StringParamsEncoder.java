@@ -21,6 +21,9 @@ public class StringParamsEncoder implements Encoder {
 
     @Override
     public byte[] encode(Object in) {
+        if (in instanceof byte[]) {
+            return (byte[]) in;
+        }
         try {
             return in.toString().getBytes("UTF-8");
         } catch (UnsupportedEncodingException e) {
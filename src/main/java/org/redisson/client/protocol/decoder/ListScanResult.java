@@ -18,9 +18,7 @@ package org.redisson.client.protocol.decoder;
 import java.net.InetSocketAddress;
 import java.util.List;
 
-import org.redisson.RedisClientResult;
-
-public class ListScanResult<V> implements RedisClientResult {
+public class ListScanResult<V> implements ScanResult<V> {
 
     private final Long pos;
     private final List<V> values;
@@ -31,10 +29,12 @@ public class ListScanResult<V> implements RedisClientResult {
         this.values = values;
     }
 
+    @Override
     public Long getPos() {
         return pos;
     }
 
+    @Override
     public List<V> getValues() {
         return values;
     }
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection;
+
+import org.redisson.MasterSlaveServersConfig;
+
+/**
+ * Collects responses statistics of Redis node over sliding window.
+ * Window is divided into buckets, outdated buckets are reset on access.
+ *
+ * Circuit is opened then error rate or amount of responses slower than latency
+ * threshold (i.e. latency percentile) exceeds configured limits.
+ * Opened circuit is switched to half-open state during probe
+ * and closed after successful probe.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class CircuitBreaker {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private static final int BUCKETS = 10;
+
+    /**
+     * Minimum amount of responses in window required to make decision
+     */
+    private static final int MINIMUM_CALLS = 20;
+
+    private final int bucketInterval;
+    private final int errorRate;
+    private final int latencyThreshold;
+    private final int latencyPercentile;
+
+    private final long[] bucketTimes = new long[BUCKETS];
+    private final int[] calls = new int[BUCKETS];
+    private final int[] errors = new int[BUCKETS];
+    private final int[] slowCalls = new int[BUCKETS];
+
+    private volatile State state = State.CLOSED;
+
+    public CircuitBreaker(MasterSlaveServersConfig config) {
+        this.bucketInterval = Math.max(1, config.getCircuitBreakerWindow() / BUCKETS);
+        this.errorRate = config.getCircuitBreakerErrorRate();
+        this.latencyThreshold = config.getCircuitBreakerLatencyThreshold();
+        this.latencyPercentile = config.getCircuitBreakerLatencyPercentile();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns current time in milliseconds used to select window bucket.
+     *
+     * @return current time
+     */
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Registers command response.
+     *
+     * @param duration - response latency in milliseconds
+     * @param failed - <code>true</code> if command failed due to timeout or connection error
+     * @return <code>true</code> if circuit has been opened by this response
+     */
+    public synchronized boolean record(long duration, boolean failed) {
+        if (state != State.CLOSED) {
+            return false;
+        }
+
+        long time = currentTime() / bucketInterval;
+        int index = (int) (time % BUCKETS);
+        if (bucketTimes[index] != time) {
+            bucketTimes[index] = time;
+            calls[index] = 0;
+            errors[index] = 0;
+            slowCalls[index] = 0;
+        }
+        calls[index]++;
+        if (failed) {
+            errors[index]++;
+        }
+        if (latencyThreshold > 0 && duration > latencyThreshold) {
+            slowCalls[index]++;
+        }
+
+        int totalCalls = 0;
+        int totalErrors = 0;
+        int totalSlowCalls = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (time - bucketTimes[i] < BUCKETS) {
+                totalCalls += calls[i];
+                totalErrors += errors[i];
+                totalSlowCalls += slowCalls[i];
+            }
+        }
+
+        if (totalCalls < MINIMUM_CALLS) {
+            return false;
+        }
+
+        // percentile of latency exceeds threshold
+        // if more than (100 - percentile)% of responses are slow
+        if (totalErrors * 100 >= errorRate * totalCalls
+                || (latencyThreshold > 0 && totalSlowCalls * 100 > (100 - latencyPercentile) * totalCalls)) {
+            state = State.OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Switches opened circuit to half-open state.
+     *
+     * @return <code>false</code> if circuit isn't opened
+     */
+    public synchronized boolean startProbe() {
+        if (state != State.OPEN) {
+            return false;
+        }
+        state = State.HALF_OPEN;
+        return true;
+    }
+
+    /**
+     * Handles probe result of half-open circuit.
+     * Circuit is closed with cleared statistics if probe was successful and fast enough.
+     *
+     * @param duration - probe latency in milliseconds
+     * @param success - probe result
+     * @return <code>true</code> if circuit is closed
+     */
+    public synchronized boolean probe(long duration, boolean success) {
+        if (state == State.CLOSED) {
+            return success;
+        }
+        if (!success || (latencyThreshold > 0 && duration > latencyThreshold)) {
+            state = State.OPEN;
+            return false;
+        }
+
+        reset();
+        return true;
+    }
+
+    /**
+     * Closes circuit and clears collected statistics.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketTimes[i] = 0;
+            calls[i] = 0;
+            errors[i] = 0;
+            slowCalls[i] = 0;
+        }
+        state = State.CLOSED;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.redisson.connection;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.redisson.MasterSlaveServersConfig;
 import org.redisson.client.ReconnectListener;
@@ -55,6 +56,14 @@ public class ClientConnectionsEntry {
 
     private final AtomicInteger failedAttempts = new AtomicInteger();
 
+    private final AtomicReferenceArray<Future<RedisConnection>> sharedConnections;
+    private final AtomicInteger sharedConnectionIndex = new AtomicInteger();
+
+    private final CircuitBreaker circuitBreaker;
+
+    private IdleConnectionWatcher.Entry connectionsStats;
+    private IdleConnectionWatcher.Entry subscribeConnectionsStats;
+
     public ClientConnectionsEntry(RedisClient client, int poolMinSize, int poolMaxSize, int subscribePoolMinSize, int subscribePoolMaxSize,
             ConnectionListener connectionListener, NodeType serverMode,
             IdleConnectionWatcher watcher, MasterSlaveServersConfig config) {
@@ -63,17 +72,31 @@ public class ClientConnectionsEntry {
         this.connectionListener = connectionListener;
         this.nodeType = serverMode;
         this.freeSubscribeConnectionsCounter.set(subscribePoolMaxSize);
+        this.sharedConnections = new AtomicReferenceArray<Future<RedisConnection>>(config.getMultiplexedConnections());
+        this.circuitBreaker = new CircuitBreaker(config);
 
         if (subscribePoolMaxSize > 0) {
-            watcher.add(subscribePoolMinSize, subscribePoolMaxSize, freeSubscribeConnections, freeSubscribeConnectionsCounter);
+            subscribeConnectionsStats = watcher.add(client.getAddr(), subscribePoolMinSize, subscribePoolMaxSize, freeSubscribeConnections, freeSubscribeConnectionsCounter);
         }
-        watcher.add(poolMinSize, poolMaxSize, freeConnections, freeConnectionsCounter);
+        connectionsStats = watcher.add(client.getAddr(), poolMinSize, poolMaxSize, freeConnections, freeConnectionsCounter);
+    }
+
+    public IdleConnectionWatcher.Entry getConnectionsStats() {
+        return connectionsStats;
+    }
+
+    public IdleConnectionWatcher.Entry getSubscribeConnectionsStats() {
+        return subscribeConnectionsStats;
     }
 
     public NodeType getNodeType() {
         return nodeType;
     }
 
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
     public void resetFailedAttempts() {
         failedAttempts.set(0);
     }
@@ -140,7 +163,74 @@ public class ClientConnectionsEntry {
     }
 
     public Future<RedisConnection> connect(final MasterSlaveServersConfig config) {
+        return connect(config, false);
+    }
+
+    /**
+     * Returns one of the pipelined connections shared
+     * between concurrent non-blocking commands.
+     * Returned future can't be cancelled, callers should
+     * wrap it into own promise.
+     *
+     * @param config
+     * @param connectListener - notified once about result of new connection attempt
+     * @return
+     */
+    public Future<RedisConnection> sharedConnection(MasterSlaveServersConfig config, FutureListener<RedisConnection> connectListener) {
+        int index = Math.abs(sharedConnectionIndex.incrementAndGet() % sharedConnections.length());
+        Future<RedisConnection> future = sharedConnections.get(index);
+        if (isValid(future)) {
+            return future;
+        }
+
+        synchronized (sharedConnections) {
+            future = sharedConnections.get(index);
+            if (isValid(future)) {
+                return future;
+            }
+
+            future = connect(config, true);
+            sharedConnections.set(index, future);
+            future.addListener(connectListener);
+            return future;
+        }
+    }
+
+    private boolean isValid(Future<RedisConnection> future) {
+        if (future == null) {
+            return false;
+        }
+        if (!future.isDone()) {
+            return true;
+        }
+        return future.isSuccess() && !future.getNow().isClosed();
+    }
+
+    public void closeSharedConnections() {
+        synchronized (sharedConnections) {
+            for (int i = 0; i < sharedConnections.length(); i++) {
+                Future<RedisConnection> future = sharedConnections.getAndSet(i, null);
+                if (future == null) {
+                    continue;
+                }
+                future.addListener(new FutureListener<RedisConnection>() {
+                    @Override
+                    public void operationComplete(Future<RedisConnection> future) throws Exception {
+                        if (future.isSuccess()) {
+                            future.getNow().closeAsync();
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private Future<RedisConnection> connect(final MasterSlaveServersConfig config, final boolean pipelined) {
         final Promise<RedisConnection> connectionFuture = client.getBootstrap().group().next().newPromise();
+        if (pipelined) {
+            // shared between commands, so one of them can't cancel it for others
+            connectionFuture.setUncancellable();
+        }
         Future<RedisConnection> future = client.connectAsync();
         future.addListener(new FutureListener<RedisConnection>() {
             @Override
@@ -150,6 +240,7 @@ public class ClientConnectionsEntry {
                     return;
                 }
                 RedisConnection conn = future.getNow();
+                conn.setPipelined(pipelined);
                 log.debug("new connection created: {}", conn);
 
                 FutureConnectionListener<RedisConnection> listener = new FutureConnectionListener<RedisConnection>(connectionFuture, conn);
@@ -171,6 +262,16 @@ public class ClientConnectionsEntry {
                 connectionListener.onConnect(config, nodeType, listener);
                 listener.executeCommands();
             }
+
+            @Override
+            public void onDisconnect(RedisConnection conn) {
+                // idle connections above minimum pool size
+                // will be established again on demand
+                if (!(conn instanceof RedisPubSubConnection)
+                        && connectionsStats.removeDisconnected(conn)) {
+                    conn.closeAsync();
+                }
+            }
         });
     }
 
@@ -212,6 +313,10 @@ public class ClientConnectionsEntry {
         freeSubscribeConnections.add(connection);
     }
 
+    public int getFreeSubscribeAmount() {
+        return freeSubscribeConnectionsCounter.get();
+    }
+
     public boolean tryAcquireSubscribeConnection() {
         return tryAcquire(freeSubscribeConnectionsCounter);
     }
@@ -221,6 +326,7 @@ public class ClientConnectionsEntry {
     }
 
     public boolean freezeMaster(FreezeReason reason) {
+        closeSharedConnections();
         synchronized (this) {
             setFreezed(true);
             // only RECONNECT freeze reason could be replaced
@@ -30,6 +30,7 @@ import org.redisson.client.protocol.RedisCommand;
 import org.redisson.cluster.ClusterSlotRange;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
 import org.redisson.misc.InfinitySemaphoreLatch;
+import org.redisson.misc.OrderedExecutor;
 
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.Timeout;
@@ -91,7 +92,7 @@ public interface ConnectionManager {
 
     Future<PubSubConnectionEntry> psubscribe(String pattern, Codec codec);
 
-    <V> void subscribe(RedisPubSubListener<V> listener, String channelName);
+    <V> Future<PubSubConnectionEntry> subscribe(RedisPubSubListener<V> listener, String channelName);
 
     Codec unsubscribe(String channelName);
 
@@ -101,8 +102,18 @@ public interface ConnectionManager {
 
     EventLoopGroup getGroup();
 
+    /**
+     * Returns executor of topic listeners or <code>null</code>
+     * if listeners should be executed in connection thread
+     *
+     * @return
+     */
+    OrderedExecutor getListenerExecutor();
+
     Timeout newTimeout(TimerTask task, long delay, TimeUnit unit);
 
     InfinitySemaphoreLatch getShutdownLatch();
 
+    Future<Void> getWarmUpFuture();
+
 }
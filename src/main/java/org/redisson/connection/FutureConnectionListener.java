@@ -53,7 +53,7 @@ public class FutureConnectionListener<T extends RedisConnection> implements Futu
 
     public void executeCommands() {
         if (commands.isEmpty()) {
-            connectionPromise.setSuccess(connection);
+            complete();
             return;
         }
 
@@ -71,7 +71,14 @@ public class FutureConnectionListener<T extends RedisConnection> implements Futu
             return;
         }
         if (commandsCounter.decrementAndGet() == 0) {
-            connectionPromise.trySuccess(connection);
+            complete();
+        }
+    }
+
+    private void complete() {
+        // promise has been cancelled, nobody owns connection
+        if (!connectionPromise.trySuccess(connection)) {
+            connection.closeAsync();
         }
     }
 
@@ -15,11 +15,14 @@
  */
 package org.redisson.connection;
 
+import java.net.InetSocketAddress;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.redisson.MasterSlaveServersConfig;
 import org.redisson.client.RedisConnection;
@@ -30,23 +33,212 @@ import io.netty.channel.ChannelFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 
+/**
+ * Closes idle connections and tracks connections demand of each pool.
+ *
+ * Demand is an exponentially weighted moving average of concurrently borrowed connections.
+ * It grows fast and decays slow, so short traffic dips don't cause connections eviction.
+ * In adaptive mode idle connections are evicted only if pool size exceeds
+ * upper demand bound and new connections are established in background
+ * then pool size drops below lower demand bound.
+ *
+ * @see org.redisson.BaseConfig#setAdaptivePoolSizing(boolean)
+ *
+ */
 public class IdleConnectionWatcher {
 
+    private static final int SAMPLING_INTERVAL = 1000;
+
+    private static final double DEMAND_GROWTH_WEIGHT = 0.5;
+    private static final double DEMAND_DECAY_WEIGHT = 0.05;
+
+    private static final double LOWER_BOUND_FACTOR = 1.0;
+    private static final double TARGET_FACTOR = 1.25;
+    private static final double UPPER_BOUND_FACTOR = 1.5;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
+    public interface WarmUpHandler {
+
+        /**
+         * Establish <code>amount</code> of new connections in background
+         *
+         * @param amount
+         */
+        void warmUp(int amount);
+
+    }
+
     public static class Entry {
 
+        private final InetSocketAddress addr;
         private final int minimumAmount;
         private final int maximumAmount;
         private final AtomicInteger freeConnectionsCounter;
+        private final AtomicInteger connectingAmount = new AtomicInteger();
         private final Collection<? extends RedisConnection> connections;
 
-        public Entry(int minimumAmount, int maximumAmount, Collection<? extends RedisConnection> connections, AtomicInteger freeConnectionsCounter) {
+        private volatile WarmUpHandler warmUpHandler;
+
+        private volatile double demand;
+        private volatile int targetAmount;
+        private final AtomicLong evictedAmount = new AtomicLong();
+        private final AtomicLong warmedUpAmount = new AtomicLong();
+
+        public Entry(InetSocketAddress addr, int minimumAmount, int maximumAmount, Collection<? extends RedisConnection> connections, AtomicInteger freeConnectionsCounter) {
             super();
+            this.addr = addr;
             this.minimumAmount = minimumAmount;
             this.maximumAmount = maximumAmount;
             this.connections = connections;
             this.freeConnectionsCounter = freeConnectionsCounter;
+            this.targetAmount = minimumAmount;
+        }
+
+        public void setWarmUpHandler(WarmUpHandler warmUpHandler) {
+            this.warmUpHandler = warmUpHandler;
+        }
+
+        public InetSocketAddress getAddr() {
+            return addr;
+        }
+
+        /**
+         * Amount of connections borrowed from pool at the moment.
+         * Connections established in background aren't counted.
+         *
+         * @return
+         */
+        public int getBorrowedAmount() {
+            return maximumAmount - freeConnectionsCounter.get() - connectingAmount.get();
+        }
+
+        /**
+         * Amount of borrowed, idle and background connecting connections
+         *
+         * @return
+         */
+        public int getTotalAmount() {
+            return maximumAmount - freeConnectionsCounter.get() + connections.size();
+        }
+
+        /**
+         * Should be invoked then connection is being established
+         * in background, before its acquisition from pool is released.
+         */
+        public void incConnectingAmount() {
+            connectingAmount.incrementAndGet();
+        }
+
+        public void decConnectingAmount() {
+            connectingAmount.decrementAndGet();
+        }
+
+        /**
+         * Moving average of borrowed connections amount
+         *
+         * @return
+         */
+        public double getDemand() {
+            return demand;
+        }
+
+        /**
+         * Pool size calculated by demand
+         *
+         * @return
+         */
+        public int getTargetAmount() {
+            return targetAmount;
+        }
+
+        /**
+         * Amount of connections closed due to idle timeout
+         *
+         * @return
+         */
+        public long getEvictedAmount() {
+            return evictedAmount.get();
+        }
+
+        /**
+         * Amount of connections requested in background due to demand growth
+         *
+         * @return
+         */
+        public long getWarmedUpAmount() {
+            return warmedUpAmount.get();
+        }
+
+        /**
+         * Removes disconnected idle connection from pool
+         * if pool contains more connections than minimum.
+         *
+         * @param connection
+         * @return <code>true</code> if connection has been removed
+         */
+        public boolean removeDisconnected(RedisConnection connection) {
+            if (getTotalAmount() > minimumAmount && connections.remove(connection)) {
+                evictedAmount.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        int bound(double factor) {
+            int amount = (int) Math.ceil(demand * factor);
+            return Math.max(minimumAmount, Math.min(maximumAmount, amount));
+        }
+
+        /**
+         * Samples amount of borrowed connections and updates demand
+         */
+        public void updateDemand() {
+            int borrowed = getBorrowedAmount();
+            double weight = DEMAND_DECAY_WEIGHT;
+            if (borrowed > demand) {
+                weight = DEMAND_GROWTH_WEIGHT;
+            }
+            demand += weight * (borrowed - demand);
+            targetAmount = bound(TARGET_FACTOR);
+        }
+
+        /**
+         * Amount of connections which should be established in background
+         * to reach target pool size. Returns <code>0</code> while pool size
+         * doesn't drop below lower demand bound.
+         *
+         * @return
+         */
+        public int getWarmUpAmount() {
+            int total = getTotalAmount();
+            if (total >= bound(LOWER_BOUND_FACTOR)) {
+                return 0;
+            }
+            return Math.max(0, targetAmount - total);
+        }
+
+        /**
+         * Checks if pool contains more connections than required,
+         * so idle connection could be evicted.
+         *
+         * @param adaptivePoolSizing
+         * @return
+         */
+        public boolean isEvictionAllowed(boolean adaptivePoolSizing) {
+            int amount = minimumAmount;
+            if (adaptivePoolSizing) {
+                // hysteresis: keep connections while pool size doesn't exceed upper demand bound
+                amount = bound(UPPER_BOUND_FACTOR);
+            }
+            return getTotalAmount() > amount;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry [addr=" + addr + ", demand=" + demand + ", targetAmount=" + targetAmount
+                    + ", totalAmount=" + getTotalAmount() + ", evictedAmount=" + evictedAmount
+                    + ", warmedUpAmount=" + warmedUpAmount + "]";
         }
 
     };
@@ -54,19 +246,27 @@ public class IdleConnectionWatcher {
     private final Queue<Entry> entries = new ConcurrentLinkedQueue<Entry>();
 
     public IdleConnectionWatcher(final ConnectionManager manager, final MasterSlaveServersConfig config) {
+        int interval = Math.min(SAMPLING_INTERVAL, config.getIdleConnectionTimeout());
         manager.getGroup().scheduleWithFixedDelay(new Runnable() {
 
             @Override
             public void run() {
                 for (Entry entry : entries) {
-                    if (!validateAmount(entry)) {
+                    entry.updateDemand();
+
+                    if (config.isAdaptivePoolSizing()) {
+                        warmUp(entry);
+                    }
+
+                    if (!entry.isEvictionAllowed(config.isAdaptivePoolSizing())) {
                         continue;
                     }
 
                     for (final RedisConnection c : entry.connections) {
                         final long timeInPool = System.currentTimeMillis() - c.getLastUsageTime();
                         if (timeInPool > config.getIdleConnectionTimeout()
-                                && validateAmount(entry) && entry.connections.remove(c)) {
+                                && entry.isEvictionAllowed(config.isAdaptivePoolSizing()) && entry.connections.remove(c)) {
+                            entry.evictedAmount.incrementAndGet();
                             ChannelFuture future = c.closeAsync();
                             future.addListener(new FutureListener<Void>() {
                                 @Override
@@ -79,15 +279,31 @@ public class IdleConnectionWatcher {
                 }
             }
 
-        }, config.getIdleConnectionTimeout(), config.getIdleConnectionTimeout(), TimeUnit.MILLISECONDS);
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void warmUp(Entry entry) {
+        WarmUpHandler handler = entry.warmUpHandler;
+        if (handler == null) {
+            return;
+        }
+
+        int amount = entry.getWarmUpAmount();
+        if (amount > 0) {
+            log.debug("warming up {} connections for {}", amount, entry);
+            entry.warmedUpAmount.addAndGet(amount);
+            handler.warmUp(amount);
+        }
     }
 
-    private boolean validateAmount(Entry entry) {
-        return entry.maximumAmount - entry.freeConnectionsCounter.get() + entry.connections.size() >= entry.minimumAmount;
+    public Entry add(InetSocketAddress addr, int minimumAmount, int maximumAmount, Collection<? extends RedisConnection> connections, AtomicInteger freeConnectionsCounter) {
+        Entry entry = new Entry(addr, minimumAmount, maximumAmount, connections, freeConnectionsCounter);
+        entries.add(entry);
+        return entry;
     }
 
-    public void add(int minimumAmount, int maximumAmount, Collection<? extends RedisConnection> connections, AtomicInteger freeConnectionsCounter) {
-        entries.add(new Entry(minimumAmount, maximumAmount, connections, freeConnectionsCounter));
+    public Collection<Entry> getEntries() {
+        return Collections.unmodifiableCollection(entries);
     }
 
 }
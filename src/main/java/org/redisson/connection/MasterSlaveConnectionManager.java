@@ -16,15 +16,22 @@
 package org.redisson.connection;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.redisson.Config;
@@ -32,15 +39,21 @@ import org.redisson.MasterSlaveServersConfig;
 import org.redisson.client.BaseRedisPubSubListener;
 import org.redisson.client.RedisClient;
 import org.redisson.client.RedisConnection;
+import org.redisson.client.RedisConnectionException;
+import org.redisson.client.RedisException;
 import org.redisson.client.RedisNodeNotFoundException;
 import org.redisson.client.RedisPubSubConnection;
 import org.redisson.client.RedisPubSubListener;
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.client.ReconnectListener;
+import org.redisson.client.WriteRedisConnectionException;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.pubsub.PubSubType;
 import org.redisson.cluster.ClusterSlotRange;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
 import org.redisson.misc.InfinitySemaphoreLatch;
+import org.redisson.misc.OrderedExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -105,12 +118,28 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
     protected EventLoopGroup group;
 
+    private OrderedExecutor listenerExecutor;
+
+    private ExecutorService listenerExecutorService;
+
     protected ConnectionListener connectListener = new DefaultConnectionListener();
 
     protected Class<? extends SocketChannel> socketChannelClass;
 
     protected final ConcurrentMap<String, PubSubConnectionEntry> name2PubSubConnection = PlatformDependent.newConcurrentHashMap();
 
+    /**
+     * Entries which may still accept subscriptions. Full entries are dropped lazily
+     * and added back once a channel is unsubscribed from them.
+     */
+    protected final Queue<PubSubConnectionEntry> freePubSubConnections = new ConcurrentLinkedQueue<PubSubConnectionEntry>();
+
+    /**
+     * All entries in use. Used to overflow the least loaded entry
+     * then pub/sub connection pool is exhausted.
+     */
+    protected final Queue<PubSubConnectionEntry> activePubSubConnections = new ConcurrentLinkedQueue<PubSubConnectionEntry>();
+
     protected MasterSlaveServersConfig config;
 
     protected final Map<ClusterSlotRange, MasterSlaveEntry> entries = PlatformDependent.newConcurrentHashMap();
@@ -185,6 +214,18 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
             this.socketChannelClass = NioSocketChannel.class;
         }
         this.codec = cfg.getCodec();
+
+        if (cfg.getListenerExecutor() != null) {
+            this.listenerExecutor = new OrderedExecutor(cfg.getListenerExecutor());
+        } else if (cfg.getListenerThreads() > 0) {
+            this.listenerExecutorService = Executors.newFixedThreadPool(cfg.getListenerThreads());
+            this.listenerExecutor = new OrderedExecutor(listenerExecutorService);
+        }
+    }
+
+    @Override
+    public OrderedExecutor getListenerExecutor() {
+        return listenerExecutor;
     }
 
     @Override
@@ -201,7 +242,9 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
     @Override
     public RedisClient createClient(String host, int port, int timeout) {
-        return new RedisClient(group, socketChannelClass, host, port, timeout);
+        RedisClient client = new RedisClient(group, socketChannelClass, host, port, timeout);
+        client.setReconnectionConcurrency(config.getReconnectionConcurrency());
+        return client;
     }
 
     @Override
@@ -230,6 +273,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
     @Override
     public <T> FutureListener<T> createReleaseReadListener(final NodeSource source,
                                     final RedisConnection conn, final AtomicReference<Timeout> timeout) {
+        final long startTime = System.currentTimeMillis();
         return new FutureListener<T>() {
             @Override
             public void operationComplete(io.netty.util.concurrent.Future<T> future) throws Exception {
@@ -245,6 +289,13 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
                 shutdownLatch.release();
                 timeout.get().cancel();
+                if (config.getCircuitBreakerWindow() > 0) {
+                    Throwable cause = future.cause();
+                    boolean failed = cause instanceof RedisTimeoutException
+                                        || cause instanceof RedisConnectionException
+                                            || cause instanceof WriteRedisConnectionException;
+                    getEntry(source).readCompleted(conn, System.currentTimeMillis() - startTime, failed);
+                }
                 releaseRead(source, conn);
             }
         };
@@ -274,30 +325,29 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
             return;
         }
 
-        Set<PubSubConnectionEntry> entries = new HashSet<PubSubConnectionEntry>(name2PubSubConnection.values());
-        for (PubSubConnectionEntry entry : entries) {
-            if (entry.tryAcquire()) {
-                PubSubConnectionEntry oldEntry = name2PubSubConnection.putIfAbsent(channelName, entry);
-                if (oldEntry != null) {
-                    entry.release();
-                    promise.setSuccess(oldEntry);
-                    return;
-                }
+        final int slot = 0;
+        PubSubConnectionEntry freeEntry = acquireEntry(slot);
+        if (freeEntry != null) {
+            PubSubConnectionEntry oldEntry = name2PubSubConnection.putIfAbsent(channelName, freeEntry);
+            if (oldEntry != null) {
+                freeEntry.release();
+                promise.setSuccess(oldEntry);
+                return;
+            }
 
-                synchronized (entry) {
-                    if (!entry.isActive()) {
-                        entry.release();
-                        subscribe(channelName, codec, promise);
-                        return;
-                    }
-                    entry.subscribe(codec, channelName);
-                    promise.setSuccess(entry);
+            synchronized (freeEntry) {
+                if (!freeEntry.isActive()) {
+                    freeEntry.release();
+                    freePubSubConnections.remove(freeEntry);
+                    subscribe(channelName, codec, promise);
                     return;
                 }
+                freeEntry.subscribe(codec, channelName);
+                promise.setSuccess(freeEntry);
+                return;
             }
         }
 
-        final int slot = 0;
         Future<RedisPubSubConnection> connFuture = nextPubSubConnection(slot);
         connFuture.addListener(new FutureListener<RedisPubSubConnection>() {
             @Override
@@ -325,6 +375,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
                         return;
                     }
                     entry.subscribe(codec, channelName);
+                    addActiveEntry(entry);
                     promise.setSuccess(entry);
                 }
             }
@@ -346,30 +397,29 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
             return;
         }
 
-        Set<PubSubConnectionEntry> entries = new HashSet<PubSubConnectionEntry>(name2PubSubConnection.values());
-        for (PubSubConnectionEntry entry : entries) {
-            if (entry.tryAcquire()) {
-                PubSubConnectionEntry oldEntry = name2PubSubConnection.putIfAbsent(channelName, entry);
-                if (oldEntry != null) {
-                    entry.release();
-                    promise.setSuccess(oldEntry);
-                    return;
-                }
+        final int slot = 0;
+        PubSubConnectionEntry freeEntry = acquireEntry(slot);
+        if (freeEntry != null) {
+            PubSubConnectionEntry oldEntry = name2PubSubConnection.putIfAbsent(channelName, freeEntry);
+            if (oldEntry != null) {
+                freeEntry.release();
+                promise.setSuccess(oldEntry);
+                return;
+            }
 
-                synchronized (entry) {
-                    if (!entry.isActive()) {
-                        entry.release();
-                        psubscribe(channelName, codec, promise);
-                        return;
-                    }
-                    entry.psubscribe(codec, channelName);
-                    promise.setSuccess(entry);
+            synchronized (freeEntry) {
+                if (!freeEntry.isActive()) {
+                    freeEntry.release();
+                    freePubSubConnections.remove(freeEntry);
+                    psubscribe(channelName, codec, promise);
                     return;
                 }
+                freeEntry.psubscribe(codec, channelName);
+                promise.setSuccess(freeEntry);
+                return;
             }
         }
 
-        final int slot = 0;
         Future<RedisPubSubConnection> connFuture = nextPubSubConnection(slot);
         connFuture.addListener(new FutureListener<RedisPubSubConnection>() {
             @Override
@@ -397,6 +447,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
                         return;
                     }
                     entry.psubscribe(codec, channelName);
+                    addActiveEntry(entry);
                     promise.setSuccess(entry);
                 }
             }
@@ -404,54 +455,72 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
     }
 
     @Override
-    public void subscribe(final RedisPubSubListener listener, final String channelName) {
+    public <V> Future<PubSubConnectionEntry> subscribe(RedisPubSubListener<V> listener, String channelName) {
+        Promise<PubSubConnectionEntry> promise = group.next().newPromise();
+        subscribe(listener, channelName, promise);
+        return promise;
+    }
+
+    private void subscribe(final RedisPubSubListener listener, final String channelName, final Promise<PubSubConnectionEntry> promise) {
         PubSubConnectionEntry сonnEntry = name2PubSubConnection.get(channelName);
         if (сonnEntry != null) {
             сonnEntry.subscribe(codec, listener, channelName);
+            promise.setSuccess(сonnEntry);
             return;
         }
 
-        Set<PubSubConnectionEntry> entries = new HashSet<PubSubConnectionEntry>(name2PubSubConnection.values());
-        for (PubSubConnectionEntry entry : entries) {
-            if (entry.tryAcquire()) {
+        final int slot = 0;
+        PubSubConnectionEntry freeEntry = acquireEntry(slot);
+        if (freeEntry != null) {
+            PubSubConnectionEntry oldEntry = name2PubSubConnection.putIfAbsent(channelName, freeEntry);
+            if (oldEntry != null) {
+                freeEntry.release();
+                subscribe(listener, channelName, promise);
+                return;
+            }
+            synchronized (freeEntry) {
+                if (!freeEntry.isActive()) {
+                    freeEntry.release();
+                    freePubSubConnections.remove(freeEntry);
+                    subscribe(listener, channelName, promise);
+                    return;
+                }
+                freeEntry.subscribe(codec, listener, channelName);
+                promise.setSuccess(freeEntry);
+                return;
+            }
+        }
+
+        Future<RedisPubSubConnection> connFuture = nextPubSubConnection(slot);
+        connFuture.addListener(new FutureListener<RedisPubSubConnection>() {
+            @Override
+            public void operationComplete(Future<RedisPubSubConnection> future) throws Exception {
+                if (!future.isSuccess()) {
+                    promise.setFailure(future.cause());
+                    return;
+                }
+
+                RedisPubSubConnection conn = future.getNow();
+                PubSubConnectionEntry entry = new PubSubConnectionEntry(conn, config.getSubscriptionsPerConnection());
+                entry.tryAcquire();
                 PubSubConnectionEntry oldEntry = name2PubSubConnection.putIfAbsent(channelName, entry);
                 if (oldEntry != null) {
-                    entry.release();
+                    releaseSubscribeConnection(slot, entry);
+                    subscribe(listener, channelName, promise);
                     return;
                 }
                 synchronized (entry) {
                     if (!entry.isActive()) {
                         entry.release();
-                        subscribe(listener, channelName);
+                        subscribe(listener, channelName, promise);
                         return;
                     }
                     entry.subscribe(codec, listener, channelName);
-                    return;
+                    addActiveEntry(entry);
+                    promise.setSuccess(entry);
                 }
             }
-        }
-
-        final int slot = 0;
-        Future<RedisPubSubConnection> connFuture = nextPubSubConnection(slot);
-        connFuture.syncUninterruptibly();
-        RedisPubSubConnection conn = connFuture.getNow();
-        PubSubConnectionEntry entry = new PubSubConnectionEntry(conn, config.getSubscriptionsPerConnection());
-        entry.tryAcquire();
-        PubSubConnectionEntry oldEntry = name2PubSubConnection.putIfAbsent(channelName, entry);
-        if (oldEntry != null) {
-            releaseSubscribeConnection(slot, entry);
-            return;
-        }
-        synchronized (entry) {
-            if (!entry.isActive()) {
-                entry.release();
-                subscribe(listener, channelName);
-                return;
-            }
-            entry.subscribe(codec, listener, channelName);
-            return;
-        }
-
+        });
     }
 
     @Override
@@ -467,11 +536,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
             @Override
             public boolean onStatus(PubSubType type, String channel) {
                 if (type == PubSubType.UNSUBSCRIBE && channel.equals(channelName)) {
-                    synchronized (entry) {
-                        if (entry.tryClose()) {
-                            releaseSubscribeConnection(0, entry);
-                        }
-                    }
+                    onUnsubscribed(entry);
                     return true;
                 }
                 return false;
@@ -494,11 +559,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
             @Override
             public boolean onStatus(PubSubType type, String channel) {
                 if (type == PubSubType.PUNSUBSCRIBE && channel.equals(channelName)) {
-                    synchronized (entry) {
-                        if (entry.tryClose()) {
-                            releaseSubscribeConnection(0, entry);
-                        }
-                    }
+                    onUnsubscribed(entry);
                     return true;
                 }
                 return false;
@@ -550,43 +611,194 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
                 synchronized (pubSubEntry) {
                     pubSubEntry.close();
+                    freePubSubConnections.remove(pubSubEntry);
+                    activePubSubConnections.remove(pubSubEntry);
+                    reattachListeners(pubSubEntry, channelName);
+                }
+            }
+        }
+    }
+
+    private void onUnsubscribed(PubSubConnectionEntry entry) {
+        synchronized (entry) {
+            if (entry.tryClose()) {
+                freePubSubConnections.remove(entry);
+                activePubSubConnections.remove(entry);
+                releaseSubscribeConnection(0, entry);
+                return;
+            }
+            if (entry.isActive() && !freePubSubConnections.contains(entry)) {
+                freePubSubConnections.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Acquires subscription slot of already used connection.
+     * Slot above <code>subscriptionsPerConnection</code> limit is taken
+     * from the least loaded connection only if pub/sub connection pool is exhausted,
+     * instead of waiting for a connection to be returned to the pool.
+     *
+     * @param slot
+     * @return entry or <code>null</code> if new connection should be used
+     */
+    private PubSubConnectionEntry acquireEntry(int slot) {
+        for (PubSubConnectionEntry entry : freePubSubConnections) {
+            if (!entry.isActive() || !entry.tryAcquire()) {
+                freePubSubConnections.remove(entry);
+                continue;
+            }
+            return entry;
+        }
 
-                    final Collection<RedisPubSubListener> listeners = pubSubEntry.getListeners(channelName);
-                    if (pubSubEntry.getConnection().getPatternChannels().get(channelName) != null) {
-                        Codec subscribeCodec = punsubscribe(channelName);
-                        if (!listeners.isEmpty()) {
-                            Future<PubSubConnectionEntry> future = psubscribe(channelName, subscribeCodec);
-                            future.addListener(new FutureListener<PubSubConnectionEntry>() {
-                                @Override
-                                public void operationComplete(Future<PubSubConnectionEntry> future)
-                                        throws Exception {
-                                    PubSubConnectionEntry newEntry = future.getNow();
-                                    for (RedisPubSubListener redisPubSubListener : listeners) {
-                                        newEntry.addListener(channelName, redisPubSubListener);
-                                    }
-                                    log.debug("resubscribed listeners for '{}' channel-pattern", channelName);
-                                }
-                            });
+        if (hasFreePubSubConnections(slot)) {
+            return null;
+        }
+
+        PubSubConnectionEntry leastLoaded = null;
+        for (PubSubConnectionEntry entry : activePubSubConnections) {
+            if (entry.isActive()
+                    && (leastLoaded == null || entry.getSubscribedAmount() < leastLoaded.getSubscribedAmount())) {
+                leastLoaded = entry;
+            }
+        }
+        if (leastLoaded != null) {
+            leastLoaded.forceAcquire();
+        }
+        return leastLoaded;
+    }
+
+    private void addActiveEntry(PubSubConnectionEntry entry) {
+        freePubSubConnections.add(entry);
+        activePubSubConnections.add(entry);
+
+        RedisPubSubConnection conn = entry.getConnection();
+        ReconnectListener listener = conn.getReconnectListener();
+        if (listener != null && !(listener instanceof RebalanceReconnectListener)) {
+            conn.setReconnectListener(new RebalanceReconnectListener(listener));
+        }
+    }
+
+    /**
+     * Moves channels above <code>subscriptionsPerConnection</code> limit
+     * from disconnected connection to connected ones with free subscription slots.
+     * Messages of these channels can't be received until reconnection anyway,
+     * so they are subscribed on other connection instead of the reconnected one.
+     */
+    private class RebalanceReconnectListener implements ReconnectListener {
+
+        private final ReconnectListener listener;
+
+        public RebalanceReconnectListener(ReconnectListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onReconnect(RedisConnection redisConnection, Promise<RedisConnection> connectionFuture) throws RedisException {
+            listener.onReconnect(redisConnection, connectionFuture);
+        }
+
+        @Override
+        public void onDisconnect(RedisConnection redisConnection) {
+            listener.onDisconnect(redisConnection);
+            rebalance(redisConnection);
+        }
+
+    }
+
+    private void rebalance(RedisConnection conn) {
+        for (PubSubConnectionEntry entry : activePubSubConnections) {
+            if (entry.getConnection() != conn) {
+                continue;
+            }
+            if (!entry.isActive() || !entry.isOverflowed()) {
+                return;
+            }
+
+            int moved = 0;
+            for (String channelName : new ArrayList<String>(entry.getConnection().getChannels().keySet())) {
+                if (!entry.isOverflowed()) {
+                    break;
+                }
+                if (moveChannel(entry, channelName)) {
+                    moved++;
+                }
+            }
+            log.debug("{} channels moved from disconnected connection {}", moved, conn);
+            return;
+        }
+    }
+
+    private boolean moveChannel(PubSubConnectionEntry entry, String channelName) {
+        for (PubSubConnectionEntry freeEntry : freePubSubConnections) {
+            if (freeEntry == entry || !freeEntry.getConnection().isActive()) {
+                continue;
+            }
+            if (!freeEntry.isActive() || !freeEntry.tryAcquire()) {
+                freePubSubConnections.remove(freeEntry);
+                continue;
+            }
+
+            synchronized (freeEntry) {
+                if (!freeEntry.isActive()) {
+                    freeEntry.release();
+                    freePubSubConnections.remove(freeEntry);
+                    continue;
+                }
+
+                Codec subscribeCodec = entry.getConnection().getChannels().get(channelName);
+                if (subscribeCodec == null
+                        || !name2PubSubConnection.replace(channelName, entry, freeEntry)) {
+                    freeEntry.release();
+                    return false;
+                }
+
+                Collection<RedisPubSubListener> listeners = entry.getListeners(channelName);
+                entry.detach(channelName);
+                for (RedisPubSubListener listener : listeners) {
+                    freeEntry.addListener(channelName, listener);
+                }
+                freeEntry.subscribe(subscribeCodec, channelName);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reattachListeners(PubSubConnectionEntry pubSubEntry, final String channelName) {
+        final Collection<RedisPubSubListener> listeners = pubSubEntry.getListeners(channelName);
+        if (pubSubEntry.getConnection().getPatternChannels().get(channelName) != null) {
+            Codec subscribeCodec = punsubscribe(channelName);
+            if (!listeners.isEmpty()) {
+                Future<PubSubConnectionEntry> future = psubscribe(channelName, subscribeCodec);
+                future.addListener(new FutureListener<PubSubConnectionEntry>() {
+                    @Override
+                    public void operationComplete(Future<PubSubConnectionEntry> future)
+                            throws Exception {
+                        PubSubConnectionEntry newEntry = future.getNow();
+                        for (RedisPubSubListener redisPubSubListener : listeners) {
+                            newEntry.addListener(channelName, redisPubSubListener);
                         }
-                    } else {
-                        Codec subscribeCodec = unsubscribe(channelName);
-                        if (!listeners.isEmpty()) {
-                            Future<PubSubConnectionEntry> future = subscribe(channelName, subscribeCodec);
-                            future.addListener(new FutureListener<PubSubConnectionEntry>() {
-
-                                @Override
-                                public void operationComplete(Future<PubSubConnectionEntry> future)
-                                        throws Exception {
-                                    PubSubConnectionEntry newEntry = future.getNow();
-                                    for (RedisPubSubListener redisPubSubListener : listeners) {
-                                        newEntry.addListener(channelName, redisPubSubListener);
-                                    }
-                                    log.debug("resubscribed listeners for '{}' channel", channelName);
-                                }
-                            });
+                        log.debug("resubscribed listeners for '{}' channel-pattern", channelName);
+                    }
+                });
+            }
+        } else {
+            Codec subscribeCodec = unsubscribe(channelName);
+            if (!listeners.isEmpty()) {
+                Future<PubSubConnectionEntry> future = subscribe(channelName, subscribeCodec);
+                future.addListener(new FutureListener<PubSubConnectionEntry>() {
+
+                    @Override
+                    public void operationComplete(Future<PubSubConnectionEntry> future)
+                            throws Exception {
+                        PubSubConnectionEntry newEntry = future.getNow();
+                        for (RedisPubSubListener redisPubSubListener : listeners) {
+                            newEntry.addListener(channelName, redisPubSubListener);
                         }
+                        log.debug("resubscribed listeners for '{}' channel", channelName);
                     }
-                }
+                });
             }
         }
     }
@@ -612,7 +824,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
     @Override
     public Future<RedisConnection> connectionWriteOp(NodeSource source, RedisCommand<?> command) {
         MasterSlaveEntry e = getEntry(source, command);
-        return e.connectionWriteOp();
+        return e.connectionWriteOp(command);
     }
 
     private MasterSlaveEntry getEntry(NodeSource source) {
@@ -635,15 +847,19 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
     public Future<RedisConnection> connectionReadOp(NodeSource source, RedisCommand<?> command) {
         MasterSlaveEntry e = getEntry(source, command);
         if (source.getAddr() != null) {
-            return e.connectionReadOp(source.getAddr());
+            return e.connectionReadOp(source.getAddr(), command);
         }
-        return e.connectionReadOp();
+        return e.connectionReadOp(command);
     }
 
     Future<RedisPubSubConnection> nextPubSubConnection(int slot) {
         return getEntry(slot).nextPubSubConnection();
     }
 
+    boolean hasFreePubSubConnections(int slot) {
+        return getEntry(slot).hasFreePubSubConnections();
+    }
+
     protected void releaseSubscribeConnection(int slot, PubSubConnectionEntry entry) {
         this.getEntry(slot).returnSubscribeConnection(entry);
     }
@@ -666,6 +882,9 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         }
         timer.stop();
         group.shutdownGracefully().syncUninterruptibly();
+        if (listenerExecutorService != null) {
+            listenerExecutorService.shutdown();
+        }
     }
 
     public Collection<RedisClientEntry> getClients() {
@@ -701,4 +920,31 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         return shutdownLatch;
     }
 
+    @Override
+    public Future<Void> getWarmUpFuture() {
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (MasterSlaveEntry entry : new HashSet<MasterSlaveEntry>(entries.values())) {
+            futures.addAll(entry.getInitFutures());
+        }
+
+        final Promise<Void> result = newPromise();
+        if (futures.isEmpty()) {
+            result.setSuccess(null);
+            return result;
+        }
+
+        final AtomicInteger counter = new AtomicInteger(futures.size());
+        for (Future<Void> future : futures) {
+            future.addListener(new FutureListener<Void>() {
+                @Override
+                public void operationComplete(Future<Void> future) throws Exception {
+                    if (counter.decrementAndGet() == 0) {
+                        result.trySuccess(null);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
 }
@@ -18,13 +18,17 @@ package org.redisson.connection;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.util.Collection;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.redisson.MasterSlaveServersConfig;
 import org.redisson.client.RedisClient;
 import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisPubSubConnection;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.cluster.ClusterSlotRange;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
 import org.redisson.connection.ClientConnectionsEntry.NodeType;
@@ -35,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
 
 /**
  *
@@ -59,6 +64,8 @@ public class MasterSlaveEntry {
 
     final AtomicBoolean active = new AtomicBoolean(true);
 
+    final Queue<Future<Void>> initFutures = new ConcurrentLinkedQueue<Future<Void>>();
+
     public MasterSlaveEntry(Set<ClusterSlotRange> slotRanges, ConnectionManager connectionManager, MasterSlaveServersConfig config, ConnectionListener connectListener) {
         this.slotRanges = slotRanges;
         this.connectionManager = connectionManager;
@@ -84,7 +91,7 @@ public class MasterSlaveEntry {
         RedisClient client = connectionManager.createClient(host, port);
         masterEntry = new ClientConnectionsEntry(client, config.getMasterConnectionMinimumIdleSize(), config.getMasterConnectionPoolSize(),
                                                     0, 0, connectListener, NodeType.MASTER, connectionManager.getConnectionWatcher(), config);
-        writeConnectionHolder.add(masterEntry);
+        addInitFuture(writeConnectionHolder.add(masterEntry));
     }
 
     public Collection<RedisPubSubConnection> slaveDown(String host, int port, FreezeReason freezeReason) {
@@ -113,13 +120,34 @@ public class MasterSlaveEntry {
             entry.setFreezed(freezed);
             entry.setFreezeReason(FreezeReason.SYSTEM);
         }
-        slaveBalancer.add(entry);
+        addInitFuture(slaveBalancer.add(entry));
+    }
+
+    private void addInitFuture(final Future<Void> future) {
+        initFutures.add(future);
+        // completed futures are removed, so queue size is bounded by nodes being initialized
+        future.addListener(new FutureListener<Void>() {
+            @Override
+            public void operationComplete(Future<Void> f) throws Exception {
+                initFutures.remove(future);
+            }
+        });
     }
 
     public RedisClient getClient() {
         return masterEntry.getClient();
     }
 
+    /**
+     * Returns futures of minimum idle connections
+     * initialization which are still in progress for nodes of this entry.
+     *
+     * @return
+     */
+    public Collection<Future<Void>> getInitFutures() {
+        return initFutures;
+    }
+
     public void slaveUp(String host, int port, FreezeReason freezeReason) {
         if (!slaveBalancer.unfreeze(host, port, freezeReason)) {
             return;
@@ -163,15 +191,37 @@ public class MasterSlaveEntry {
         slaveBalancer.shutdownAsync();
     }
 
-    public Future<RedisConnection> connectionWriteOp() {
+    /**
+     * Blocking commands and commands without type (batches, transactions)
+     * should always use dedicated connection.
+     *
+     * @param command
+     * @return <code>true</code> if command could be sent through shared pipelined connection
+     */
+    protected boolean isMultiplexed(RedisCommand<?> command) {
+        return config.getMultiplexedConnections() > 0
+                && command != null
+                && !RedisCommands.BLOCKING_COMMANDS.contains(command.getName());
+    }
+
+    public Future<RedisConnection> connectionWriteOp(RedisCommand<?> command) {
+        if (isMultiplexed(command)) {
+            return writeConnectionHolder.getShared();
+        }
         return writeConnectionHolder.get();
     }
 
-    public Future<RedisConnection> connectionReadOp() {
+    public Future<RedisConnection> connectionReadOp(RedisCommand<?> command) {
+        if (isMultiplexed(command)) {
+            return slaveBalancer.nextSharedConnection();
+        }
         return slaveBalancer.nextConnection();
     }
 
-    public Future<RedisConnection> connectionReadOp(InetSocketAddress addr) {
+    public Future<RedisConnection> connectionReadOp(InetSocketAddress addr, RedisCommand<?> command) {
+        if (isMultiplexed(command)) {
+            return slaveBalancer.getSharedConnection(addr);
+        }
         return slaveBalancer.getConnection(addr);
     }
 
@@ -180,6 +230,10 @@ public class MasterSlaveEntry {
         return slaveBalancer.nextPubSubConnection();
     }
 
+    boolean hasFreePubSubConnections() {
+        return slaveBalancer.hasFreePubSubConnections();
+    }
+
     public void returnSubscribeConnection(PubSubConnectionEntry entry) {
         slaveBalancer.returnSubscribeConnection(entry.getConnection());
     }
@@ -188,6 +242,17 @@ public class MasterSlaveEntry {
         writeConnectionHolder.returnConnection(masterEntry, connection);
     }
 
+    /**
+     * Registers response of read command in circuit breaker of slave node.
+     *
+     * @param connection
+     * @param duration - response latency in milliseconds
+     * @param failed - <code>true</code> if command failed due to timeout or connection error
+     */
+    public void readCompleted(RedisConnection connection, long duration, boolean failed) {
+        slaveBalancer.commandCompleted(connection.getRedisClient().getAddr(), duration, failed);
+    }
+
     public void releaseRead(RedisConnection сonnection) {
         slaveBalancer.returnConnection(сonnection);
     }
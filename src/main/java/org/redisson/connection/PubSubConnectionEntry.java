@@ -22,7 +22,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.redisson.client.BaseRedisPubSubListener;
 import org.redisson.client.RedisPubSubConnection;
@@ -39,7 +39,7 @@ public class PubSubConnectionEntry {
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private volatile Status status = Status.ACTIVE;
-    private final Semaphore subscribedChannelsAmount;
+    private final AtomicInteger subscribedChannelsAmount = new AtomicInteger();
     private final RedisPubSubConnection conn;
     private final int subscriptionsPerConnection;
 
@@ -49,7 +49,6 @@ public class PubSubConnectionEntry {
         super();
         this.conn = conn;
         this.subscriptionsPerConnection = subscriptionsPerConnection;
-        this.subscribedChannelsAmount = new Semaphore(subscriptionsPerConnection);
     }
 
     public boolean hasListeners(String channelName) {
@@ -115,11 +114,35 @@ public class PubSubConnectionEntry {
     }
 
     public boolean tryAcquire() {
-        return subscribedChannelsAmount.tryAcquire();
+        while (true) {
+            int value = subscribedChannelsAmount.get();
+            if (value >= subscriptionsPerConnection) {
+                return false;
+            }
+            if (subscribedChannelsAmount.compareAndSet(value, value + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Acquires subscription slot above <code>subscriptionsPerConnection</code> limit.
+     * Used then no more pub/sub connections could be taken from the pool.
+     */
+    public void forceAcquire() {
+        subscribedChannelsAmount.incrementAndGet();
     }
 
     public void release() {
-        subscribedChannelsAmount.release();
+        subscribedChannelsAmount.decrementAndGet();
+    }
+
+    public int getSubscribedAmount() {
+        return subscribedChannelsAmount.get();
+    }
+
+    public boolean isOverflowed() {
+        return subscribedChannelsAmount.get() > subscriptionsPerConnection;
     }
 
     public void subscribe(Codec codec, String channelName) {
@@ -161,7 +184,19 @@ public class PubSubConnectionEntry {
                 conn.removeListener(listener);
             }
         }
-        subscribedChannelsAmount.release();
+        release();
+    }
+
+    /**
+     * Removes channel and its listeners from this entry without UNSUBSCRIBE command.
+     * Used only for disconnected connection, so channel won't be
+     * subscribed again after reconnection.
+     *
+     * @param channel
+     */
+    public void detach(String channel) {
+        conn.removeChannel(channel);
+        removeListeners(channel);
     }
 
     public void punsubscribe(final String channel, RedisPubSubListener listener) {
@@ -181,7 +216,7 @@ public class PubSubConnectionEntry {
 
 
     public boolean tryClose() {
-        if (subscribedChannelsAmount.tryAcquire(subscriptionsPerConnection)) {
+        if (subscribedChannelsAmount.compareAndSet(0, subscriptionsPerConnection)) {
             close();
             return true;
         }
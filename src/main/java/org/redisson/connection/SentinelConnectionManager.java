@@ -69,6 +69,14 @@ public class SentinelConnectionManager extends MasterSlaveConnectionManager {
         c.setSubscriptionsPerConnection(cfg.getSubscriptionsPerConnection());
         c.setConnectTimeout(cfg.getConnectTimeout());
         c.setIdleConnectionTimeout(cfg.getIdleConnectionTimeout());
+        c.setConnectionWarmUpConcurrency(cfg.getConnectionWarmUpConcurrency());
+        c.setAdaptivePoolSizing(cfg.isAdaptivePoolSizing());
+        c.setMultiplexedConnections(cfg.getMultiplexedConnections());
+        c.setCircuitBreakerWindow(cfg.getCircuitBreakerWindow());
+        c.setCircuitBreakerErrorRate(cfg.getCircuitBreakerErrorRate());
+        c.setCircuitBreakerLatencyThreshold(cfg.getCircuitBreakerLatencyThreshold());
+        c.setCircuitBreakerLatencyPercentile(cfg.getCircuitBreakerLatencyPercentile());
+        c.setReconnectionConcurrency(cfg.getReconnectionConcurrency());
 
         c.setFailedAttempts(cfg.getFailedAttempts());
         c.setReconnectionTimeout(cfg.getReconnectionTimeout());
@@ -71,6 +71,14 @@ public class SingleConnectionManager extends MasterSlaveConnectionManager {
         newconfig.setSlaveSubscriptionConnectionPoolSize(cfg.getSubscriptionConnectionPoolSize());
         newconfig.setConnectTimeout(cfg.getConnectTimeout());
         newconfig.setIdleConnectionTimeout(cfg.getIdleConnectionTimeout());
+        newconfig.setConnectionWarmUpConcurrency(cfg.getConnectionWarmUpConcurrency());
+        newconfig.setAdaptivePoolSizing(cfg.isAdaptivePoolSizing());
+        newconfig.setMultiplexedConnections(cfg.getMultiplexedConnections());
+        newconfig.setCircuitBreakerWindow(cfg.getCircuitBreakerWindow());
+        newconfig.setCircuitBreakerErrorRate(cfg.getCircuitBreakerErrorRate());
+        newconfig.setCircuitBreakerLatencyThreshold(cfg.getCircuitBreakerLatencyThreshold());
+        newconfig.setCircuitBreakerLatencyPercentile(cfg.getCircuitBreakerLatencyPercentile());
+        newconfig.setReconnectionConcurrency(cfg.getReconnectionConcurrency());
 
         newconfig.setMasterConnectionMinimumIdleSize(cfg.getConnectionMinimumIdleSize());
         newconfig.setSlaveSubscriptionConnectionMinimumIdleSize(cfg.getSubscriptionConnectionMinimumIdleSize());
@@ -22,6 +22,7 @@ import org.redisson.MasterSlaveServersConfig;
 import org.redisson.client.RedisClient;
 import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisPubSubConnection;
+import org.redisson.client.protocol.RedisCommand;
 import org.redisson.cluster.ClusterSlotRange;
 import org.redisson.connection.ClientConnectionsEntry.NodeType;
 import org.redisson.misc.ConnectionPool;
@@ -50,8 +51,8 @@ public class SingleEntry extends MasterSlaveEntry {
                 config.getMasterConnectionPoolSize(),
                 config.getSlaveConnectionMinimumIdleSize(),
                 config.getSlaveSubscriptionConnectionPoolSize(), connectListener, NodeType.MASTER, connectionManager.getConnectionWatcher(), config);
-        writeConnectionHolder.add(masterEntry);
-        pubSubConnectionHolder.add(masterEntry);
+        initFutures.add(writeConnectionHolder.add(masterEntry));
+        initFutures.add(pubSubConnectionHolder.add(masterEntry));
     }
 
     @Override
@@ -63,19 +64,24 @@ public class SingleEntry extends MasterSlaveEntry {
         return pubSubConnectionHolder.get();
     }
 
+    @Override
+    boolean hasFreePubSubConnections() {
+        return pubSubConnectionHolder.hasFreeConnections();
+    }
+
     @Override
     public void returnSubscribeConnection(PubSubConnectionEntry entry) {
         pubSubConnectionHolder.returnConnection(masterEntry, entry.getConnection());
     }
 
     @Override
-    public Future<RedisConnection> connectionReadOp(InetSocketAddress addr) {
-        return super.connectionWriteOp();
+    public Future<RedisConnection> connectionReadOp(InetSocketAddress addr, RedisCommand<?> command) {
+        return super.connectionWriteOp(command);
     }
 
     @Override
-    public Future<RedisConnection> connectionReadOp() {
-        return super.connectionWriteOp();
+    public Future<RedisConnection> connectionReadOp(RedisCommand<?> command) {
+        return super.connectionWriteOp(command);
     }
 
     @Override
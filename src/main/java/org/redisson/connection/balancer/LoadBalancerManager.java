@@ -39,12 +39,20 @@ public interface LoadBalancerManager {
 
     Collection<RedisPubSubConnection> freeze(String host, int port, FreezeReason freezeReason);
 
-    void add(ClientConnectionsEntry entry);
+    Future<Void> add(ClientConnectionsEntry entry);
 
     Future<RedisConnection> nextConnection();
 
+    Future<RedisConnection> getSharedConnection(InetSocketAddress addr);
+
+    Future<RedisConnection> nextSharedConnection();
+
+    void commandCompleted(InetSocketAddress addr, long duration, boolean failed);
+
     Future<RedisPubSubConnection> nextPubSubConnection();
 
+    boolean hasFreePubSubConnections();
+
     void returnConnection(RedisConnection connection);
 
     void returnSubscribeConnection(RedisPubSubConnection connection);
@@ -30,12 +30,14 @@ import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
-import org.redisson.misc.ConnectionPool;
 import org.redisson.misc.PubSubConnectionPoll;
+import org.redisson.misc.SlaveConnectionPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
 import io.netty.util.internal.PlatformDependent;
 
 public class LoadBalancerManagerImpl implements LoadBalancerManager {
@@ -45,18 +47,31 @@ public class LoadBalancerManagerImpl implements LoadBalancerManager {
     private final ConnectionManager connectionManager;
     private final Map<InetSocketAddress, ClientConnectionsEntry> addr2Entry = PlatformDependent.newConcurrentHashMap();
     private final PubSubConnectionPoll pubSubEntries;
-    private final ConnectionPool<RedisConnection> entries;
+    private final SlaveConnectionPool entries;
 
     public LoadBalancerManagerImpl(MasterSlaveServersConfig config, ConnectionManager connectionManager, MasterSlaveEntry entry) {
         this.connectionManager = connectionManager;
-        entries = new ConnectionPool<RedisConnection>(config, connectionManager, entry);
+        entries = new SlaveConnectionPool(config, connectionManager, entry);
         pubSubEntries = new PubSubConnectionPoll(config, connectionManager, entry);
     }
 
-    public synchronized void add(ClientConnectionsEntry entry) {
+    public synchronized Future<Void> add(ClientConnectionsEntry entry) {
         addr2Entry.put(entry.getClient().getAddr(), entry);
-        entries.add(entry);
-        pubSubEntries.add(entry);
+        Future<Void> connectionsFuture = entries.add(entry);
+        final Future<Void> pubSubFuture = pubSubEntries.add(entry);
+        final Promise<Void> result = connectionManager.newPromise();
+        connectionsFuture.addListener(new FutureListener<Void>() {
+            @Override
+            public void operationComplete(Future<Void> future) throws Exception {
+                pubSubFuture.addListener(new FutureListener<Void>() {
+                    @Override
+                    public void operationComplete(Future<Void> future) throws Exception {
+                        result.trySuccess(null);
+                    }
+                });
+            }
+        });
+        return result;
     }
 
     public int getAvailableClients() {
@@ -85,6 +100,7 @@ public class LoadBalancerManagerImpl implements LoadBalancerManager {
                         || freezeReason != FreezeReason.RECONNECT) {
                 entry.setFreezed(false);
                 entry.setFreezeReason(null);
+                entry.getCircuitBreaker().reset();
                 return true;
             }
         }
@@ -108,6 +124,8 @@ public class LoadBalancerManagerImpl implements LoadBalancerManager {
             }
         }
 
+        connectionEntry.closeSharedConnections();
+
         // close all connections
         while (true) {
             RedisConnection connection = connectionEntry.pollConnection();
@@ -135,6 +153,10 @@ public class LoadBalancerManagerImpl implements LoadBalancerManager {
         return pubSubEntries.get();
     }
 
+    public boolean hasFreePubSubConnections() {
+        return pubSubEntries.hasFreeConnections();
+    }
+
     public Future<RedisConnection> getConnection(InetSocketAddress addr) {
         ClientConnectionsEntry entry = addr2Entry.get(addr);
         if (entry != null) {
@@ -148,6 +170,26 @@ public class LoadBalancerManagerImpl implements LoadBalancerManager {
         return entries.get();
     }
 
+    public Future<RedisConnection> getSharedConnection(InetSocketAddress addr) {
+        ClientConnectionsEntry entry = addr2Entry.get(addr);
+        if (entry != null) {
+            return entries.getShared(entry);
+        }
+        RedisConnectionException exception = new RedisConnectionException("Can't find entry for " + addr);
+        return connectionManager.getGroup().next().newFailedFuture(exception);
+    }
+
+    public Future<RedisConnection> nextSharedConnection() {
+        return entries.getShared();
+    }
+
+    public void commandCompleted(InetSocketAddress addr, long duration, boolean failed) {
+        ClientConnectionsEntry entry = addr2Entry.get(addr);
+        if (entry != null) {
+            entries.commandCompleted(entry, duration, failed);
+        }
+    }
+
     public void returnSubscribeConnection(RedisPubSubConnection connection) {
         ClientConnectionsEntry entry = addr2Entry.get(connection.getRedisClient().getAddr());
         pubSubEntries.returnConnection(entry, connection);
@@ -48,6 +48,34 @@ public interface RBitSet extends RExpirable, RBitSetAsync {
 
     int cardinality();
 
+    /**
+     * Returns the number of bits set to <code>true</code>
+     * in range from <code>fromIndex</code> (inclusive) to <code>toIndex</code> (exclusive).
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @return
+     */
+    int cardinality(int fromIndex, int toIndex);
+
+    /**
+     * Returns the index of the first bit set to <code>true</code>
+     * on or after <code>fromIndex</code>, or <code>-1</code> if there is no such bit.
+     *
+     * @param fromIndex
+     * @return
+     */
+    int nextSetBit(int fromIndex);
+
+    /**
+     * Returns the index of the first bit set to <code>false</code>
+     * on or after <code>fromIndex</code>.
+     *
+     * @param fromIndex
+     * @return
+     */
+    int nextClearBit(int fromIndex);
+
     void clear(int bitIndex);
 
     void clear();
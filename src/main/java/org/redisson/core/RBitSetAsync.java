@@ -50,6 +50,12 @@ public interface RBitSetAsync extends RExpirableAsync {
 
     Future<Integer> cardinalityAsync();
 
+    Future<Integer> cardinalityAsync(int fromIndex, int toIndex);
+
+    Future<Integer> nextSetBitAsync(int fromIndex);
+
+    Future<Integer> nextClearBitAsync(int fromIndex);
+
     Future<Void> clearAsync(int bitIndex);
 
     Future<Void> clearAsync();
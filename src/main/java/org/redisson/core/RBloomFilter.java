@@ -0,0 +1,82 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Distributed Bloom filter.
+ *
+ * Bits are stored in one or more Redis bitmaps, which are spread across slots in cluster mode.
+ * Objects are hashed by bytes of configured codec.
+ *
+ * @param <T> - type of object
+ */
+public interface RBloomFilter<T> extends RObject {
+
+    /**
+     * Initializes filter parameters. Size of filter and amount of hash iterations
+     * are calculated from expected amount of insertions and desired false positive probability.
+     *
+     * @param expectedInsertions
+     * @param falseProbability
+     * @return <code>true</code> if filter was initialized,
+     *         <code>false</code> if it has already been initialized
+     */
+    boolean tryInit(long expectedInsertions, double falseProbability);
+
+    /**
+     * Adds object to filter. All bits are set in one pipelined call.
+     *
+     * @param object
+     * @return <code>true</code> if object has definitely not been added before
+     */
+    boolean add(T object);
+
+    /**
+     * Checks object presence in filter. All bits are checked in one pipelined call.
+     *
+     * @param object
+     * @return <code>false</code> if object is definitely not in filter,
+     *         <code>true</code> if object might be in filter
+     */
+    boolean contains(T object);
+
+    /**
+     * Checks presence of objects in filter. All bits of all objects
+     * are checked in one pipelined call.
+     *
+     * @param objects
+     * @return objects which might be in filter
+     */
+    Set<T> containsAll(Collection<T> objects);
+
+    /**
+     * Returns amount of bits in filter
+     *
+     * @return
+     */
+    long getSize();
+
+    /**
+     * Returns amount of hash iterations per object
+     *
+     * @return
+     */
+    int getHashIterations();
+
+}
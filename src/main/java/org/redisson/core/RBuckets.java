@@ -0,0 +1,45 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.Map;
+
+/**
+ * Bulk operations over object holders.
+ * Requests are grouped by hash slot and executed in parallel.
+ *
+ */
+public interface RBuckets extends RBucketsAsync {
+
+    /**
+     * Returns values of buckets.
+     * Keys are grouped by hash slot and loaded with <code>MGET</code> command per group.
+     * Missing buckets are not included into result map.
+     *
+     * @param keys
+     * @return
+     */
+    <V> Map<String, V> get(String ... keys);
+
+    /**
+     * Sets values of buckets.
+     * Keys are grouped by hash slot and stored with <code>MSET</code> command per group.
+     *
+     * @param buckets - bucket name to value mapping
+     */
+    void set(Map<String, ?> buckets);
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.Map;
+
+/**
+ * Count-min sketch for frequency estimation.
+ *
+ * Counters of all rows are stored in one Redis hash and each update
+ * is made by single Lua script. Estimated count is never less than real count.
+ *
+ * @param <V> - type of object
+ */
+public interface RCountMinSketch<V> extends RExpirable, RCountMinSketchAsync<V> {
+
+    /**
+     * Initializes sketch. Estimation error is about <code>e / width</code> of total count
+     * with probability <code>1 - exp(-depth)</code>.
+     *
+     * @param width - amount of counters per row
+     * @param depth - amount of rows
+     * @return <code>true</code> if sketch was initialized,
+     *         <code>false</code> if it has already been initialized
+     */
+    boolean tryInit(int width, int depth);
+
+    /**
+     * Increments counters of object
+     *
+     * @param object
+     * @param count
+     * @return estimated count of object after increment
+     */
+    long add(V object, long count);
+
+    /**
+     * Increments counters of all objects by single Lua script
+     *
+     * @param counts - object to increment mapping
+     */
+    void addAll(Map<V, Long> counts);
+
+    /**
+     * Returns estimated count of object
+     *
+     * @param object
+     * @return
+     */
+    long count(V object);
+
+    /**
+     * Aggregates increment locally. Aggregated increments are sent by {@link #addAll(Map)}
+     * on {@link #flush()} or automatically after short delay.
+     * Aggregated increments are shared by all instances with the same name
+     * and returned to buffer if they couldn't be sent.
+     *
+     * @param object
+     * @param count
+     */
+    void addBuffered(V object, long count);
+
+    /**
+     * Sends locally aggregated increments
+     */
+    void flush();
+
+}
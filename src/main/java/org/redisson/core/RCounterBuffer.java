@@ -0,0 +1,64 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import io.netty.util.concurrent.Future;
+
+/**
+ * Buffer of counter increments. Increments are accumulated locally in striped cells
+ * and sent to Redis in single pipelined batch with one command per counter,
+ * when amount of buffered updates reaches flush size or after flush delay.
+ *
+ * Counters are compatible with {@link RAtomicLong} and {@link RMap#addAndGet(Object, Number)}.
+ * Buffer is shared per flush settings and flushed on {@link org.redisson.RedissonClient#shutdown()}.
+ * Increments of failed flush are kept in buffer and sent with the next flush.
+ *
+ */
+public interface RCounterBuffer {
+
+    /**
+     * Adds delta to counter stored in {@link RAtomicLong} object
+     *
+     * @param name - name of {@link RAtomicLong} object
+     * @param delta
+     */
+    void add(String name, long delta);
+
+    /**
+     * Adds delta to counter stored in {@link RMap} entry
+     *
+     * @param mapName - name of {@link RMap} object
+     * @param key - entry key
+     * @param delta
+     */
+    void addToMap(String mapName, Object key, long delta);
+
+    /**
+     * Flushes buffered increments and returns value of {@link RAtomicLong} counter
+     *
+     * @param name - name of {@link RAtomicLong} object
+     * @return
+     */
+    long sum(String name);
+
+    /**
+     * Sends buffered increments
+     */
+    void flush();
+
+    Future<Void> flushAsync();
+
+}
@@ -47,6 +47,25 @@ public interface RKeys extends RKeysAsync {
      */
     Iterable<String> getKeys();
 
+    /**
+     * Get all keys by pattern using iterator. Keys traversing with SCAN operation.
+     * <code>count</code> is used as <code>SCAN COUNT</code> hint
+     *
+     * @param pattern
+     * @param count
+     * @return
+     */
+    Iterable<String> getKeysByPattern(String pattern, int count);
+
+    /**
+     * Get all keys using iterator. Keys traversing with SCAN operation.
+     * <code>count</code> is used as <code>SCAN COUNT</code> hint
+     *
+     * @param count
+     * @return
+     */
+    Iterable<String> getKeys(int count);
+
     /**
      * Get random key
      *
@@ -15,7 +15,9 @@
  */
 package org.redisson.core;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * Distributed and concurrent implementation of {@link java.util.List}
@@ -28,4 +30,23 @@ public interface RList<V> extends List<V>, RExpirable, RListAsync<V> {
 
     void fastSet(int index, V element);
 
+    /**
+     * Returns iterator which loads elements by pages
+     * of <code>pageSize</code> elements
+     *
+     * @param pageSize
+     * @return iterator
+     */
+    Iterator<V> iterator(int pageSize);
+
+    /**
+     * Returns list iterator starting at <code>index</code> which loads
+     * elements by pages of <code>pageSize</code> elements
+     *
+     * @param index
+     * @param pageSize
+     * @return list iterator
+     */
+    ListIterator<V> listIterator(int index, int pageSize);
+
 }
@@ -27,7 +27,7 @@ import java.util.concurrent.locks.Lock;
  *
  */
 
-public interface RLock extends Lock, RExpirable {
+public interface RLock extends Lock, RExpirable, RLockAsync {
 
     /**
      * Acquires the lock.
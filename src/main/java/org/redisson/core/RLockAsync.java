@@ -0,0 +1,113 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.util.concurrent.Future;
+
+/**
+ * Async interface of distributed reentrant lock.
+ * Waiting for lock doesn't block any thread.
+ * <p>
+ * Lock owner is identified by <code>ownerToken</code>. Methods without
+ * <code>ownerToken</code> use id of current thread as token, so lock acquired
+ * by them could be released by {@link RLock#unlock()} from the same thread.
+ * Explicit <code>ownerToken</code> never matches thread based owner.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RLockAsync extends RExpirableAsync {
+
+    /**
+     * Acquires the lock using current thread id as owner token.
+     *
+     * @return void
+     */
+    Future<Void> lockAsync();
+
+    /**
+     * Acquires the lock using current thread id as owner token.
+     *
+     * @param leaseTime the maximum time to hold the lock after granting it.
+     *        If leaseTime is -1, hold the lock until explicitly unlocked.
+     * @param unit the time unit of the {@code leaseTime} argument
+     * @return void
+     */
+    Future<Void> lockAsync(long leaseTime, TimeUnit unit);
+
+    /**
+     * Acquires the lock for owner with <code>ownerToken</code>.
+     *
+     * @param leaseTime the maximum time to hold the lock after granting it.
+     *        If leaseTime is -1, hold the lock until explicitly unlocked.
+     * @param unit the time unit of the {@code leaseTime} argument
+     * @param ownerToken - lock owner token
+     * @return void
+     */
+    Future<Void> lockAsync(long leaseTime, TimeUnit unit, String ownerToken);
+
+    /**
+     * Acquires the lock only if it is free at the time of invocation.
+     *
+     * @return <code>true</code> if lock has been acquired
+     */
+    Future<Boolean> tryLockAsync();
+
+    /**
+     * Tries to acquire the lock for up to <code>waitTime</code>
+     * using current thread id as owner token.
+     *
+     * @param waitTime the maximum time to aquire the lock
+     * @param leaseTime the maximum time to hold the lock after granting it.
+     *        If leaseTime is -1, hold the lock until explicitly unlocked.
+     * @param unit the time unit of the {@code waitTime} and {@code leaseTime} arguments
+     * @return <code>true</code> if lock has been acquired
+     */
+    Future<Boolean> tryLockAsync(long waitTime, long leaseTime, TimeUnit unit);
+
+    /**
+     * Tries to acquire the lock for up to <code>waitTime</code>
+     * for owner with <code>ownerToken</code>.
+     *
+     * @param waitTime the maximum time to aquire the lock
+     * @param leaseTime the maximum time to hold the lock after granting it.
+     *        If leaseTime is -1, hold the lock until explicitly unlocked.
+     * @param unit the time unit of the {@code waitTime} and {@code leaseTime} arguments
+     * @param ownerToken - lock owner token
+     * @return <code>true</code> if lock has been acquired
+     */
+    Future<Boolean> tryLockAsync(long waitTime, long leaseTime, TimeUnit unit, String ownerToken);
+
+    /**
+     * Releases the lock acquired with current thread id as owner token.
+     *
+     * @return void
+     */
+    Future<Void> unlockAsync();
+
+    /**
+     * Releases the lock acquired by owner with <code>ownerToken</code>.
+     * Future fails with {@link IllegalStateException}
+     * if lock isn't held by this owner.
+     *
+     * @param ownerToken - lock owner token
+     * @return void
+     */
+    Future<Void> unlockAsync(String ownerToken);
+
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+/**
+ * Counter compatible with {@link RAtomicLong}, which accumulates increments locally
+ * in striped cells and sends them by single <code>INCRBY</code> command
+ * when amount of buffered updates reaches flush size or after flush delay.
+ *
+ * Increments are held by counter buffer shared with other adders of the same flush settings.
+ *
+ */
+public interface RLongAdder extends RExpirable, RLongAdderAsync {
+
+    void add(long delta);
+
+    void increment();
+
+    void decrement();
+
+    /**
+     * Flushes buffered increments and returns counter value
+     *
+     * @return
+     */
+    long sum();
+
+    /**
+     * Sends buffered increments
+     */
+    void flush();
+
+}
@@ -58,6 +58,8 @@ public interface RMap<K, V> extends ConcurrentMap<K, V>, RExpirable, RMapAsync<K
     /**
      * Returns a map slice containing the mappings in whose <code>Map.Entry&lt;K, V&gt; entries</code>
      * satisfy a predicate. This operation traverses all map entries with small memory footprint.
+     * Predicate is applied on client side, use {@link #entryIterator(String, String, int, Object...)}
+     * to filter entries on Redis side.
      *
      * The returned map is <b>NOT</b> backed by the original map.
      *
@@ -69,6 +71,8 @@ public interface RMap<K, V> extends ConcurrentMap<K, V>, RExpirable, RMapAsync<K
     /**
      * Returns a map slice containing the mappings in whose <code>values</code>
      * satisfy a predicate. Traverses all map entries with small memory footprint.
+     * Predicate is applied on client side, use {@link #entryIterator(String, String, int, Object...)}
+     * to filter entries on Redis side.
      *
      * The returned map is <b>NOT</b> backed by the original map.
      *
@@ -80,6 +84,8 @@ public interface RMap<K, V> extends ConcurrentMap<K, V>, RExpirable, RMapAsync<K
     /**
      * Returns a map slice containing the mappings in whose <code>keys</code>
      * satisfy a predicate. Traverses all map entries with small memory footprint.
+     * Predicate is applied on client side, use {@link #entryIterator(String, String, int, Object...)}
+     * to filter entries on Redis side.
      *
      * The returned map is <b>NOT</b> backed by the original map.
      *
@@ -133,4 +139,65 @@ public interface RMap<K, V> extends ConcurrentMap<K, V>, RExpirable, RMapAsync<K
      */
     Iterator<V> valueIterator();
 
+    /**
+     * Map entry-iterator with small memory footprint.
+     * Loads entries by pages using <code>count</code> as <code>HSCAN COUNT</code> hint.
+     *
+     * @param count
+     * @return
+     */
+    Iterator<Map.Entry<K, V>> entryIterator(int count);
+
+    /**
+     * Map key-iterator with small memory footprint.
+     * Loads keys by pages using <code>count</code> as <code>HSCAN COUNT</code> hint.
+     *
+     * @param count
+     * @return
+     */
+    Iterator<K> keyIterator(int count);
+
+    /**
+     * Map value-iterator with small memory footprint.
+     * Loads values by pages using <code>count</code> as <code>HSCAN COUNT</code> hint.
+     *
+     * @param count
+     * @return
+     */
+    Iterator<V> valueIterator(int count);
+
+    /**
+     * Map entry-iterator over entries whose keys match the glob-style <code>keyPattern</code>.
+     * Filtering is made by Redis with <code>HSCAN MATCH</code>, so only matching entries
+     * are transferred and they are loaded by pages during iteration.
+     *
+     * Pattern is matched against encoded key, so use it with a codec
+     * which stores keys as plain strings, for example <code>StringCodec</code>.
+     *
+     * @param keyPattern
+     * @param count - <code>HSCAN COUNT</code> hint, <code>0</code> means default
+     * @return
+     */
+    Iterator<Map.Entry<K, V>> entryIterator(String keyPattern, int count);
+
+    /**
+     * Map entry-iterator over entries which satisfy a Lua <code>condition</code>.
+     * Condition is evaluated by Redis for each scanned entry, and could use
+     * <code>key</code> and <code>value</code> variables holding encoded entry data as Lua strings
+     * and <code>args</code> table holding <code>conditionArgs</code> as Lua strings,
+     * for example <code>"tonumber(value) &gt; tonumber(args[1])"</code> or <code>"string.find(key, args[1]) == 1"</code>.
+     * Only matching entries are transferred and they are loaded by pages during iteration.
+     * <p>
+     * Condition is executed as Lua code with access to Redis scripting API,
+     * so it should be a constant expression. Never build it from untrusted input,
+     * pass variable parts through <code>conditionArgs</code> instead.
+     *
+     * @param keyPattern - glob-style key pattern, could be <code>null</code>
+     * @param condition - Lua boolean expression
+     * @param count - <code>HSCAN COUNT</code> hint, <code>0</code> means default
+     * @param conditionArgs - values available to condition through <code>args</code> table
+     * @return
+     */
+    Iterator<Map.Entry<K, V>> entryIterator(String keyPattern, String condition, int count, Object ... conditionArgs);
+
 }
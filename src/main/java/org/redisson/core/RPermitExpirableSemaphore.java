@@ -0,0 +1,119 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Semaphore with lease time for each acquired permit.
+ * Each permit is identified by own id and returned automatically
+ * when its lease time has passed, so permits of dead holders are not lost.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RPermitExpirableSemaphore extends RExpirable {
+
+    /**
+     * Acquires a permit which never expires, blocking until one is available.
+     *
+     * @return permit id
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    String acquire() throws InterruptedException;
+
+    /**
+     * Acquires a permit with defined lease time, blocking until one is available.
+     *
+     * @param leaseTime permit lease time, -1 means permit never expires
+     * @param unit the time unit of the {@code leaseTime} argument
+     * @return permit id
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    String acquire(long leaseTime, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Acquires a permit which never expires only if one is available at the time of invocation.
+     *
+     * @return permit id or <code>null</code> if permit wasn't acquired
+     */
+    String tryAcquire();
+
+    /**
+     * Acquires a permit which never expires, waiting up to <code>waitTime</code> if necessary.
+     *
+     * @param waitTime the maximum time to wait for a permit
+     * @param unit the time unit of the {@code waitTime} argument
+     * @return permit id or <code>null</code> if permit wasn't acquired
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    String tryAcquire(long waitTime, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Acquires a permit with defined lease time, waiting up to <code>waitTime</code> if necessary.
+     *
+     * @param waitTime the maximum time to wait for a permit
+     * @param leaseTime permit lease time, -1 means permit never expires
+     * @param unit the time unit of the {@code waitTime} and {@code leaseTime} arguments
+     * @return permit id or <code>null</code> if permit wasn't acquired
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    String tryAcquire(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Releases a permit by its id.
+     *
+     * @param permitId
+     * @throws IllegalArgumentException if permit doesn't exist or has already expired
+     */
+    void release(String permitId);
+
+    /**
+     * Releases a permit by its id.
+     *
+     * @param permitId
+     * @return <code>true</code> if permit has been released,
+     *         <code>false</code> if it doesn't exist or has already expired
+     */
+    boolean tryRelease(String permitId);
+
+    /**
+     * Sets new lease time of acquired permit.
+     *
+     * @param permitId
+     * @param leaseTime permit lease time, -1 means permit never expires
+     * @param unit the time unit of the {@code leaseTime} argument
+     * @return <code>true</code> if lease time has been updated,
+     *         <code>false</code> if permit doesn't exist or has already expired
+     */
+    boolean updateLeaseTime(String permitId, long leaseTime, TimeUnit unit);
+
+    /**
+     * Returns the current number of available permits including expired ones.
+     *
+     * @return number of available permits
+     */
+    int availablePermits();
+
+    /**
+     * Sets number of permits only if semaphore doesn't exist.
+     *
+     * @param permits the number of permits
+     * @return <code>true</code> if permits have been set
+     */
+    boolean trySetPermits(int permits);
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distributed token bucket rate limiter.
+ * Bucket holds up to <code>rate</code> permits and is refilled
+ * with <code>rate</code> permits per <code>rateInterval</code>.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RRateLimiter extends RExpirable, RRateLimiterAsync {
+
+    /**
+     * Initializes rate only if it hasn't been set before.
+     *
+     * @param rate - amount of permits refilled per <code>rateInterval</code>, also bucket capacity
+     * @param rateInterval
+     * @param unit - the time unit of the {@code rateInterval} argument
+     * @return <code>true</code> if rate has been set
+     */
+    boolean trySetRate(long rate, long rateInterval, TimeUnit unit);
+
+    /**
+     * Acquires a permit only if it is available at the time of invocation.
+     *
+     * @return <code>true</code> if permit has been acquired
+     */
+    boolean tryAcquire();
+
+    /**
+     * Acquires the given number of permits only if all are available at the time of invocation.
+     *
+     * @param permits - amount of permits
+     * @return <code>true</code> if permits have been acquired
+     */
+    boolean tryAcquire(long permits);
+
+    /**
+     * Acquires the given number of permits, waiting up to <code>timeout</code> if necessary.
+     *
+     * @param permits - amount of permits
+     * @param timeout - the maximum time to wait for permits
+     * @param unit - the time unit of the {@code timeout} argument
+     * @return <code>true</code> if permits have been acquired
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    boolean tryAcquire(long permits, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Acquires a permit, waiting until it is available.
+     *
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    void acquire() throws InterruptedException;
+
+    /**
+     * Acquires the given number of permits, waiting until all are available.
+     *
+     * @param permits - amount of permits
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    void acquire(long permits) throws InterruptedException;
+
+}
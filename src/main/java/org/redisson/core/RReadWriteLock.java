@@ -0,0 +1,47 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Distributed implementation of {@link java.util.concurrent.locks.ReadWriteLock}
+ * Read lock is shared by readers, write lock is exclusive.
+ * Both locks are reentrant, write lock holder can acquire read lock.
+ * Read lock holder can't acquire write lock.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RReadWriteLock extends ReadWriteLock, RExpirable {
+
+    /**
+     * Returns the lock used for reading.
+     *
+     * @return the lock used for reading
+     */
+    @Override
+    RLock readLock();
+
+    /**
+     * Returns the lock used for writing.
+     *
+     * @return the lock used for writing
+     */
+    @Override
+    RLock writeLock();
+
+}
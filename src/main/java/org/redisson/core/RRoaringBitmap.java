@@ -0,0 +1,101 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+/**
+ * Compressed bitmap stored in Redis hash.
+ *
+ * Values are treated as unsigned 32-bit integers and split by high 16 bits into containers,
+ * each container is stored in own hash field. Sparse containers are stored as sorted arrays,
+ * dense containers as 8Kb bitmaps, so memory usage depends on cardinality
+ * rather than on the maximal value.
+ *
+ */
+public interface RRoaringBitmap extends RExpirable, RRoaringBitmapAsync {
+
+    /**
+     * Adds value to bitmap
+     *
+     * @param value
+     * @return <code>true</code> if value was not set before
+     */
+    boolean add(int value);
+
+    /**
+     * Removes value from bitmap
+     *
+     * @param value
+     * @return <code>true</code> if value was set
+     */
+    boolean remove(int value);
+
+    boolean contains(int value);
+
+    /**
+     * Returns amount of values in bitmap.
+     * Uses per-container counters so containers are not transferred.
+     *
+     * @return
+     */
+    long cardinality();
+
+    /**
+     * Returns amount of values less than or equal to <code>value</code>.
+     * Only container of <code>value</code> is transferred.
+     *
+     * @param value
+     * @return
+     */
+    long rank(int value);
+
+    /**
+     * Performs AND operation over this and other bitmaps
+     * and stores the result into this bitmap.
+     *
+     * Containers are loaded and combined on client side,
+     * so the operation is not atomic against concurrent modifications.
+     *
+     * @param bitmapNames
+     */
+    void and(String... bitmapNames);
+
+    /**
+     * Performs OR operation over this and other bitmaps
+     * and stores the result into this bitmap.
+     *
+     * @param bitmapNames
+     * @see #and(String...)
+     */
+    void or(String... bitmapNames);
+
+    /**
+     * Performs XOR operation over this and other bitmaps
+     * and stores the result into this bitmap.
+     *
+     * @param bitmapNames
+     * @see #and(String...)
+     */
+    void xor(String... bitmapNames);
+
+    /**
+     * Removes values of other bitmaps from this bitmap.
+     *
+     * @param bitmapNames
+     * @see #and(String...)
+     */
+    void andNot(String... bitmapNames);
+
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import io.netty.util.concurrent.Future;
+
+/**
+ *
+ * @see RRoaringBitmap
+ *
+ */
+public interface RRoaringBitmapAsync extends RExpirableAsync {
+
+    Future<Boolean> addAsync(int value);
+
+    Future<Boolean> removeAsync(int value);
+
+    Future<Boolean> containsAsync(int value);
+
+    Future<Long> cardinalityAsync();
+
+    Future<Long> rankAsync(int value);
+
+}
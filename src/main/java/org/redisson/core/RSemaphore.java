@@ -0,0 +1,114 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distributed alternative to the {@link java.util.concurrent.Semaphore}
+ * Waiters are notified via pub/sub when permits are released.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RSemaphore extends RExpirable, RSemaphoreAsync {
+
+    /**
+     * Acquires a permit, blocking until one is available.
+     *
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    void acquire() throws InterruptedException;
+
+    /**
+     * Acquires the given number of permits, blocking until all are available.
+     *
+     * @param permits the number of permits to acquire
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    void acquire(int permits) throws InterruptedException;
+
+    /**
+     * Acquires a permit only if one is available at the time of invocation.
+     *
+     * @return <code>true</code> if a permit was acquired
+     */
+    boolean tryAcquire();
+
+    /**
+     * Acquires the given number of permits only if all are available at the time of invocation.
+     *
+     * @param permits the number of permits to acquire
+     * @return <code>true</code> if the permits were acquired
+     */
+    boolean tryAcquire(int permits);
+
+    /**
+     * Acquires a permit, waiting up to <code>waitTime</code> if necessary.
+     *
+     * @param waitTime the maximum time to wait for a permit
+     * @param unit the time unit of the {@code waitTime} argument
+     * @return <code>true</code> if a permit was acquired
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    boolean tryAcquire(long waitTime, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Acquires the given number of permits, waiting up to <code>waitTime</code> if necessary.
+     *
+     * @param permits the number of permits to acquire
+     * @param waitTime the maximum time to wait for the permits
+     * @param unit the time unit of the {@code waitTime} argument
+     * @return <code>true</code> if the permits were acquired
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    boolean tryAcquire(int permits, long waitTime, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Releases a permit.
+     */
+    void release();
+
+    /**
+     * Releases the given number of permits.
+     *
+     * @param permits the number of permits to release
+     */
+    void release(int permits);
+
+    /**
+     * Returns the current number of available permits.
+     *
+     * @return number of available permits
+     */
+    int availablePermits();
+
+    /**
+     * Sets number of permits only if semaphore doesn't exist.
+     *
+     * @param permits the number of permits
+     * @return <code>true</code> if permits have been set
+     */
+    boolean trySetPermits(int permits);
+
+    /**
+     * Acquires and returns all permits that are immediately available.
+     *
+     * @return the number of permits acquired
+     */
+    int drainPermits();
+
+}
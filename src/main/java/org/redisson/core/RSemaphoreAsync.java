@@ -0,0 +1,95 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.util.concurrent.Future;
+
+/**
+ * Async interface of distributed semaphore.
+ * Waiting for permits doesn't block any thread.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RSemaphoreAsync extends RExpirableAsync {
+
+    /**
+     * Acquires a permit, waiting until one is available.
+     *
+     * @return void
+     */
+    Future<Void> acquireAsync();
+
+    /**
+     * Acquires the given number of permits, waiting until all are available.
+     *
+     * @param permits the number of permits to acquire
+     * @return void
+     */
+    Future<Void> acquireAsync(int permits);
+
+    /**
+     * Acquires a permit only if one is available at the time of invocation.
+     *
+     * @return <code>true</code> if a permit was acquired
+     */
+    Future<Boolean> tryAcquireAsync();
+
+    /**
+     * Acquires the given number of permits only if all are available at the time of invocation.
+     *
+     * @param permits the number of permits to acquire
+     * @return <code>true</code> if the permits were acquired
+     */
+    Future<Boolean> tryAcquireAsync(int permits);
+
+    /**
+     * Acquires a permit, waiting up to <code>waitTime</code> if necessary.
+     *
+     * @param waitTime the maximum time to wait for a permit
+     * @param unit the time unit of the {@code waitTime} argument
+     * @return <code>true</code> if a permit was acquired
+     */
+    Future<Boolean> tryAcquireAsync(long waitTime, TimeUnit unit);
+
+    /**
+     * Acquires the given number of permits, waiting up to <code>waitTime</code> if necessary.
+     *
+     * @param permits the number of permits to acquire
+     * @param waitTime the maximum time to wait for the permits
+     * @param unit the time unit of the {@code waitTime} argument
+     * @return <code>true</code> if the permits were acquired
+     */
+    Future<Boolean> tryAcquireAsync(int permits, long waitTime, TimeUnit unit);
+
+    /**
+     * Releases a permit.
+     *
+     * @return void
+     */
+    Future<Void> releaseAsync();
+
+    /**
+     * Releases the given number of permits.
+     *
+     * @param permits the number of permits to release
+     * @return void
+     */
+    Future<Void> releaseAsync(int permits);
+
+}
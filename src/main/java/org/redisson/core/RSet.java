@@ -15,6 +15,7 @@
  */
 package org.redisson.core;
 
+import java.util.Iterator;
 import java.util.Set;
 
 /**
@@ -33,4 +34,13 @@ public interface RSet<V> extends Set<V>, RExpirable, RSetAsync<V> {
      */
     V removeRandom();
 
+    /**
+     * Returns iterator which loads elements by pages
+     * using <code>count</code> as <code>SSCAN COUNT</code> hint
+     *
+     * @param count
+     * @return iterator
+     */
+    Iterator<V> iterator(int count);
+
 }
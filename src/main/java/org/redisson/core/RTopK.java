@@ -0,0 +1,67 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.core;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.redisson.client.protocol.ScoredEntry;
+
+/**
+ * Top-K heavy hitters.
+ *
+ * Object frequencies are estimated by count-min sketch and
+ * the heaviest objects are kept in sorted set capped to <code>k</code> entries.
+ *
+ * @param <V> - type of object
+ */
+public interface RTopK<V> extends RObject {
+
+    /**
+     * Initializes top-k object
+     *
+     * @param k - amount of kept objects
+     * @param width - amount of counters per sketch row
+     * @param depth - amount of sketch rows
+     * @return <code>true</code> if object was initialized,
+     *         <code>false</code> if it has already been initialized
+     */
+    boolean tryInit(int k, int width, int depth);
+
+    /**
+     * Increments object count by single Lua script
+     *
+     * @param object
+     * @param count
+     * @return estimated count of object after increment
+     */
+    long add(V object, long count);
+
+    /**
+     * Returns heaviest objects ordered by estimated count descending
+     *
+     * @return
+     */
+    List<V> getTop();
+
+    /**
+     * Returns heaviest objects with their estimated count ordered by count descending
+     *
+     * @return
+     */
+    Collection<ScoredEntry<V>> getTopEntries();
+
+}
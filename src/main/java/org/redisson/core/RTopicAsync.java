@@ -34,6 +34,26 @@ public interface RTopicAsync<M> {
      */
     Future<Long> publishAsync(M message);
 
+    /**
+     * Subscribes to this topic asynchronously.
+     * <code>MessageListener.onMessage</code> is called when any message
+     * is published on this topic.
+     *
+     * @param listener
+     * @return the <code>Future</code> object with locally unique listener id
+     * @see org.redisson.core.MessageListener
+     */
+    Future<Integer> addListenerAsync(MessageListener<M> listener);
+
+    /**
+     * Subscribes to status changes of this topic asynchronously
+     *
+     * @param listener
+     * @return the <code>Future</code> object with locally unique listener id
+     * @see org.redisson.core.StatusListener
+     */
+    Future<Integer> addListenerAsync(StatusListener listener);
+
     /**
      * Subscribes to status changes of this topic
      *
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.redisson.MasterSlaveServersConfig;
@@ -31,6 +32,10 @@ import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
 import org.redisson.connection.ClientConnectionsEntry.NodeType;
+import org.redisson.connection.IdleConnectionWatcher;
+import org.redisson.connection.IdleConnectionWatcher.WarmUpHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.netty.util.Timeout;
 import io.netty.util.TimerTask;
@@ -40,6 +45,8 @@ import io.netty.util.concurrent.Promise;
 
 public class ConnectionPool<T extends RedisConnection> {
 
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
     protected final List<ClientConnectionsEntry> entries = new CopyOnWriteArrayList<ClientConnectionsEntry>();
 
     final Deque<Promise<T>> promises = new LinkedBlockingDeque<Promise<T>>();
@@ -67,47 +74,162 @@ public class ConnectionPool<T extends RedisConnection> {
 //        }, 1, 1, TimeUnit.SECONDS);
     }
 
-    public void add(final ClientConnectionsEntry entry) {
-        initConnections(entry, new Runnable() {
+    public Future<Void> add(final ClientConnectionsEntry entry) {
+        return initConnections(entry, new Runnable() {
             @Override
             public void run() {
                 entries.add(entry);
                 handleQueue(entry, true);
+
+                IdleConnectionWatcher.Entry stats = getStats(entry);
+                if (stats != null) {
+                    stats.setWarmUpHandler(new WarmUpHandler() {
+                        @Override
+                        public void warmUp(int amount) {
+                            for (int i = 0; i < amount; i++) {
+                                createIdleConnection(entry, true, null);
+                            }
+                        }
+                    });
+                }
             }
         }, true);
     }
 
-    private void initConnections(final ClientConnectionsEntry entry, final Runnable runnable, boolean checkFreezed) {
+    protected IdleConnectionWatcher.Entry getStats(ClientConnectionsEntry entry) {
+        return entry.getConnectionsStats();
+    }
+
+    /**
+     * Establishes minimum idle connections for <code>entry</code>.
+     * <code>availableCallback</code> invoked once entry could be used.
+     * In warm-up mode it happens right after first connection,
+     * otherwise after all connections have been established.
+     *
+     * @return future completed then all connections have been established
+     */
+    private Future<Void> initConnections(final ClientConnectionsEntry entry, final Runnable availableCallback, boolean checkFreezed) {
+        Promise<Void> initPromise = connectionManager.newPromise();
         int minimumIdleSize = getMinimumIdleSize(entry);
 
         if (minimumIdleSize == 0) {
-            runnable.run();
+            availableCallback.run();
+            initPromise.setSuccess(null);
+            return initPromise;
+        }
+
+        int concurrency = config.getConnectionWarmUpConcurrency();
+        InitState state = new InitState(minimumIdleSize, concurrency > 0, availableCallback, initPromise);
+        int initialAmount = minimumIdleSize;
+        if (state.warmUp) {
+            initialAmount = 1;
+        }
+        for (int i = 0; i < initialAmount; i++) {
+            createConnection(entry, state, checkFreezed);
+        }
+        return initPromise;
+    }
+
+    private static class InitState {
+
+        final AtomicInteger requests;
+        final AtomicInteger completedConnections;
+        final AtomicBoolean available = new AtomicBoolean();
+        final boolean warmUp;
+        final Runnable availableCallback;
+        final Promise<Void> initPromise;
+
+        InitState(int minimumIdleSize, boolean warmUp, Runnable availableCallback, Promise<Void> initPromise) {
+            this.requests = new AtomicInteger(minimumIdleSize);
+            this.completedConnections = new AtomicInteger(minimumIdleSize);
+            this.warmUp = warmUp;
+            this.availableCallback = availableCallback;
+            this.initPromise = initPromise;
+        }
+
+        void makeAvailable() {
+            if (available.compareAndSet(false, true)) {
+                availableCallback.run();
+            }
+        }
+
+    }
+
+    private void createConnection(final ClientConnectionsEntry entry, final InitState state, final boolean checkFreezed) {
+        if (state.requests.decrementAndGet() < 0) {
             return;
         }
 
-        final AtomicInteger completedConnections = new AtomicInteger(minimumIdleSize);
-        for (int i = 0; i < minimumIdleSize; i++) {
-            if ((checkFreezed && entry.isFreezed()) || !tryAcquireConnection(entry)) {
-                continue;
+        boolean created = createIdleConnection(entry, checkFreezed, new Runnable() {
+            @Override
+            public void run() {
+                connectionInitialized(entry, state, checkFreezed);
             }
+        });
+        if (!created) {
+            connectionInitialized(entry, state, checkFreezed);
+        }
+    }
 
-            Promise<T> promise = connectionManager.newPromise();
-            connect(entry, promise);
-            promise.addListener(new FutureListener<T>() {
-                @Override
-                public void operationComplete(Future<T> future) throws Exception {
-                    if (future.isSuccess()) {
-                        T conn = future.getNow();
-                        releaseConnection(entry, conn);
-                    }
-                    releaseConnection(entry);
+    /**
+     * Establishes new connection and puts it to idle connections.
+     *
+     * @return <code>false</code> if connection can't be acquired
+     */
+    private boolean createIdleConnection(final ClientConnectionsEntry entry, boolean checkFreezed, final Runnable callback) {
+        if ((checkFreezed && entry.isFreezed()) || !tryAcquireConnection(entry)) {
+            return false;
+        }
 
-                    if (completedConnections.decrementAndGet() == 0) {
-                        runnable.run();
-                    }
+        // background connection isn't counted as demand
+        final IdleConnectionWatcher.Entry stats = getStats(entry);
+        if (stats != null) {
+            stats.incConnectingAmount();
+        }
+
+        Promise<T> promise = connectionManager.newPromise();
+        connect(entry, promise);
+        promise.addListener(new FutureListener<T>() {
+            @Override
+            public void operationComplete(Future<T> future) throws Exception {
+                if (future.isSuccess()) {
+                    T conn = future.getNow();
+                    releaseConnection(entry, conn);
                 }
-            });
+                releaseConnection(entry);
+                if (stats != null) {
+                    stats.decConnectingAmount();
+                }
+
+                if (callback != null) {
+                    callback.run();
+                }
+            }
+        });
+        return true;
+    }
+
+    private void connectionInitialized(ClientConnectionsEntry entry, InitState state, boolean checkFreezed) {
+        if (state.completedConnections.decrementAndGet() == 0) {
+            state.makeAvailable();
+            state.initPromise.trySuccess(null);
+            return;
+        }
+
+        if (!state.warmUp) {
+            return;
+        }
+
+        if (!state.available.get()) {
+            state.makeAvailable();
+            // first connection established, the rest are created in background
+            for (int i = 0; i < config.getConnectionWarmUpConcurrency(); i++) {
+                createConnection(entry, state, checkFreezed);
+            }
+            return;
         }
+
+        createConnection(entry, state, checkFreezed);
     }
 
     protected int getMinimumIdleSize(ClientConnectionsEntry entry) {
@@ -133,6 +255,26 @@ public class ConnectionPool<T extends RedisConnection> {
         return promise;
     }
 
+    /**
+     * Checks if connection could be acquired without waiting
+     * for a connection to be returned to this pool.
+     *
+     * @return
+     */
+    public boolean hasFreeConnections() {
+        for (ClientConnectionsEntry entry : entries) {
+            if (!entry.isFreezed() && entry.getFailedAttempts() < config.getFailedAttempts()
+                    && getFreeAmount(entry) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected int getFreeAmount(ClientConnectionsEntry entry) {
+        return entry.getFreeAmount();
+    }
+
     public Future<T> get(ClientConnectionsEntry entry) {
         if (((entry.getNodeType() == NodeType.MASTER && entry.getFreezeReason() == FreezeReason.SYSTEM) || !entry.isFreezed())
                 && tryAcquireConnection(entry)) {
@@ -146,6 +288,74 @@ public class ConnectionPool<T extends RedisConnection> {
         return connectionManager.newFailedFuture(exception);
     }
 
+    /**
+     * Returns pipelined connection shared between concurrent commands.
+     * Falls back to dedicated connection if there are no available entries.
+     *
+     * @return
+     */
+    public Future<T> getShared() {
+        for (int j = entries.size() - 1; j >= 0; j--) {
+            ClientConnectionsEntry entry = getEntry();
+            if (!entry.isFreezed() && entry.getFailedAttempts() < config.getFailedAttempts()) {
+                return connectShared(entry);
+            }
+        }
+        return get();
+    }
+
+    public Future<T> getShared(ClientConnectionsEntry entry) {
+        if (!entry.isFreezed() && entry.getFailedAttempts() < config.getFailedAttempts()) {
+            return connectShared(entry);
+        }
+        return get(entry);
+    }
+
+    /**
+     * Returns connection shared between concurrent commands.
+     * Pools which don't support shared connections use dedicated connection.
+     *
+     * @param entry
+     * @return
+     */
+    protected Future<T> connectShared(ClientConnectionsEntry entry) {
+        return get(entry);
+    }
+
+    /**
+     * Returns own promise of caller bound to pipelined connection of <code>entry</code>,
+     * so cancellation by one command doesn't affect others.
+     * Connection failures are counted once per connection attempt.
+     *
+     * @param entry
+     * @return
+     */
+    protected Future<T> sharedConnection(final ClientConnectionsEntry entry) {
+        Future<RedisConnection> sharedFuture = entry.sharedConnection(config, new FutureListener<RedisConnection>() {
+            @Override
+            public void operationComplete(Future<RedisConnection> future) throws Exception {
+                if (future.isSuccess()) {
+                    entry.resetFailedAttempts();
+                } else {
+                    connectionFailed(entry);
+                }
+            }
+        });
+
+        final Promise<T> promise = connectionManager.newPromise();
+        sharedFuture.addListener(new FutureListener<RedisConnection>() {
+            @Override
+            public void operationComplete(Future<RedisConnection> future) throws Exception {
+                if (!future.isSuccess()) {
+                    promise.tryFailure(future.cause());
+                    return;
+                }
+                promise.trySuccess((T) future.getNow());
+            }
+        });
+        return promise;
+    }
+
     protected boolean tryAcquireConnection(ClientConnectionsEntry entry) {
         return entry.getFailedAttempts() < config.getFailedAttempts() && entry.tryAcquireConnection();
     }
@@ -201,6 +411,11 @@ public class ConnectionPool<T extends RedisConnection> {
     }
 
     private void promiseFailure(ClientConnectionsEntry entry, Promise<T> promise, Throwable cause) {
+        connectionFailed(entry);
+        promise.tryFailure(cause);
+    }
+
+    private void connectionFailed(ClientConnectionsEntry entry) {
         if (entry.incFailedAttempts() == config.getFailedAttempts()) {
             if (entry.getNodeType() == NodeType.SLAVE) {
                 connectionManager.slaveDown(masterSlaveEntry, entry.getClient().getAddr().getHostName(),
@@ -210,8 +425,6 @@ public class ConnectionPool<T extends RedisConnection> {
                 freezeMaster(entry);
             }
         }
-
-        promise.tryFailure(cause);
     }
 
     private void freezeMaster(ClientConnectionsEntry entry) {
@@ -241,6 +454,28 @@ public class ConnectionPool<T extends RedisConnection> {
         promise.tryFailure(cause);
     }
 
+    /**
+     * Registers command response in circuit breaker of slave node.
+     * Slave node is frozen and probed the same way as after connection failures
+     * then circuit is opened.
+     *
+     * @param entry
+     * @param duration - response latency in milliseconds
+     * @param failed - <code>true</code> if command failed due to timeout or connection error
+     */
+    public void commandCompleted(ClientConnectionsEntry entry, long duration, boolean failed) {
+        if (entry.getNodeType() != NodeType.SLAVE || entry.isFreezed()) {
+            return;
+        }
+
+        if (entry.getCircuitBreaker().record(duration, failed)) {
+            log.warn("circuit breaker opened for slave {}", entry.getClient().getAddr());
+            connectionManager.slaveDown(masterSlaveEntry, entry.getClient().getAddr().getHostName(),
+                    entry.getClient().getAddr().getPort(), FreezeReason.RECONNECT);
+            scheduleCheck(entry);
+        }
+    }
+
     private void scheduleCheck(final ClientConnectionsEntry entry) {
         connectionManager.newTimeout(new TimerTask() {
             @Override
@@ -250,6 +485,7 @@ public class ConnectionPool<T extends RedisConnection> {
                     return;
                 }
 
+                entry.getCircuitBreaker().startProbe();
                 Future<RedisConnection> connectionFuture = entry.getClient().connectAsync();
                 connectionFuture.addListener(new FutureListener<RedisConnection>() {
                     @Override
@@ -260,16 +496,19 @@ public class ConnectionPool<T extends RedisConnection> {
                         }
 
                         if (!future.isSuccess()) {
+                            entry.getCircuitBreaker().probe(0, false);
                             scheduleCheck(entry);
                             return;
                         }
                         final RedisConnection c = future.getNow();
                         if (!c.isActive()) {
                             c.closeAsync();
+                            entry.getCircuitBreaker().probe(0, false);
                             scheduleCheck(entry);
                             return;
                         }
 
+                        final long startTime = System.currentTimeMillis();
                         Future<String> f = c.asyncWithTimeout(null, RedisCommands.PING);
                         f.addListener(new FutureListener<String>() {
                             @Override
@@ -280,7 +519,8 @@ public class ConnectionPool<T extends RedisConnection> {
                                         return;
                                     }
 
-                                    if (future.isSuccess() && "PONG".equals(future.getNow())) {
+                                    boolean success = future.isSuccess() && "PONG".equals(future.getNow());
+                                    if (entry.getCircuitBreaker().probe(System.currentTimeMillis() - startTime, success)) {
                                         entry.resetFailedAttempts();
                                         initConnections(entry, new Runnable() {
                                             @Override
@@ -316,6 +556,10 @@ public class ConnectionPool<T extends RedisConnection> {
     }
 
     public void returnConnection(ClientConnectionsEntry entry, T connection) {
+        if (connection.isPipelined()) {
+            // shared connection is never borrowed from pool
+            return;
+        }
         if (entry.isFreezed()) {
             connection.closeAsync();
         } else {
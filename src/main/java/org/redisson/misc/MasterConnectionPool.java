@@ -21,6 +21,8 @@ import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.ClientConnectionsEntry;
 
+import io.netty.util.concurrent.Future;
+
 public class MasterConnectionPool extends ConnectionPool<RedisConnection> {
 
     public MasterConnectionPool(MasterSlaveServersConfig config,
@@ -42,4 +44,9 @@ public class MasterConnectionPool extends ConnectionPool<RedisConnection> {
         return config.getMasterConnectionMinimumIdleSize();
     }
 
+    @Override
+    protected Future<RedisConnection> connectShared(ClientConnectionsEntry entry) {
+        return sharedConnection(entry);
+    }
+
 }
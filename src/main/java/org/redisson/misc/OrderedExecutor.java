@@ -0,0 +1,144 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.misc;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Executes tasks with the same key sequentially in submission order,
+ * while tasks with different keys run in parallel on delegate executor.
+ * Each key has own queue, which occupies single delegate thread only while it's not empty.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class OrderedExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderedExecutor.class);
+
+    private class SerialQueue implements Runnable {
+
+        private final Object key;
+        private final Queue<Runnable> tasks = new LinkedList<Runnable>();
+        private boolean running;
+        private boolean removeRequested;
+        private boolean removed;
+
+        SerialQueue(Object key) {
+            this.key = key;
+        }
+
+        /**
+         * Adds task to queue.
+         *
+         * @param task
+         * @return <code>false</code> if queue has been removed
+         */
+        synchronized boolean execute(Runnable task) {
+            if (removed) {
+                return false;
+            }
+            tasks.add(task);
+            if (!running) {
+                running = true;
+                delegate.execute(this);
+            }
+            return true;
+        }
+
+        synchronized void remove() {
+            removeRequested = true;
+            if (!running) {
+                removeQueue();
+            }
+        }
+
+        private void removeQueue() {
+            removed = true;
+            queues.remove(key, this);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        running = false;
+                        if (removeRequested) {
+                            removeQueue();
+                        }
+                        return;
+                    }
+                }
+
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    log.error("Can't execute listener task", e);
+                }
+            }
+        }
+
+    }
+
+    private final ConcurrentMap<Object, SerialQueue> queues = PlatformDependent.newConcurrentHashMap();
+    private final Executor delegate;
+
+    public OrderedExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    public void execute(Object key, Runnable task) {
+        while (true) {
+            SerialQueue queue = queues.get(key);
+            if (queue == null) {
+                queue = new SerialQueue(key);
+                SerialQueue oldQueue = queues.putIfAbsent(key, queue);
+                if (oldQueue != null) {
+                    queue = oldQueue;
+                }
+            }
+            if (queue.execute(task)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes queue of <code>key</code>.
+     * Should be invoked when no more tasks are expected for it.
+     * Queue with pending tasks is removed once they are executed.
+     *
+     * @param key
+     */
+    public void remove(Object key) {
+        SerialQueue queue = queues.get(key);
+        if (queue != null) {
+            queue.remove();
+        }
+    }
+
+}
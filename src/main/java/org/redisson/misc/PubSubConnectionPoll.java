@@ -20,6 +20,7 @@ import org.redisson.client.RedisPubSubConnection;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.ClientConnectionsEntry;
+import org.redisson.connection.IdleConnectionWatcher;
 
 import io.netty.util.concurrent.Future;
 
@@ -34,6 +35,11 @@ public class PubSubConnectionPoll extends ConnectionPool<RedisPubSubConnection>
         return entry.pollSubscribeConnection();
     }
 
+    @Override
+    protected IdleConnectionWatcher.Entry getStats(ClientConnectionsEntry entry) {
+        return entry.getSubscribeConnectionsStats();
+    }
+
     @Override
     protected int getMinimumIdleSize(ClientConnectionsEntry entry) {
         return config.getSlaveSubscriptionConnectionMinimumIdleSize();
@@ -44,6 +50,11 @@ public class PubSubConnectionPoll extends ConnectionPool<RedisPubSubConnection>
         return entry.connectPubSub(config);
     }
 
+    @Override
+    protected int getFreeAmount(ClientConnectionsEntry entry) {
+        return entry.getFreeSubscribeAmount();
+    }
+
     @Override
     protected boolean tryAcquireConnection(ClientConnectionsEntry entry) {
         return entry.tryAcquireSubscribeConnection();
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2014 Nikita Koksharov, Nickolay Borbit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.misc;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Long counter split into cells selected by thread id, so concurrent updates
+ * from different threads rarely contend on the same cell.
+ * Cells are padded to separate cache lines.
+ *
+ */
+public class StripedLong {
+
+    private static final int PADDING = 8;
+    private static final int STRIPES;
+
+    static {
+        int stripes = 1;
+        while (stripes < Runtime.getRuntime().availableProcessors() * 2) {
+            stripes <<= 1;
+        }
+        STRIPES = stripes;
+    }
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    /**
+     * Adds delta to the cell of current thread
+     *
+     * @param delta
+     * @return new value of the cell
+     */
+    public long add(long delta) {
+        long id = Thread.currentThread().getId();
+        int index = (int) (id ^ (id >>> 16)) & (STRIPES - 1);
+        return cells.addAndGet(index * PADDING, delta);
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    /**
+     * Returns sum of cells and resets each of them atomically,
+     * so concurrent updates are never lost
+     *
+     * @return
+     */
+    public long sumThenReset() {
+        long sum = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            sum += cells.getAndSet(i * PADDING, 0);
+        }
+        return sum;
+    }
+
+    public static int getStripes() {
+        return STRIPES;
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.redisson;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.connection.CircuitBreaker;
+import org.redisson.connection.CircuitBreaker.State;
+
+public class CircuitBreakerTest {
+
+    public static class TestCircuitBreaker extends CircuitBreaker {
+
+        long time = 1000000;
+
+        public TestCircuitBreaker(MasterSlaveServersConfig config) {
+            super(config);
+        }
+
+        @Override
+        protected long currentTime() {
+            return time;
+        }
+
+    }
+
+    private TestCircuitBreaker create() {
+        MasterSlaveServersConfig config = new MasterSlaveServersConfig();
+        config.setCircuitBreakerWindow(10000)
+                .setCircuitBreakerErrorRate(50)
+                .setCircuitBreakerLatencyThreshold(100)
+                .setCircuitBreakerLatencyPercentile(90);
+        return new TestCircuitBreaker(config);
+    }
+
+    @Test
+    public void testOpenOnErrors() {
+        TestCircuitBreaker cb = create();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertFalse(cb.record(1, false));
+        }
+        // not enough calls to make decision
+        for (int i = 0; i < 9; i++) {
+            Assert.assertFalse(cb.record(1, true));
+        }
+        Assert.assertEquals(State.CLOSED, cb.getState());
+
+        Assert.assertTrue(cb.record(1, true));
+        Assert.assertEquals(State.OPEN, cb.getState());
+        Assert.assertFalse(cb.record(1, true));
+    }
+
+    @Test
+    public void testOpenOnSlowCalls() {
+        TestCircuitBreaker cb = create();
+        for (int i = 0; i < 18; i++) {
+            Assert.assertFalse(cb.record(1, false));
+        }
+        Assert.assertFalse(cb.record(200, false));
+        Assert.assertFalse(cb.record(200, false));
+        Assert.assertEquals(State.CLOSED, cb.getState());
+
+        Assert.assertTrue(cb.record(200, false));
+        Assert.assertEquals(State.OPEN, cb.getState());
+    }
+
+    @Test
+    public void testOutdatedBucketsIgnored() {
+        TestCircuitBreaker cb = create();
+        for (int i = 0; i < 15; i++) {
+            Assert.assertFalse(cb.record(1, true));
+        }
+
+        // whole window has passed
+        cb.time += 10000;
+        for (int i = 0; i < 19; i++) {
+            Assert.assertFalse(cb.record(1, false));
+        }
+        Assert.assertFalse(cb.record(1, true));
+        Assert.assertEquals(State.CLOSED, cb.getState());
+    }
+
+    @Test
+    public void testHalfOpenAndClose() {
+        TestCircuitBreaker cb = create();
+        Assert.assertFalse(cb.startProbe());
+        for (int i = 0; i < 20; i++) {
+            cb.record(1, true);
+        }
+        Assert.assertEquals(State.OPEN, cb.getState());
+
+        Assert.assertTrue(cb.startProbe());
+        Assert.assertEquals(State.HALF_OPEN, cb.getState());
+        Assert.assertFalse(cb.record(1, true));
+
+        // failed probe
+        Assert.assertFalse(cb.probe(1, false));
+        Assert.assertEquals(State.OPEN, cb.getState());
+
+        // slow probe
+        Assert.assertTrue(cb.startProbe());
+        Assert.assertFalse(cb.probe(200, true));
+        Assert.assertEquals(State.OPEN, cb.getState());
+
+        Assert.assertTrue(cb.startProbe());
+        Assert.assertTrue(cb.probe(1, true));
+        Assert.assertEquals(State.CLOSED, cb.getState());
+
+        // statistics are cleared after close
+        for (int i = 0; i < 19; i++) {
+            Assert.assertFalse(cb.record(1, true));
+        }
+        Assert.assertEquals(State.CLOSED, cb.getState());
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.redisson;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.client.ReconnectListener;
+import org.redisson.client.RedisClient;
+import org.redisson.client.RedisConnection;
+import org.redisson.client.RedisException;
+import org.redisson.client.handler.ConnectionWatchdog;
+
+import io.netty.util.concurrent.Promise;
+
+public class ConnectionWatchdogTest {
+
+    public static class CountingRedisClient extends RedisClient {
+
+        final AtomicInteger reconnections = new AtomicInteger();
+        final AtomicInteger maxReconnections = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+
+        public CountingRedisClient(String host, int port) {
+            super(host, port);
+        }
+
+        @Override
+        public boolean tryAcquireReconnection() {
+            if (!super.tryAcquireReconnection()) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            int value = reconnections.incrementAndGet();
+            while (true) {
+                int max = maxReconnections.get();
+                if (value <= max || maxReconnections.compareAndSet(max, value)) {
+                    break;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void releaseReconnection() {
+            reconnections.decrementAndGet();
+            super.releaseReconnection();
+        }
+
+    }
+
+    @Test
+    public void testBackoffDelay() {
+        Set<Integer> delays = new HashSet<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            int delay = ConnectionWatchdog.backoffDelay(5);
+            Assert.assertTrue(delay >= 0 && delay < 64);
+            delays.add(delay);
+        }
+        // delays are randomised
+        Assert.assertTrue(delays.size() > 10);
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(ConnectionWatchdog.backoffDelay(100) < 2 << 12);
+        }
+    }
+
+    @Test
+    public void testReconnectionSlots() throws IOException, InterruptedException {
+        final ServerSocket server = new ServerSocket(0);
+        final List<Socket> sockets = new CopyOnWriteArrayList<Socket>();
+        final CountDownLatch accepted = new CountDownLatch(40);
+        Thread acceptor = new Thread() {
+            @Override
+            public void run() {
+                while (!server.isClosed()) {
+                    try {
+                        sockets.add(server.accept());
+                        accepted.countDown();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            }
+        };
+        acceptor.start();
+
+        final CountingRedisClient client = new CountingRedisClient("127.0.0.1", server.getLocalPort());
+        client.setReconnectionConcurrency(3);
+
+        // reconnection slot is held until listener completes channel init
+        ReconnectListener listener = new ReconnectListener() {
+            @Override
+            public void onReconnect(final RedisConnection redisConnection, final Promise<RedisConnection> connectionFuture) throws RedisException {
+                client.getBootstrap().group().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        connectionFuture.setSuccess(redisConnection);
+                    }
+                }, 50, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void onDisconnect(RedisConnection redisConnection) {
+            }
+        };
+
+        List<RedisConnection> connections = new ArrayList<RedisConnection>();
+        for (int i = 0; i < 20; i++) {
+            RedisConnection connection = client.connect();
+            connection.setReconnectListener(listener);
+            connections.add(connection);
+        }
+
+        // simulate node restart
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+
+        Assert.assertTrue(accepted.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(client.maxReconnections.get() <= 3);
+        Assert.assertTrue(client.rejected.get() > 0);
+
+        for (RedisConnection connection : connections) {
+            connection.closeAsync().awaitUninterruptibly();
+        }
+        server.close();
+        client.shutdown();
+        client.getBootstrap().group().shutdownGracefully();
+    }
+
+}
@@ -0,0 +1,132 @@
+package org.redisson;
+
+import java.net.InetSocketAddress;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.client.RedisConnection;
+import org.redisson.connection.IdleConnectionWatcher;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+public class IdleConnectionWatcherTest {
+
+    private final AtomicInteger freeCounter = new AtomicInteger(10);
+    private final Queue<RedisConnection> connections = new ConcurrentLinkedQueue<RedisConnection>();
+    private final IdleConnectionWatcher.Entry entry = new IdleConnectionWatcher.Entry(
+            new InetSocketAddress("127.0.0.1", 6379), 2, 10, connections, freeCounter);
+
+    private void borrow(int amount) {
+        freeCounter.addAndGet(-amount);
+    }
+
+    private void addIdle(int amount) {
+        for (int i = 0; i < amount; i++) {
+            connections.add(new RedisConnection(null, new EmbeddedChannel()));
+        }
+    }
+
+    @Test
+    public void testDemandGrowth() {
+        borrow(8);
+        entry.updateDemand();
+        Assert.assertEquals(4, entry.getDemand(), 0.001);
+        entry.updateDemand();
+        Assert.assertEquals(6, entry.getDemand(), 0.001);
+        Assert.assertEquals(8, entry.getTargetAmount());
+    }
+
+    @Test
+    public void testDemandDecay() {
+        borrow(8);
+        for (int i = 0; i < 20; i++) {
+            entry.updateDemand();
+        }
+        Assert.assertEquals(8, entry.getDemand(), 0.001);
+
+        borrow(-8);
+        entry.updateDemand();
+        Assert.assertEquals(7.6, entry.getDemand(), 0.001);
+        entry.updateDemand();
+        Assert.assertEquals(7.22, entry.getDemand(), 0.001);
+        Assert.assertEquals(10, entry.getTargetAmount());
+
+        for (int i = 0; i < 200; i++) {
+            entry.updateDemand();
+        }
+        // target amount doesn't drop below minimum idle size
+        Assert.assertEquals(2, entry.getTargetAmount());
+    }
+
+    @Test
+    public void testEvictionAtMinimumIdleSize() {
+        addIdle(2);
+        Assert.assertFalse(entry.isEvictionAllowed(false));
+        Assert.assertFalse(entry.isEvictionAllowed(true));
+
+        addIdle(1);
+        Assert.assertTrue(entry.isEvictionAllowed(false));
+        Assert.assertTrue(entry.isEvictionAllowed(true));
+    }
+
+    @Test
+    public void testEvictionAboveMinimumIdleSize() {
+        borrow(4);
+        for (int i = 0; i < 20; i++) {
+            entry.updateDemand();
+        }
+        borrow(-4);
+        addIdle(6);
+        entry.updateDemand();
+
+        // demand 3.8: upper bound is 6 connections
+        Assert.assertFalse(entry.isEvictionAllowed(true));
+        Assert.assertTrue(entry.isEvictionAllowed(false));
+
+        addIdle(1);
+        Assert.assertTrue(entry.isEvictionAllowed(true));
+    }
+
+    @Test
+    public void testWarmUpAmount() {
+        borrow(8);
+        for (int i = 0; i < 20; i++) {
+            entry.updateDemand();
+        }
+        Assert.assertEquals(0, entry.getWarmUpAmount());
+
+        // connections closed by server
+        borrow(-8);
+        entry.updateDemand();
+        // demand 7.6: target amount is 10 connections
+        Assert.assertEquals(10, entry.getWarmUpAmount());
+
+        addIdle(4);
+        Assert.assertEquals(6, entry.getWarmUpAmount());
+
+        addIdle(4);
+        // lower bound is 8 connections
+        Assert.assertEquals(0, entry.getWarmUpAmount());
+    }
+
+    @Test
+    public void testConnectingExcludedFromDemand() {
+        borrow(3);
+        entry.incConnectingAmount();
+        entry.incConnectingAmount();
+        entry.incConnectingAmount();
+        Assert.assertEquals(0, entry.getBorrowedAmount());
+        Assert.assertEquals(3, entry.getTotalAmount());
+
+        entry.updateDemand();
+        Assert.assertEquals(0, entry.getDemand(), 0.001);
+        Assert.assertEquals(0, entry.getWarmUpAmount());
+
+        entry.decConnectingAmount();
+        Assert.assertEquals(1, entry.getBorrowedAmount());
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.redisson.misc.OrderedExecutor;
+
+public class OrderedExecutorTest {
+
+    private ExecutorService delegate;
+    private OrderedExecutor executor;
+
+    @Before
+    public void before() {
+        delegate = Executors.newFixedThreadPool(4);
+        executor = new OrderedExecutor(delegate);
+    }
+
+    @After
+    public void after() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    public void testOrder() throws InterruptedException {
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch latch = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            final int value = i;
+            executor.execute("key", new Runnable() {
+                @Override
+                public void run() {
+                    received.add(value);
+                    latch.countDown();
+                }
+            });
+        }
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(i, (int) received.get(i));
+        }
+    }
+
+    @Test
+    public void testError() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.execute("key", new Runnable() {
+            @Override
+            public void run() {
+                throw new AssertionError();
+            }
+        });
+        executor.execute("key", new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+
+        Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRemoveWithPendingTasks() throws InterruptedException {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicBoolean parallel = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(200);
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                if (running.incrementAndGet() > 1) {
+                    parallel.set(true);
+                }
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                latch.countDown();
+            }
+        };
+
+        for (int i = 0; i < 100; i++) {
+            executor.execute("key", task);
+        }
+        executor.remove("key");
+        for (int i = 0; i < 100; i++) {
+            executor.execute("key", task);
+        }
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(parallel.get());
+    }
+
+}
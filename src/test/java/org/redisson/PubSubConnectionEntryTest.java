@@ -0,0 +1,58 @@
+package org.redisson;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.client.BaseRedisPubSubListener;
+import org.redisson.client.RedisPubSubConnection;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.connection.PubSubConnectionEntry;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+public class PubSubConnectionEntryTest {
+
+    private final RedisPubSubConnection conn = new RedisPubSubConnection(null, new EmbeddedChannel());
+    private final PubSubConnectionEntry entry = new PubSubConnectionEntry(conn, 2);
+
+    @Test
+    public void testLimit() {
+        Assert.assertTrue(entry.tryAcquire());
+        Assert.assertTrue(entry.tryAcquire());
+        Assert.assertFalse(entry.tryAcquire());
+        Assert.assertFalse(entry.isOverflowed());
+
+        entry.forceAcquire();
+        Assert.assertEquals(3, entry.getSubscribedAmount());
+        Assert.assertTrue(entry.isOverflowed());
+
+        entry.release();
+        Assert.assertFalse(entry.isOverflowed());
+        Assert.assertFalse(entry.tryAcquire());
+    }
+
+    @Test
+    public void testTryClose() {
+        entry.forceAcquire();
+        Assert.assertFalse(entry.tryClose());
+        Assert.assertTrue(entry.isActive());
+
+        entry.release();
+        Assert.assertTrue(entry.tryClose());
+        Assert.assertFalse(entry.isActive());
+        Assert.assertFalse(entry.tryAcquire());
+    }
+
+    @Test
+    public void testDetach() {
+        entry.tryAcquire();
+        entry.subscribe(StringCodec.INSTANCE, new BaseRedisPubSubListener<Object>(), "channel");
+        Assert.assertTrue(entry.hasListeners("channel"));
+        Assert.assertTrue(conn.getChannels().containsKey("channel"));
+
+        entry.detach("channel");
+        Assert.assertFalse(entry.hasListeners("channel"));
+        Assert.assertFalse(conn.getChannels().containsKey("channel"));
+        Assert.assertEquals(0, entry.getSubscribedAmount());
+    }
+
+}
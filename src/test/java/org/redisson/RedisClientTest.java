@@ -22,9 +22,12 @@ import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.CommandsData;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.client.protocol.pubsub.PubSubType;
+import org.redisson.connection.FutureConnectionListener;
 
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.netty.util.concurrent.Promise;
 
 public class RedisClientTest {
@@ -97,6 +100,31 @@ public class RedisClientTest {
         conn.sync(RedisCommands.FLUSHDB);
     }
 
+    @Test
+    public void testPipelinedConnection() throws InterruptedException, ExecutionException {
+        RedisClient c = new RedisClient("localhost", 6379);
+        RedisConnection conn = c.connect();
+        conn.setPipelined(true);
+
+        List<Future<Long>> futures = new ArrayList<Future<Long>>();
+        for (int i = 0; i < 1000; i++) {
+            Future<Long> f = conn.async(RedisCommands.INCR, "test");
+            futures.add(f);
+        }
+
+        // written command can't be cancelled and connection stays open
+        Future<String> ping = conn.async(StringCodec.INSTANCE, RedisCommands.PING);
+        ping.cancel(false);
+        Assert.assertTrue(conn.isActive());
+
+        for (int i = 0; i < futures.size(); i++) {
+            Assert.assertEquals(i + 1, (long)futures.get(i).get());
+        }
+        Assert.assertEquals("PONG", conn.sync(StringCodec.INSTANCE, RedisCommands.PING));
+
+        conn.sync(RedisCommands.FLUSHDB);
+    }
+
     @Test
     public void testPipeline() throws InterruptedException, ExecutionException {
         RedisClient c = new RedisClient("localhost", 6379);
@@ -161,4 +189,18 @@ public class RedisClientTest {
         conn.sync(RedisCommands.FLUSHDB);
     }
 
+    @Test
+    public void testConnectionClosedIfPromiseCancelled() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        RedisConnection conn = new RedisConnection(null, channel);
+        Promise<RedisConnection> promise = ImmediateEventExecutor.INSTANCE.newPromise();
+        promise.cancel(false);
+
+        FutureConnectionListener<RedisConnection> listener = new FutureConnectionListener<RedisConnection>(promise, conn);
+        listener.executeCommands();
+
+        Assert.assertTrue(conn.isClosed());
+        Assert.assertFalse(channel.isOpen());
+    }
+
 }
@@ -127,4 +127,42 @@ public class RedissonBitSetTest extends BaseTest {
     }
 
 
+
+    @Test
+    public void testSetClearRange() {
+        RBitSet bs = redisson.getBitSet("testbitset");
+        bs.set(3, 30);
+        Assert.assertEquals(27, bs.cardinality());
+        Assert.assertEquals(30, bs.length());
+
+        bs.clear(5, 27);
+        Assert.assertEquals("{3, 4, 27, 28, 29}", bs.toString());
+
+        bs.clear(10, 1000);
+        Assert.assertEquals("{3, 4}", bs.toString());
+        Assert.assertEquals(32, bs.size());
+    }
+
+    @Test
+    public void testCardinalityRange() {
+        RBitSet bs = redisson.getBitSet("testbitset");
+        bs.set(2, 50);
+        Assert.assertEquals(48, bs.cardinality(0, 100));
+        Assert.assertEquals(3, bs.cardinality(5, 8));
+        Assert.assertEquals(25, bs.cardinality(5, 30));
+        Assert.assertEquals(0, bs.cardinality(60, 100));
+    }
+
+    @Test
+    public void testNextBit() {
+        RBitSet bs = redisson.getBitSet("testbitset");
+        bs.set(3);
+        bs.set(40, 45);
+        Assert.assertEquals(3, bs.nextSetBit(0));
+        Assert.assertEquals(40, bs.nextSetBit(4));
+        Assert.assertEquals(-1, bs.nextSetBit(45));
+        Assert.assertEquals(0, bs.nextClearBit(0));
+        Assert.assertEquals(45, bs.nextClearBit(40));
+        Assert.assertEquals(100, bs.nextClearBit(100));
+    }
 }
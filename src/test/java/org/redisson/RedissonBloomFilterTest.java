@@ -0,0 +1,86 @@
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RBloomFilter;
+
+public class RedissonBloomFilterTest extends BaseTest {
+
+    @Test
+    public void testInit() {
+        RBloomFilter<String> filter = redisson.getBloomFilter("filter");
+        Assert.assertTrue(filter.tryInit(1000, 0.01));
+        Assert.assertFalse(filter.tryInit(100, 0.03));
+        Assert.assertEquals(9585, filter.getSize());
+        Assert.assertEquals(7, filter.getHashIterations());
+
+        Assert.assertTrue(filter.delete());
+        Assert.assertFalse(filter.delete());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNotInitialized() {
+        RBloomFilter<String> filter = redisson.getBloomFilter("filter");
+        filter.contains("123");
+    }
+
+    @Test
+    public void testAddContains() {
+        RBloomFilter<String> filter = redisson.getBloomFilter("filter");
+        filter.tryInit(1000, 0.01);
+
+        Assert.assertTrue(filter.add("123"));
+        Assert.assertFalse(filter.add("123"));
+        Assert.assertTrue(filter.contains("123"));
+        Assert.assertFalse(filter.contains("1234"));
+    }
+
+    @Test
+    public void testContainsAll() {
+        RBloomFilter<Integer> filter = redisson.getBloomFilter("filter");
+        filter.tryInit(1000, 0.001);
+        for (int i = 0; i < 500; i++) {
+            filter.add(i);
+        }
+
+        List<Integer> objects = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            objects.add(i);
+        }
+        Set<Integer> result = filter.containsAll(objects);
+        for (int i = 0; i < 500; i++) {
+            Assert.assertTrue(result.contains(i));
+        }
+        Assert.assertTrue(result.size() < 510);
+    }
+
+    @Test
+    public void testReinitByOtherInstance() {
+        RBloomFilter<String> filter = redisson.getBloomFilter("filter");
+        filter.tryInit(1000, 0.01);
+        filter.add("123");
+        Assert.assertTrue(filter.contains("123"));
+
+        RBloomFilter<String> otherFilter = redisson.getBloomFilter("filter");
+        otherFilter.delete();
+        otherFilter.tryInit(100000, 0.03);
+
+        // cached config is replaced by new one
+        Assert.assertFalse(filter.contains("123"));
+        Assert.assertEquals(otherFilter.getSize(), filter.getSize());
+        Assert.assertEquals(otherFilter.getHashIterations(), filter.getHashIterations());
+
+        otherFilter.delete();
+        try {
+            filter.contains("123");
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // filter has been deleted
+        }
+    }
+
+}
@@ -2,7 +2,9 @@ package org.redisson;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
@@ -109,4 +111,21 @@ public class RedissonBucketTest extends BaseTest {
             bucket.delete();
         }
     }
+
+    @Test
+    public void testBucketsGetSet() {
+        Map<String, String> values = new HashMap<String, String>();
+        for (int i = 0; i < 100; i++) {
+            values.put("test:buckets:" + i, "value" + i);
+        }
+        redisson.getBuckets().set(values);
+
+        Assert.assertEquals("value10", redisson.getBucket("test:buckets:10").get());
+
+        Map<String, String> result = redisson.getBuckets().get("test:buckets:1", "test:buckets:2", "test:buckets:missing");
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals("value1", result.get("test:buckets:1"));
+        Assert.assertEquals("value2", result.get("test:buckets:2"));
+        Assert.assertTrue(redisson.getBuckets().get().isEmpty());
+    }
 }
@@ -85,6 +85,38 @@ public class RedissonCountDownLatchTest extends BaseTest {
         Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
     }
 
+    @Test
+    public void testSharedNotificationChannels() throws InterruptedException {
+        Config config = createConfig();
+        config.setNotificationChannels(4);
+        final Redisson r = Redisson.create(config);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            final RCountDownLatch latch = r.getCountDownLatch("latch" + i);
+            latch.trySetCount(1);
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        Assert.fail();
+                    }
+                }
+            });
+        }
+
+        Thread.sleep(500);
+        for (int i = 0; i < 4; i++) {
+            r.getCountDownLatch("latch" + i).countDown();
+        }
+
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        r.shutdown();
+    }
+
     @Test
     public void testCountDown() throws InterruptedException {
         RCountDownLatch latch = redisson.getCountDownLatch("latch");
@@ -0,0 +1,92 @@
+package org.redisson;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RCountMinSketch;
+
+public class RedissonCountMinSketchTest extends BaseTest {
+
+    @Test
+    public void testAddCount() {
+        RCountMinSketch<String> sketch = redisson.getCountMinSketch("sketch");
+        Assert.assertTrue(sketch.tryInit(1000, 5));
+        Assert.assertFalse(sketch.tryInit(100, 3));
+
+        Assert.assertEquals(3, sketch.add("a", 3));
+        Assert.assertEquals(5, sketch.add("a", 2));
+        sketch.add("b", 10);
+        Assert.assertEquals(5, sketch.count("a"));
+        Assert.assertEquals(10, sketch.count("b"));
+        Assert.assertEquals(0, sketch.count("c"));
+    }
+
+    @Test
+    public void testAddAll() {
+        RCountMinSketch<String> sketch = redisson.getCountMinSketch("sketch");
+        sketch.tryInit(1000, 5);
+
+        Map<String, Long> counts = new HashMap<String, Long>();
+        counts.put("a", 1L);
+        counts.put("b", 7L);
+        sketch.addAll(counts);
+        Assert.assertEquals(1, sketch.count("a"));
+        Assert.assertEquals(7, sketch.count("b"));
+    }
+
+    @Test
+    public void testBuffered() throws InterruptedException {
+        RCountMinSketch<String> sketch = redisson.getCountMinSketch("sketch");
+        sketch.tryInit(1000, 5);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.addBuffered("a", 1);
+        }
+        sketch.addBuffered("b", 2);
+        sketch.flush();
+        Assert.assertEquals(100, sketch.count("a"));
+        Assert.assertEquals(2, sketch.count("b"));
+
+        sketch.addBuffered("b", 3);
+        Thread.sleep(RedissonCountMinSketchBuffer.FLUSH_DELAY * 2);
+        Assert.assertEquals(5, sketch.count("b"));
+    }
+
+    @Test
+    public void testBufferedSharedByInstances() {
+        RCountMinSketch<String> sketch = redisson.getCountMinSketch("sketch");
+        sketch.tryInit(1000, 5);
+
+        for (int i = 0; i < 10; i++) {
+            redisson.<String>getCountMinSketch("sketch").addBuffered("a", 1);
+        }
+        sketch.flush();
+        Assert.assertEquals(10, sketch.count("a"));
+    }
+
+    @Test
+    public void testBufferedFlushFailure() {
+        RCountMinSketch<String> sketch = redisson.getCountMinSketch("sketch");
+        sketch.addBuffered("a", 3);
+        try {
+            sketch.flush();
+            Assert.fail();
+        } catch (RuntimeException e) {
+            // sketch is not initialized
+        }
+
+        // increments are kept until successful flush
+        sketch.tryInit(1000, 5);
+        sketch.flush();
+        Assert.assertEquals(3, sketch.count("a"));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testNotInitialized() {
+        RCountMinSketch<String> sketch = redisson.getCountMinSketch("sketch");
+        sketch.add("a", 1);
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.redisson;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.core.RCounterBuffer;
+import org.redisson.core.RMap;
+
+public class RedissonCounterBufferTest extends BaseTest {
+
+    @Test
+    public void testFlush() {
+        RCounterBuffer buffer = redisson.getCounterBuffer();
+        for (int i = 0; i < 100; i++) {
+            buffer.add("counter1", 1);
+            buffer.add("counter2", 2);
+            buffer.addToMap("counters", "key1", 3);
+        }
+        buffer.flush();
+
+        Assert.assertEquals(100, redisson.getAtomicLong("counter1").get());
+        Assert.assertEquals(200, buffer.sum("counter2"));
+        RMap<String, String> map = redisson.getMap("counters", StringCodec.INSTANCE);
+        Assert.assertEquals("300", map.get("key1"));
+    }
+
+    @Test
+    public void testFlushSize() throws InterruptedException {
+        RCounterBuffer buffer = redisson.getCounterBuffer(1, 1, TimeUnit.HOURS);
+        buffer.add("counter1", 1);
+        Thread.sleep(100);
+        Assert.assertEquals(1, redisson.getAtomicLong("counter1").get());
+    }
+
+    @Test
+    public void testPartialFlushFailure() {
+        RCounterBuffer buffer = redisson.getCounterBuffer(10000, 1, TimeUnit.HOURS);
+        redisson.getList("counter2").add(1);
+        buffer.add("counter1", 5);
+        buffer.add("counter2", 3);
+        try {
+            buffer.flush();
+            Assert.fail();
+        } catch (RedisException e) {
+            // INCRBY of list fails
+        }
+
+        redisson.getList("counter2").delete();
+        buffer.flush();
+        // delta of succeeded command isn't sent again
+        Assert.assertEquals(5, redisson.getAtomicLong("counter1").get());
+        Assert.assertEquals(3, redisson.getAtomicLong("counter2").get());
+    }
+
+}
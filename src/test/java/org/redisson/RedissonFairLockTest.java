@@ -0,0 +1,106 @@
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RFairLock;
+
+public class RedissonFairLockTest extends BaseConcurrentTest {
+
+    @Test
+    public void testReentrancy() {
+        RFairLock lock = redisson.getFairLock("lock");
+        lock.lock();
+        lock.lock();
+        Assert.assertEquals(2, lock.getHoldCount());
+        lock.unlock();
+        Assert.assertTrue(lock.isLocked());
+        lock.unlock();
+        Assert.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    public void testTryLockWaitTimeout() throws InterruptedException {
+        RFairLock lock = redisson.getFairLock("lock");
+        lock.lock();
+
+        Thread t = new Thread() {
+            public void run() {
+                RFairLock lock = redisson.getFairLock("lock");
+                try {
+                    Assert.assertFalse(lock.tryLock(200, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException e) {
+                    Assert.fail();
+                }
+            };
+        };
+        t.start();
+        t.join();
+
+        // queue slot of failed waiter should not delay next owner
+        lock.unlock();
+        Thread t2 = new Thread() {
+            public void run() {
+                Assert.assertTrue(redisson.getFairLock("lock").tryLock());
+                redisson.getFairLock("lock").unlock();
+            };
+        };
+        t2.start();
+        t2.join();
+    }
+
+    @Test
+    public void testFifoOrder() throws InterruptedException {
+        RFairLock lock = redisson.getFairLock("lock");
+        lock.lock();
+
+        final List<Integer> order = new ArrayList<Integer>();
+        final CountDownLatch latch = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            final int index = i;
+            Thread t = new Thread() {
+                public void run() {
+                    RFairLock lock = redisson.getFairLock("lock");
+                    lock.lock();
+                    synchronized (order) {
+                        order.add(index);
+                    }
+                    lock.unlock();
+                    latch.countDown();
+                };
+            };
+            t.start();
+            // let the thread enqueue itself
+            Thread.sleep(100);
+        }
+
+        lock.unlock();
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    public void testConcurrency_MultiInstance() throws InterruptedException {
+        int iterations = 100;
+        final AtomicInteger lockedCounter = new AtomicInteger();
+
+        testMultiInstanceConcurrency(iterations, new RedissonRunnable() {
+            @Override
+            public void run(Redisson redisson) {
+                RFairLock lock = redisson.getFairLock("testConcurrency_MultiInstance");
+                lock.lock();
+                lockedCounter.incrementAndGet();
+                lock.unlock();
+            }
+        });
+
+        Assert.assertEquals(iterations, lockedCounter.get());
+    }
+
+}
@@ -812,4 +812,82 @@ public class RedissonListTest extends BaseTest {
 
         Assert.assertThat(list, Matchers.<Object>contains(1, 2L, "3", "e"));
     }
+
+    @Test
+    public void testPagedIterator() {
+        RList<Integer> list = redisson.getList("list");
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        int index = 0;
+        for (Iterator<Integer> iterator = list.iterator(7); iterator.hasNext();) {
+            Assert.assertEquals(index, (int) iterator.next());
+            index++;
+        }
+        Assert.assertEquals(1000, index);
+    }
+
+    @Test
+    public void testPagedIteratorModification() {
+        RList<Integer> list = redisson.getList("list");
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        ListIterator<Integer> iterator = list.listIterator(0, 3);
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            if (value % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.add(value * 10);
+            }
+        }
+        Assert.assertThat(list, Matchers.contains(1, 10, 3, 30, 5, 50, 7, 70, 9, 90));
+
+        Assert.assertEquals(90, (int) iterator.previous());
+        Assert.assertEquals(9, (int) iterator.previous());
+        Assert.assertEquals(70, (int) iterator.previous());
+    }
+
+    @Test
+    public void testIteratorRemoveAfterPrevious() {
+        RList<String> list = redisson.getList("list");
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        ListIterator<String> iterator = list.listIterator(3);
+        Assert.assertEquals("c", iterator.previous());
+        iterator.remove();
+        Assert.assertThat(list, Matchers.contains("a", "b"));
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals("b", iterator.previous());
+        Assert.assertEquals("b", iterator.next());
+    }
+
+    @Test
+    public void testIteratorRemoveDuplicates() {
+        RList<Integer> list = redisson.getList("list");
+        list.add(1);
+        list.add(2);
+        list.add(1);
+        list.add(2);
+
+        ListIterator<Integer> iterator = list.listIterator(0, 2);
+        iterator.next();
+        iterator.next();
+        Assert.assertEquals(1, (int) iterator.next());
+        iterator.remove();
+        Assert.assertThat(list, Matchers.contains(1, 2, 2));
+        Assert.assertEquals(2, (int) iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+
+        Assert.assertEquals(2, (int) iterator.previous());
+        Assert.assertEquals(2, (int) iterator.previous());
+        iterator.set(3);
+        Assert.assertThat(list, Matchers.contains(1, 3, 2));
+    }
+
 }
@@ -7,8 +7,12 @@ import java.util.concurrent.locks.Lock;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.core.RBucket;
 import org.redisson.core.RLock;
 
+import io.netty.util.concurrent.Future;
+
 public class RedissonLockTest extends BaseConcurrentTest {
 
     @Test
@@ -262,4 +266,96 @@ public class RedissonLockTest extends BaseConcurrentTest {
         Assert.assertEquals(iterations, lockedCounter.get());
     }
 
+    @Test
+    public void testLockAsync() throws InterruptedException {
+        RLock lock = redisson.getLock("lock");
+        lock.lockAsync(-1, null, "owner1").syncUninterruptibly();
+        Assert.assertTrue(lock.isLocked());
+
+        Future<Boolean> tryLockFuture = lock.tryLockAsync(100, -1, TimeUnit.MILLISECONDS, "owner2");
+        Assert.assertFalse(tryLockFuture.syncUninterruptibly().getNow());
+
+        Future<Void> lockFuture = lock.lockAsync(-1, null, "owner2");
+        Thread.sleep(100);
+        Assert.assertFalse(lockFuture.isDone());
+
+        lock.unlockAsync("owner1").syncUninterruptibly();
+        Assert.assertTrue(lockFuture.await(1, TimeUnit.SECONDS));
+        Assert.assertTrue(lockFuture.isSuccess());
+
+        Assert.assertFalse(lock.unlockAsync("owner1").awaitUninterruptibly().isSuccess());
+        lock.unlockAsync("owner2").syncUninterruptibly();
+        Assert.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    public void testLockAsyncCurrentThread() {
+        RLock lock = redisson.getLock("lock");
+        lock.lockAsync().syncUninterruptibly();
+        Assert.assertTrue(lock.isHeldByCurrentThread());
+        lock.unlock();
+        Assert.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    public void testMigrateLegacyFormat() {
+        RBucket<String> bucket = redisson.getBucket("lock", StringCodec.INSTANCE);
+        bucket.set("{\"o\":\"other-1\",\"c\":2}", 10, TimeUnit.SECONDS);
+
+        RLock lock = redisson.getLock("lock");
+        Assert.assertFalse(lock.tryLock());
+        Assert.assertTrue(lock.isLocked());
+        Assert.assertEquals(0, lock.getHoldCount());
+        Assert.assertTrue(lock.remainTimeToLive() > 0);
+
+        lock.forceUnlock();
+        Assert.assertTrue(lock.tryLock());
+        lock.unlock();
+        Assert.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    public void testLeaseRenewal() {
+        RLock lock = redisson.getLock("lock");
+        lock.lock();
+        Assert.assertEquals(1, redisson.getLockLeaseRenewer().getLocksAmount());
+        lock.unlock();
+        Assert.assertEquals(0, redisson.getLockLeaseRenewer().getLocksAmount());
+
+        lock.lock(10, TimeUnit.SECONDS);
+        Assert.assertEquals(0, redisson.getLockLeaseRenewer().getLocksAmount());
+        lock.unlock();
+    }
+
+    @Test
+    public void testLockAsyncOwnerToken() {
+        RLock lock = redisson.getLock("lock");
+        String threadToken = String.valueOf(Thread.currentThread().getId());
+        lock.lockAsync(-1, null, threadToken).syncUninterruptibly();
+
+        Assert.assertTrue(lock.isLocked());
+        Assert.assertFalse(lock.isHeldByCurrentThread());
+        Assert.assertFalse(lock.tryLock());
+
+        lock.unlockAsync(threadToken).syncUninterruptibly();
+        Assert.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    public void testLockAsyncWithoutExpiration() throws InterruptedException {
+        RLock lock = redisson.getLock("lock");
+        lock.lockAsync(-1, null, "owner1").syncUninterruptibly();
+        lock.clearExpire();
+
+        Future<Void> lockFuture = lock.lockAsync(1, TimeUnit.SECONDS, "owner2");
+        Thread.sleep(100);
+        Assert.assertFalse(lockFuture.isDone());
+
+        // lock released without unlock message
+        redisson.getBucket("lock").delete();
+        Assert.assertTrue(lockFuture.await(3, TimeUnit.SECONDS));
+        Assert.assertTrue(lockFuture.isSuccess());
+        lock.unlockAsync("owner2").syncUninterruptibly();
+    }
+
 }
@@ -0,0 +1,76 @@
+package org.redisson;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RLongAdder;
+
+public class RedissonLongAdderTest extends BaseTest {
+
+    @Test
+    public void testSum() {
+        RLongAdder adder = redisson.getLongAdder("counter");
+        adder.add(10);
+        adder.increment();
+        adder.decrement();
+        Assert.assertEquals(10, adder.sum());
+        Assert.assertEquals(10, redisson.getAtomicLong("counter").get());
+    }
+
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        final RLongAdder adder = redisson.getLongAdder("counter");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 100000; j++) {
+                        adder.increment();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        Assert.assertEquals(800000, adder.sum());
+    }
+
+    @Test
+    public void testFlushDelay() throws InterruptedException {
+        RLongAdder adder = redisson.getLongAdder("counter", 1000000, 100, TimeUnit.MILLISECONDS);
+        adder.add(5);
+        Assert.assertEquals(0, redisson.getAtomicLong("counter").get());
+        Thread.sleep(500);
+        Assert.assertEquals(5, redisson.getAtomicLong("counter").get());
+    }
+
+    @Test
+    public void testSumOfMissingCounter() {
+        RLongAdder adder = redisson.getLongAdder("counter");
+        Assert.assertEquals(0, adder.sum());
+        Assert.assertNull(redisson.getBucket("counter").get());
+    }
+
+    @Test
+    public void testSharedBuffer() {
+        redisson.getLongAdder("counter", 1000000, 1, TimeUnit.HOURS).add(3);
+        redisson.getLongAdder("counter", 1000000, 1, TimeUnit.HOURS).add(4);
+        Assert.assertEquals(0, redisson.getAtomicLong("counter").get());
+        redisson.getCounterBuffer(1000000, 1, TimeUnit.HOURS).flush();
+        Assert.assertEquals(7, redisson.getAtomicLong("counter").get());
+    }
+
+    @Test
+    public void testFlushOnShutdown() {
+        Redisson instance = createInstance();
+        instance.getLongAdder("counter", 1000000, 1, TimeUnit.HOURS).add(5);
+        instance.shutdown();
+        Assert.assertEquals(5, redisson.getAtomicLong("counter").get());
+    }
+
+}
@@ -14,6 +14,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
 import org.junit.Test;
+import org.redisson.client.codec.StringCodec;
 import org.redisson.codec.JsonJacksonCodec;
 import org.redisson.core.Predicate;
 import org.redisson.core.RMap;
@@ -605,4 +606,70 @@ public class RedissonMapTest extends BaseTest {
             this.testField = testField;
         }
     }
+
+    @Test
+    public void testEntryIteratorCount() {
+        RMap<Integer, Integer> map = redisson.getMap("simple");
+        for (int i = 0; i < 10000; i++) {
+            map.fastPut(i, i * 2);
+        }
+
+        Map<Integer, Integer> entries = new HashMap<Integer, Integer>();
+        for (Iterator<Map.Entry<Integer, Integer>> iterator = map.entryIterator(500); iterator.hasNext();) {
+            Map.Entry<Integer, Integer> entry = iterator.next();
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        Assert.assertEquals(10000, entries.size());
+        Assert.assertEquals(200, (int) entries.get(100));
+    }
+
+    @Test
+    public void testEntryIteratorPattern() {
+        RMap<String, String> map = redisson.getMap("simple", new StringCodec());
+        for (int i = 0; i < 1000; i++) {
+            map.fastPut("user:" + i, "" + i);
+            map.fastPut("order:" + i, "" + i);
+        }
+
+        Map<String, String> entries = new HashMap<String, String>();
+        for (Iterator<Map.Entry<String, String>> iterator = map.entryIterator("user:*", 100); iterator.hasNext();) {
+            Map.Entry<String, String> entry = iterator.next();
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        Assert.assertEquals(1000, entries.size());
+        Assert.assertEquals("10", entries.get("user:10"));
+    }
+
+    @Test
+    public void testEntryIteratorCondition() {
+        RMap<String, String> map = redisson.getMap("simple", new StringCodec());
+        for (int i = 0; i < 1000; i++) {
+            map.fastPut("user:" + i, "" + i);
+            map.fastPut("order:" + i, "" + i);
+        }
+
+        Map<String, String> entries = new HashMap<String, String>();
+        for (Iterator<Map.Entry<String, String>> iterator = map.entryIterator("order:*", "tonumber(value) >= 990", 0); iterator.hasNext();) {
+            Map.Entry<String, String> entry = iterator.next();
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        Assert.assertEquals(10, entries.size());
+        Assert.assertEquals("995", entries.get("order:995"));
+    }
+
+    @Test
+    public void testEntryIteratorConditionArgs() {
+        RMap<String, String> map = redisson.getMap("simple", new StringCodec());
+        for (int i = 0; i < 1000; i++) {
+            map.fastPut("user:" + i, "" + i);
+        }
+
+        Map<String, String> entries = new HashMap<String, String>();
+        for (Iterator<Map.Entry<String, String>> iterator = map.entryIterator(null, "tonumber(value) >= tonumber(args[1]) and key ~= args[2]", 0, 995, "user:999"); iterator.hasNext();) {
+            Map.Entry<String, String> entry = iterator.next();
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        Assert.assertEquals(4, entries.size());
+        Assert.assertFalse(entries.containsKey("user:999"));
+    }
 }
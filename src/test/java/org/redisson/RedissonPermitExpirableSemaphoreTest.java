@@ -0,0 +1,48 @@
+package org.redisson;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RPermitExpirableSemaphore;
+
+public class RedissonPermitExpirableSemaphoreTest extends BaseTest {
+
+    @Test
+    public void testAcquireRelease() throws InterruptedException {
+        RPermitExpirableSemaphore s = redisson.getPermitExpirableSemaphore("test");
+        s.trySetPermits(1);
+        String permitId = s.acquire();
+        Assert.assertNotNull(permitId);
+        Assert.assertNull(s.tryAcquire());
+        s.release(permitId);
+        Assert.assertFalse(s.tryRelease(permitId));
+        Assert.assertEquals(1, s.availablePermits());
+    }
+
+    @Test
+    public void testExpiredPermitReclaimed() throws InterruptedException {
+        RPermitExpirableSemaphore s = redisson.getPermitExpirableSemaphore("test");
+        s.trySetPermits(1);
+        String permitId = s.acquire(500, TimeUnit.MILLISECONDS);
+
+        long start = System.currentTimeMillis();
+        String newPermitId = s.tryAcquire(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(newPermitId);
+        Assert.assertTrue(System.currentTimeMillis() - start < 1500);
+        Assert.assertFalse(s.tryRelease(permitId));
+        s.release(newPermitId);
+    }
+
+    @Test
+    public void testUpdateLeaseTime() throws InterruptedException {
+        RPermitExpirableSemaphore s = redisson.getPermitExpirableSemaphore("test");
+        s.trySetPermits(1);
+        String permitId = s.acquire(300, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(s.updateLeaseTime(permitId, 2, TimeUnit.SECONDS));
+        Thread.sleep(500);
+        Assert.assertNull(s.tryAcquire());
+        Assert.assertTrue(s.tryRelease(permitId));
+    }
+
+}
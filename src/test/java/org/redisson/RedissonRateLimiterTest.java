@@ -0,0 +1,82 @@
+package org.redisson;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RRateLimiter;
+
+import io.netty.util.concurrent.Future;
+
+public class RedissonRateLimiterTest extends BaseTest {
+
+    @Test
+    public void testTryAcquire() {
+        RRateLimiter limiter = redisson.getRateLimiter("test");
+        Assert.assertTrue(limiter.trySetRate(5, 1, TimeUnit.SECONDS));
+        Assert.assertFalse(limiter.trySetRate(10, 1, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(limiter.tryAcquire());
+        }
+        Assert.assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testRefill() throws InterruptedException {
+        RRateLimiter limiter = redisson.getRateLimiter("test");
+        limiter.trySetRate(10, 1, TimeUnit.SECONDS);
+        Assert.assertTrue(limiter.tryAcquire(10));
+        Assert.assertFalse(limiter.tryAcquire(5));
+
+        long start = System.currentTimeMillis();
+        limiter.acquire(5);
+        long elapsed = System.currentTimeMillis() - start;
+        Assert.assertTrue(elapsed >= 400 && elapsed < 1000);
+        Assert.assertFalse(limiter.tryAcquire(5, 100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testPrefetch() {
+        RRateLimiter limiter = redisson.getRateLimiter("test", 5);
+        limiter.trySetRate(10, 10, TimeUnit.SECONDS);
+        Assert.assertTrue(limiter.tryAcquire());
+
+        // 4 permits are prefetched locally
+        RRateLimiter other = redisson.getRateLimiter("test");
+        Assert.assertTrue(other.tryAcquire(5));
+        Assert.assertFalse(other.tryAcquire());
+
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(limiter.tryAcquire());
+        }
+        Assert.assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testDeleteDropsPrefetched() {
+        RRateLimiter limiter = redisson.getRateLimiter("test", 5);
+        limiter.trySetRate(10, 10, TimeUnit.SECONDS);
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertTrue(limiter.delete());
+
+        limiter.trySetRate(1, 10, TimeUnit.SECONDS);
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testInvalidArgumentsAsync() {
+        RRateLimiter limiter = redisson.getRateLimiter("test");
+        Future<Boolean> rateFuture = limiter.trySetRateAsync(0, 1, TimeUnit.SECONDS);
+        Assert.assertTrue(rateFuture.awaitUninterruptibly().cause() instanceof IllegalArgumentException);
+        Future<Boolean> acquireFuture = limiter.tryAcquireAsync(0);
+        Assert.assertTrue(acquireFuture.awaitUninterruptibly().cause() instanceof IllegalArgumentException);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPermits() {
+        redisson.getRateLimiter("test").tryAcquire(-1);
+    }
+
+}
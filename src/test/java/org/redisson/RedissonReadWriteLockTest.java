@@ -0,0 +1,123 @@
+package org.redisson;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RLock;
+import org.redisson.core.RReadWriteLock;
+
+public class RedissonReadWriteLockTest extends BaseConcurrentTest {
+
+    @Test
+    public void testSharedReadLock() throws InterruptedException {
+        final RReadWriteLock rwlock = redisson.getReadWriteLock("lock");
+        rwlock.readLock().lock();
+
+        Thread t = new Thread() {
+            public void run() {
+                RLock lock = rwlock.readLock();
+                Assert.assertTrue(lock.tryLock());
+                Assert.assertFalse(rwlock.writeLock().tryLock());
+                lock.unlock();
+            };
+        };
+        t.start();
+        t.join();
+
+        rwlock.readLock().unlock();
+        Assert.assertFalse(rwlock.readLock().isLocked());
+    }
+
+    @Test
+    public void testWriteLockExclusive() throws InterruptedException {
+        final RReadWriteLock rwlock = redisson.getReadWriteLock("lock");
+        rwlock.writeLock().lock();
+        // downgrade
+        rwlock.readLock().lock();
+
+        Thread t = new Thread() {
+            public void run() {
+                Assert.assertFalse(rwlock.readLock().tryLock());
+                Assert.assertFalse(rwlock.writeLock().tryLock());
+            };
+        };
+        t.start();
+        t.join();
+
+        rwlock.writeLock().unlock();
+        Assert.assertTrue(rwlock.readLock().isHeldByCurrentThread());
+        rwlock.readLock().unlock();
+        Assert.assertFalse(rwlock.writeLock().isLocked());
+    }
+
+    @Test
+    public void testReentrancy() {
+        RReadWriteLock rwlock = redisson.getReadWriteLock("lock");
+        rwlock.writeLock().lock();
+        rwlock.writeLock().lock();
+        Assert.assertEquals(2, rwlock.writeLock().getHoldCount());
+        rwlock.writeLock().unlock();
+        rwlock.writeLock().unlock();
+
+        rwlock.readLock().lock();
+        rwlock.readLock().lock();
+        Assert.assertEquals(2, rwlock.readLock().getHoldCount());
+        rwlock.readLock().unlock();
+        rwlock.readLock().unlock();
+        Assert.assertFalse(rwlock.readLock().isLocked());
+    }
+
+    @Test
+    public void testWaitingWriterBlocksReaders() throws InterruptedException {
+        final RReadWriteLock rwlock = redisson.getReadWriteLock("lock");
+        rwlock.readLock().lock();
+
+        final CountDownLatch writerLocked = new CountDownLatch(1);
+        Thread writer = new Thread() {
+            public void run() {
+                rwlock.writeLock().lock();
+                writerLocked.countDown();
+                rwlock.writeLock().unlock();
+            };
+        };
+        writer.start();
+        Thread.sleep(200);
+
+        Thread reader = new Thread() {
+            public void run() {
+                Assert.assertFalse(rwlock.readLock().tryLock());
+            };
+        };
+        reader.start();
+        reader.join();
+
+        rwlock.readLock().unlock();
+        Assert.assertTrue(writerLocked.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConcurrency_MultiInstance() throws InterruptedException {
+        int iterations = 100;
+        final AtomicInteger lockedCounter = new AtomicInteger();
+
+        testMultiInstanceConcurrency(iterations, new RedissonRunnable() {
+            @Override
+            public void run(Redisson redisson) {
+                RReadWriteLock rwlock = redisson.getFairReadWriteLock("testConcurrency_MultiInstance");
+                RLock lock = rwlock.writeLock();
+                if (lockedCounter.get() % 2 == 0) {
+                    lock = rwlock.readLock();
+                }
+                lock.lock();
+                lockedCounter.incrementAndGet();
+                lock.unlock();
+            }
+        });
+
+        Assert.assertEquals(iterations, lockedCounter.get());
+    }
+
+}
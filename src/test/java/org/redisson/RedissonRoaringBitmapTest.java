@@ -0,0 +1,113 @@
+package org.redisson;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RRoaringBitmap;
+
+public class RedissonRoaringBitmapTest extends BaseTest {
+
+    @Test
+    public void testAddRemove() {
+        RRoaringBitmap bitmap = redisson.getRoaringBitmap("testbitmap");
+        Assert.assertTrue(bitmap.add(5));
+        Assert.assertFalse(bitmap.add(5));
+        Assert.assertTrue(bitmap.add(100000));
+        Assert.assertTrue(bitmap.add(-1));
+        Assert.assertTrue(bitmap.contains(5));
+        Assert.assertTrue(bitmap.contains(100000));
+        Assert.assertTrue(bitmap.contains(-1));
+        Assert.assertFalse(bitmap.contains(6));
+        Assert.assertEquals(3, bitmap.cardinality());
+
+        Assert.assertTrue(bitmap.remove(5));
+        Assert.assertFalse(bitmap.remove(5));
+        Assert.assertFalse(bitmap.contains(5));
+        Assert.assertEquals(2, bitmap.cardinality());
+    }
+
+    @Test
+    public void testDenseContainer() {
+        RRoaringBitmap bitmap = redisson.getRoaringBitmap("testbitmap");
+        for (int i = 0; i < 5000; i++) {
+            bitmap.add(i * 2);
+        }
+        Assert.assertEquals(5000, bitmap.cardinality());
+        Assert.assertTrue(bitmap.contains(4998));
+        Assert.assertFalse(bitmap.contains(4999));
+        Assert.assertEquals(2500, bitmap.rank(4998));
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(bitmap.remove(i * 2));
+        }
+        Assert.assertEquals(4000, bitmap.cardinality());
+        Assert.assertFalse(bitmap.contains(0));
+        Assert.assertTrue(bitmap.contains(2000));
+        Assert.assertEquals(1500, bitmap.rank(4998));
+    }
+
+    @Test
+    public void testRank() {
+        RRoaringBitmap bitmap = redisson.getRoaringBitmap("testbitmap");
+        bitmap.add(1);
+        bitmap.add(3);
+        bitmap.add(70000);
+        bitmap.add(70005);
+        Assert.assertEquals(0, bitmap.rank(0));
+        Assert.assertEquals(2, bitmap.rank(3));
+        Assert.assertEquals(2, bitmap.rank(69999));
+        Assert.assertEquals(3, bitmap.rank(70000));
+        Assert.assertEquals(4, bitmap.rank(80000));
+    }
+
+    @Test
+    public void testOperations() {
+        RRoaringBitmap bitmap1 = redisson.getRoaringBitmap("testbitmap1");
+        bitmap1.add(1);
+        bitmap1.add(2);
+        bitmap1.add(70000);
+        RRoaringBitmap bitmap2 = redisson.getRoaringBitmap("testbitmap2");
+        bitmap2.add(2);
+        bitmap2.add(3);
+        bitmap2.add(140000);
+
+        bitmap1.or("testbitmap2");
+        Assert.assertEquals(5, bitmap1.cardinality());
+
+        bitmap1.andNot("testbitmap2");
+        Assert.assertEquals(2, bitmap1.cardinality());
+        Assert.assertTrue(bitmap1.contains(1));
+        Assert.assertTrue(bitmap1.contains(70000));
+
+        bitmap1.xor("testbitmap2");
+        Assert.assertEquals(5, bitmap1.cardinality());
+
+        bitmap1.and("testbitmap2");
+        Assert.assertEquals(3, bitmap1.cardinality());
+        Assert.assertFalse(bitmap1.contains(1));
+        Assert.assertTrue(bitmap1.contains(140000));
+    }
+
+    @Test
+    public void testOperationsAfterChange() {
+        RRoaringBitmap bitmap1 = redisson.getRoaringBitmap("testbitmap1");
+        bitmap1.add(1);
+        RRoaringBitmap bitmap2 = redisson.getRoaringBitmap("testbitmap2");
+        bitmap2.add(2);
+
+        bitmap1.or("testbitmap2");
+        Assert.assertEquals(2, bitmap1.cardinality());
+
+        // cached containers of both bitmaps become stale
+        redisson.getRoaringBitmap("testbitmap1").add(3);
+        bitmap2.add(70000);
+        bitmap1.or("testbitmap2");
+        Assert.assertEquals(4, bitmap1.cardinality());
+
+        bitmap2.delete();
+        bitmap2.add(5);
+        bitmap1.and("testbitmap2");
+        Assert.assertEquals(0, bitmap1.cardinality());
+        Assert.assertFalse(bitmap1.contains(3));
+    }
+
+}
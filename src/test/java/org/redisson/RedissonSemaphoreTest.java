@@ -0,0 +1,114 @@
+package org.redisson;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RSemaphore;
+
+import io.netty.util.concurrent.Future;
+
+public class RedissonSemaphoreTest extends BaseConcurrentTest {
+
+    @Test
+    public void testTrySetPermits() {
+        RSemaphore s = redisson.getSemaphore("test");
+        Assert.assertTrue(s.trySetPermits(10));
+        Assert.assertEquals(10, s.availablePermits());
+        Assert.assertFalse(s.trySetPermits(15));
+        Assert.assertEquals(10, s.availablePermits());
+    }
+
+    @Test
+    public void testAcquireRelease() throws InterruptedException {
+        RSemaphore s = redisson.getSemaphore("test");
+        s.trySetPermits(2);
+        s.acquire(2);
+        Assert.assertFalse(s.tryAcquire());
+        Assert.assertEquals(0, s.availablePermits());
+        s.release();
+        Assert.assertTrue(s.tryAcquire());
+        s.release(2);
+        Assert.assertEquals(2, s.drainPermits());
+        Assert.assertEquals(0, s.availablePermits());
+    }
+
+    @Test
+    public void testBlockingAcquire() throws InterruptedException {
+        RSemaphore s = redisson.getSemaphore("test");
+        s.trySetPermits(1);
+        s.acquire();
+
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                RSemaphore s = redisson.getSemaphore("test");
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+                s.release();
+            }
+        };
+        t.start();
+
+        long start = System.currentTimeMillis();
+        Assert.assertTrue(s.tryAcquire(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.currentTimeMillis() - start < 1500);
+    }
+
+    @Test
+    public void testAcquireAsync() throws InterruptedException {
+        RSemaphore s = redisson.getSemaphore("test");
+        s.trySetPermits(0);
+
+        Future<Void> future = s.acquireAsync();
+        Thread.sleep(200);
+        Assert.assertFalse(future.isDone());
+        s.release();
+        Assert.assertTrue(future.await(1, TimeUnit.SECONDS));
+        Assert.assertFalse(s.tryAcquireAsync(1, 100, TimeUnit.MILLISECONDS).syncUninterruptibly().getNow());
+    }
+
+    @Test
+    public void testNegativePermitsAsync() {
+        RSemaphore s = redisson.getSemaphore("test");
+        Future<Boolean> acquireFuture = s.tryAcquireAsync(-1);
+        Assert.assertTrue(acquireFuture.awaitUninterruptibly().cause() instanceof IllegalArgumentException);
+        Future<Void> releaseFuture = s.releaseAsync(-1);
+        Assert.assertTrue(releaseFuture.awaitUninterruptibly().cause() instanceof IllegalArgumentException);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativePermits() {
+        redisson.getSemaphore("test").tryAcquire(-1);
+    }
+
+    @Test
+    public void testConcurrency_MultiInstance() throws InterruptedException {
+        int iterations = 100;
+        final AtomicInteger lockedCounter = new AtomicInteger();
+
+        redisson.getSemaphore("test").trySetPermits(1);
+        testMultiInstanceConcurrency(iterations, new RedissonRunnable() {
+            @Override
+            public void run(Redisson redisson) {
+                RSemaphore s = redisson.getSemaphore("test");
+                try {
+                    s.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int value = lockedCounter.get();
+                lockedCounter.set(value + 1);
+                s.release();
+            }
+        });
+
+        Assert.assertEquals(iterations, lockedCounter.get());
+    }
+
+}
@@ -288,4 +288,18 @@ public class RedissonSetTest extends BaseTest {
         Assert.assertFalse(set.retainAll(Arrays.asList(1, 2))); // nothing changed
         Assert.assertThat(set, Matchers.containsInAnyOrder(1, 2));
     }
+
+    @Test
+    public void testIteratorCount() {
+        RSet<Integer> set = redisson.getSet("set");
+        for (int i = 0; i < 10000; i++) {
+            set.add(i);
+        }
+
+        Set<Integer> values = new HashSet<Integer>();
+        for (Iterator<Integer> iterator = set.iterator(500); iterator.hasNext();) {
+            values.add(iterator.next());
+        }
+        Assert.assertEquals(10000, values.size());
+    }
 }
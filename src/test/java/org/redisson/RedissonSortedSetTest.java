@@ -2,10 +2,12 @@ package org.redisson;
 
 import io.netty.util.concurrent.Future;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -15,6 +17,8 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
 import org.junit.Test;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
 import org.redisson.core.RSortedSet;
 
 public class RedissonSortedSetTest extends BaseTest {
@@ -372,5 +376,61 @@ public class RedissonSortedSetTest extends BaseTest {
         Assert.assertEquals(5, set.size());
     }
 
+    @Test
+    public void testLongCodecOrder() {
+        RSortedSet<Long> set = redisson.getSortedSet("set", LongCodec.INSTANCE);
+        Assert.assertTrue(set.add(10L));
+        Assert.assertTrue(set.add(-3L));
+        Assert.assertTrue(set.add(2L));
+        Assert.assertTrue(set.add(-20L));
+        Assert.assertTrue(set.add(Long.MAX_VALUE));
+        Assert.assertFalse(set.add(2L));
+
+        MatcherAssert.assertThat(set, Matchers.contains(-20L, -3L, 2L, 10L, Long.MAX_VALUE));
+        Assert.assertTrue(set.contains(-3L));
+        Assert.assertFalse(set.contains(3L));
+        Assert.assertTrue(set.remove(-3L));
+        Assert.assertFalse(set.remove(-3L));
+        MatcherAssert.assertThat(set, Matchers.contains(-20L, 2L, 10L, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testStringCodecOrder() {
+        RSortedSet<String> set = redisson.getSortedSet("set", StringCodec.INSTANCE);
+        set.add("b");
+        set.add("ab");
+        set.add("a");
+        set.add("c");
+
+        MatcherAssert.assertThat(set, Matchers.contains("a", "ab", "b", "c"));
+        Assert.assertTrue(set.remove("ab"));
+        MatcherAssert.assertThat(set, Matchers.contains("a", "b", "c"));
+    }
+
+    @Test
+    public void testAddLarge() {
+        RSortedSet<Integer> set = redisson.getSortedSet("set");
+        List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values);
+        for (Integer value : values) {
+            Assert.assertTrue(set.add(value));
+        }
+
+        Assert.assertEquals(1000, set.size());
+        Assert.assertTrue(set.contains(500));
+        Assert.assertTrue(set.remove(500));
+        Assert.assertFalse(set.contains(500));
+
+        Integer prev = null;
+        for (Integer value : set) {
+            if (prev != null) {
+                Assert.assertTrue(prev < value);
+            }
+            prev = value;
+        }
+    }
 
 }
@@ -1,7 +1,13 @@
 package org.redisson;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -10,6 +16,9 @@ import org.redisson.codec.SerializationCodec;
 import org.redisson.core.ClusterNode;
 import org.redisson.core.Node;
 import org.redisson.core.NodesGroup;
+import org.redisson.core.RAtomicLong;
+
+import io.netty.util.concurrent.Future;
 
 public class RedissonTest extends BaseTest {
 
@@ -26,6 +35,43 @@ public class RedissonTest extends BaseTest {
         r.getMap("test").put("1", new Dummy());
     }
 
+    @Test
+    public void testWarmUp() {
+        Config config = createConfig();
+        config.useSingleServer().setConnectionMinimumIdleSize(10).setConnectionWarmUpConcurrency(2);
+        Redisson r = Redisson.create(config);
+        Assert.assertTrue(r.getWarmUpFuture().awaitUninterruptibly(5000));
+
+        r.getBucket("test").set("1");
+        Assert.assertEquals("1", r.getBucket("test").get());
+        r.shutdown();
+    }
+
+    @Test
+    public void testMultiplexedConnections() throws InterruptedException, ExecutionException {
+        Config config = createConfig();
+        config.useSingleServer().setConnectionPoolSize(4).setMultiplexedConnections(2);
+        Redisson r = Redisson.create(config);
+
+        RAtomicLong al = r.getAtomicLong("counter");
+        List<Future<Long>> futures = new ArrayList<Future<Long>>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(al.incrementAndGetAsync());
+        }
+
+        // blocking command uses dedicated connection
+        Assert.assertNull(r.getBlockingQueue("queue").poll(1, TimeUnit.SECONDS));
+
+        Set<Long> values = new HashSet<Long>();
+        for (Future<Long> future : futures) {
+            values.add(future.get());
+        }
+        Assert.assertEquals(1000, values.size());
+        Assert.assertEquals(1000, al.get());
+
+        al.delete();
+        r.shutdown();
+    }
 
 //    @Test
     public void test() {
@@ -0,0 +1,29 @@
+package org.redisson;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.core.RTopK;
+
+public class RedissonTopKTest extends BaseTest {
+
+    @Test
+    public void testTop() {
+        RTopK<String> topK = redisson.getTopK("topk");
+        Assert.assertTrue(topK.tryInit(2, 1000, 5));
+
+        topK.add("a", 1);
+        topK.add("b", 5);
+        topK.add("c", 3);
+        Assert.assertEquals(Arrays.asList("b", "c"), topK.getTop());
+
+        Assert.assertEquals(4, topK.add("a", 3));
+        Assert.assertEquals(Arrays.asList("b", "a"), topK.getTop());
+        Assert.assertEquals(5, topK.getTopEntries().iterator().next().getScore().intValue());
+
+        Assert.assertTrue(topK.delete());
+        Assert.assertFalse(topK.delete());
+    }
+
+}
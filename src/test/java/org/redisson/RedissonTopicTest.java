@@ -1,8 +1,14 @@
 package org.redisson;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -10,6 +16,8 @@ import org.redisson.core.BaseStatusListener;
 import org.redisson.core.MessageListener;
 import org.redisson.core.RTopic;
 
+import io.netty.util.concurrent.Future;
+
 public class RedissonTopicTest {
 
     public static class Message implements Serializable {
@@ -266,5 +274,151 @@ public class RedissonTopicTest {
         redisson2.shutdown();
     }
 
+    @Test
+    public void testAddListenerAsync() throws InterruptedException {
+        Redisson redisson = BaseTest.createInstance();
+        final CountDownLatch messageRecieved = new CountDownLatch(100);
+        List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 100; i++) {
+            RTopic<Message> topic = redisson.getTopic("topic" + i);
+            futures.add(topic.addListenerAsync(new MessageListener<Message>() {
+                @Override
+                public void onMessage(String channel, Message msg) {
+                    messageRecieved.countDown();
+                }
+            }));
+        }
+        for (Future<Integer> future : futures) {
+            future.syncUninterruptibly();
+        }
+
+        for (int i = 0; i < 100; i++) {
+            redisson.getTopic("topic" + i).publish(new Message("123"));
+        }
+
+        Assert.assertTrue(messageRecieved.await(5, TimeUnit.SECONDS));
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testListenerExecutorOrder() throws InterruptedException {
+        Config config = BaseTest.createConfig();
+        config.setListenerThreads(4);
+        Redisson redisson = Redisson.create(config);
+
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<Integer>());
+        final List<String> threadNames = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch messageRecieved = new CountDownLatch(1000);
+        RTopic<Integer> topic = redisson.getTopic("topic");
+        topic.addListener(new MessageListener<Integer>() {
+            @Override
+            public void onMessage(String channel, Integer msg) {
+                threadNames.add(Thread.currentThread().getName());
+                received.add(msg);
+                messageRecieved.countDown();
+            }
+        });
+
+        for (int i = 0; i < 1000; i++) {
+            topic.publish(i);
+        }
+
+        Assert.assertTrue(messageRecieved.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(i, (int) received.get(i));
+            Assert.assertNotEquals("connection thread is blocked", "nioEventLoopGroup", threadNames.get(i).split("-")[0]);
+        }
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testResubscribeToFreeSlots() throws InterruptedException {
+        Config config = BaseTest.createConfig();
+        config.useSingleServer().setSubscriptionsPerConnection(10);
+        Redisson redisson = Redisson.create(config);
+
+        final ConcurrentMap<String, AtomicInteger> received = new ConcurrentHashMap<String, AtomicInteger>();
+        MessageListener<Integer> listener = new MessageListener<Integer>() {
+            @Override
+            public void onMessage(String channel, Integer msg) {
+                received.putIfAbsent(channel, new AtomicInteger());
+                received.get(channel).incrementAndGet();
+            }
+        };
+
+        List<RTopic<Integer>> topics = new ArrayList<RTopic<Integer>>();
+        List<Integer> listenerIds = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            RTopic<Integer> topic = redisson.getTopic("topic" + i);
+            listenerIds.add(topic.addListener(listener));
+            topics.add(topic);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            if (i % 10 != 0) {
+                topics.get(i).removeListener(listenerIds.get(i));
+            }
+        }
+
+        // freed slots are used by new subscriptions
+        for (int i = 100; i < 190; i++) {
+            RTopic<Integer> topic = redisson.getTopic("topic" + i);
+            topic.addListener(listener);
+            topics.add(topic);
+        }
+
+        for (int i = 0; i < topics.size(); i++) {
+            topics.get(i).publish(i);
+        }
+        Thread.sleep(1000);
+
+        Assert.assertEquals(100, received.size());
+        for (int i = 0; i < topics.size(); i++) {
+            AtomicInteger counter = received.get("topic" + i);
+            if (i < 100 && i % 10 != 0) {
+                Assert.assertNull(counter);
+            } else {
+                Assert.assertEquals(1, counter.get());
+            }
+        }
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testSubscriptionsAboveConnectionPoolSize() throws InterruptedException {
+        Config config = BaseTest.createConfig();
+        config.useSingleServer()
+                .setSubscriptionsPerConnection(2)
+                .setSubscriptionConnectionPoolSize(2);
+        Redisson redisson = Redisson.create(config);
+
+        final ConcurrentMap<String, AtomicInteger> received = new ConcurrentHashMap<String, AtomicInteger>();
+        MessageListener<Integer> listener = new MessageListener<Integer>() {
+            @Override
+            public void onMessage(String channel, Integer msg) {
+                received.putIfAbsent(channel, new AtomicInteger());
+                received.get(channel).incrementAndGet();
+            }
+        };
+
+        // connection limit is exceeded instead of waiting for a free connection
+        List<RTopic<Integer>> topics = new ArrayList<RTopic<Integer>>();
+        for (int i = 0; i < 10; i++) {
+            RTopic<Integer> topic = redisson.getTopic("topic" + i);
+            topic.addListener(listener);
+            topics.add(topic);
+        }
+
+        for (int i = 0; i < topics.size(); i++) {
+            topics.get(i).publish(i);
+        }
+        Thread.sleep(1000);
+
+        Assert.assertEquals(10, received.size());
+        for (AtomicInteger counter : received.values()) {
+            Assert.assertEquals(1, counter.get());
+        }
+        redisson.shutdown();
+    }
 
 }